@@ -0,0 +1,17 @@
+package com.fairytale.fairytale.admission;
+
+import lombok.Getter;
+
+/**
+ * 🚦 생성 요청 거절 (429 + Retry-After로 응답)
+ */
+@Getter
+public class AdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,277 @@
+package com.fairytale.fairytale.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 🚦 생성 요청 입장 제어 (FastAPI 처리량 보호)
+ * - 작업 종류별 전역 토큰 버킷(분당 요청 수) + 동시 실행 세마포어
+ * - 사용자별 토큰 버킷 + 동시 진행 요청 수 제한
+ * 한도를 넘으면 AdmissionRejectedException (Retry-After 초 포함)
+ */
+@Slf4j
+@Service
+public class AdmissionService {
+
+    public enum Operation { STORY, IMAGE, VOICE, BW_CONVERT, VIDEO }
+
+    // 작업 종류별 기본값: 동시 실행 수, 분당 요청 수
+    private static final Map<Operation, int[]> DEFAULTS = Map.of(
+            Operation.STORY, new int[]{4, 60},
+            Operation.IMAGE, new int[]{2, 30},
+            Operation.VOICE, new int[]{4, 60},
+            Operation.BW_CONVERT, new int[]{4, 120},
+            Operation.VIDEO, new int[]{2, 20});
+
+    private final Map<Operation, Gate> gates = new EnumMap<>(Operation.class);
+    private final Map<String, TokenBucket> userBuckets;
+    private final Map<String, AtomicInteger> userInFlight = new ConcurrentHashMap<>();
+
+    @Value("${GENERATION_USER_MAX_IN_FLIGHT:2}")
+    private int userMaxInFlight;
+
+    @Value("${GENERATION_USER_RATE_PER_MINUTE:20}")
+    private int userRatePerMinute;
+
+    @Value("${GENERATION_USER_BURST:5}")
+    private int userBurst;
+
+    @Value("${GENERATION_ADMISSION_WAIT_MS:2000}")
+    private long admissionWaitMs;
+
+    @Value("${GENERATION_BUSY_RETRY_AFTER_SECONDS:5}")
+    private long busyRetryAfterSeconds;
+
+    private final AtomicLong userRateRejected = new AtomicLong();
+    private final AtomicLong userInFlightRejected = new AtomicLong();
+
+    /**
+     * 🎫 입장 허가 - 요청이 끝나면 반드시 close (여러 번 호출해도 안전)
+     */
+    public static final class Permit implements AutoCloseable {
+        private final Runnable release;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Permit(Runnable release) {
+            this.release = release;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+
+    public AdmissionService(Environment environment,
+                            @Value("${GENERATION_USER_BUCKET_MAX_ENTRIES:10000}") int maxUserBuckets) {
+        for (Operation op : Operation.values()) {
+            int[] defaults = DEFAULTS.get(op);
+            int maxConcurrent = environment.getProperty("GENERATION_" + op + "_MAX_CONCURRENT", Integer.class, defaults[0]);
+            int ratePerMinute = environment.getProperty("GENERATION_" + op + "_RATE_PER_MINUTE", Integer.class, defaults[1]);
+            gates.put(op, new Gate(maxConcurrent, new TokenBucket(ratePerMinute, Math.max(1, maxConcurrent * 2))));
+        }
+        this.userBuckets = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxUserBuckets;
+            }
+        });
+    }
+
+    /**
+     * 🚪 동기 요청 실행 자리 확보 (사용자 동시 요청 → 전역 동시 실행 순으로 확인)
+     * 전역 자리가 없으면 GENERATION_ADMISSION_WAIT_MS까지 기다린다.
+     * 요청 빈도는 인터셉터의 checkRate에서 따로 확인하고, 여기서는 실제로 FastAPI를 호출하는
+     * 쪽(중복 제거의 대표 실행)만 자리를 잡는다.
+     */
+    public Permit admit(Operation op, String username) {
+        Gate gate = gates.get(op);
+
+        Runnable releaseUser = enterUser(op, username);
+        boolean acquired = gate.semaphore.tryAcquire();
+        if (!acquired) {
+            gate.queued.incrementAndGet();
+            try {
+                acquired = gate.semaphore.tryAcquire(admissionWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!acquired) {
+            releaseUser.run();
+            gate.busyRejected.incrementAndGet();
+            log.warn("⚠️ 생성 요청 거절 (동시 실행 한도) - {}, username: {}", op, username);
+            throw new AdmissionRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", busyRetryAfterSeconds);
+        }
+
+        gate.admitted.incrementAndGet();
+        return new Permit(() -> {
+            gate.semaphore.release();
+            releaseUser.run();
+        });
+    }
+
+    /**
+     * ⏱️ 비율 제한만 확인 (실행 자리는 admit/runAdmitted에서 따로 잡음)
+     * 전체 빈도에서 거절되면 먼저 쓴 사용자 토큰을 돌려준다.
+     */
+    public void checkRate(Operation op, String username) {
+        Gate gate = gates.get(op);
+
+        TokenBucket userBucket = userBucket(username);
+        long userWaitMillis = userBucket.tryConsume();
+        if (userWaitMillis > 0) {
+            userRateRejected.incrementAndGet();
+            log.warn("⚠️ 생성 요청 거절 (사용자 요청 빈도) - {}, username: {}", op, username);
+            throw new AdmissionRejectedException("요청이 너무 잦습니다. 잠시 후 다시 시도해주세요.", toSeconds(userWaitMillis));
+        }
+
+        long opWaitMillis = gate.bucket.tryConsume();
+        if (opWaitMillis > 0) {
+            userBucket.refund();
+            gate.rateRejected.incrementAndGet();
+            log.warn("⚠️ 생성 요청 거절 (전체 요청 빈도) - {}", op);
+            throw new AdmissionRejectedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", toSeconds(opWaitMillis));
+        }
+    }
+
+    /**
+     * 🧵 백그라운드 작업 실행 - 전역 자리가 날 때까지 기다린 뒤 실행 (거절하지 않음)
+     */
+    public <T> T runAdmitted(Operation op, Supplier<T> task) {
+        Gate gate = gates.get(op);
+        if (!gate.semaphore.tryAcquire()) {
+            gate.queued.incrementAndGet();
+            try {
+                gate.semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("생성 작업 대기 중 중단됨: " + op, e);
+            }
+        }
+        gate.admitted.incrementAndGet();
+        try {
+            return task.get();
+        } finally {
+            gate.semaphore.release();
+        }
+    }
+
+    // 사용자별 동시 요청 수 증가 (한도 초과 시 거절), 해제 동작을 돌려줌
+    private Runnable enterUser(Operation op, String username) {
+        AtomicInteger count = userInFlight.computeIfAbsent(username, k -> new AtomicInteger());
+        if (count.incrementAndGet() > userMaxInFlight) {
+            leaveUser(username, count);
+            userInFlightRejected.incrementAndGet();
+            log.warn("⚠️ 생성 요청 거절 (사용자 동시 요청 한도) - {}, username: {}", op, username);
+            throw new AdmissionRejectedException("이미 진행 중인 생성 요청이 있습니다. 완료 후 다시 시도해주세요.", busyRetryAfterSeconds);
+        }
+        return () -> leaveUser(username, count);
+    }
+
+    private void leaveUser(String username, AtomicInteger count) {
+        if (count.decrementAndGet() <= 0) {
+            userInFlight.remove(username, count);
+        }
+    }
+
+    private TokenBucket userBucket(String username) {
+        return userBuckets.computeIfAbsent(username, k -> new TokenBucket(userRatePerMinute, userBurst));
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        gates.forEach((op, gate) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("maxConcurrent", gate.maxConcurrent);
+            stats.put("inFlight", gate.maxConcurrent - gate.semaphore.availablePermits());
+            stats.put("waiting", gate.semaphore.getQueueLength());
+            stats.put("ratePerMinute", gate.bucket.ratePerMinute);
+            stats.put("admitted", gate.admitted.get());
+            stats.put("queued", gate.queued.get());
+            stats.put("rejectedRate", gate.rateRejected.get());
+            stats.put("rejectedBusy", gate.busyRejected.get());
+            operations.put(op.name(), stats);
+        });
+
+        Map<String, Object> users = new LinkedHashMap<>();
+        users.put("maxInFlight", userMaxInFlight);
+        users.put("ratePerMinute", userRatePerMinute);
+        users.put("activeUsers", userInFlight.size());
+        users.put("rejectedRate", userRateRejected.get());
+        users.put("rejectedInFlight", userInFlightRejected.get());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("operations", operations);
+        result.put("users", users);
+        return result;
+    }
+
+    private static final class Gate {
+        final int maxConcurrent;
+        final Semaphore semaphore;
+        final TokenBucket bucket;
+        final AtomicLong admitted = new AtomicLong();
+        final AtomicLong queued = new AtomicLong();
+        final AtomicLong rateRejected = new AtomicLong();
+        final AtomicLong busyRejected = new AtomicLong();
+
+        Gate(int maxConcurrent, TokenBucket bucket) {
+            this.maxConcurrent = maxConcurrent;
+            this.semaphore = new Semaphore(maxConcurrent, true);
+            this.bucket = bucket;
+        }
+    }
+
+    /**
+     * 🪣 토큰 버킷 (분당 ratePerMinute개 충전, 최대 burst개까지 모아둠)
+     */
+    private static final class TokenBucket {
+        final int ratePerMinute;
+        private final int capacity;
+        private final double tokensPerMilli;
+        private double tokens;
+        private long lastRefillMillis = System.currentTimeMillis();
+
+        TokenBucket(int ratePerMinute, int capacity) {
+            this.ratePerMinute = ratePerMinute;
+            this.capacity = capacity;
+            this.tokensPerMilli = ratePerMinute / 60_000.0;
+            this.tokens = capacity;
+        }
+
+        // 토큰을 쓰면 0, 부족하면 다음 토큰까지 남은 ms
+        synchronized long tryConsume() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefillMillis) * tokensPerMilli);
+            lastRefillMillis = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0;
+            }
+            return tokensPerMilli > 0 ? (long) Math.ceil((1.0 - tokens) / tokensPerMilli) : 60_000L;
+        }
+
+        // 다른 단계에서 거절되어 쓰지 않은 토큰 반환
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1.0);
+        }
+    }
+}
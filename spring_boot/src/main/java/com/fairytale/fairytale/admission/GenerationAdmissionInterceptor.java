@@ -0,0 +1,82 @@
+package com.fairytale.fairytale.admission;
+
+import com.fairytale.fairytale.admission.AdmissionService.Operation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🚦 생성 API 입장 제어 인터셉터
+ * 생성 API는 여기서 요청 빈도만 확인한다. 실행 자리는 같은 요청 중복 제거 뒤
+ * 실제로 FastAPI를 호출하는 쪽에서만 잡는다 (동기 생성/흑백 변환: 요청 스레드, 비동기/비디오/색칠공부 변환: 작업 스레드).
+ * 한도를 넘으면 429 + Retry-After
+ */
+@Component
+@RequiredArgsConstructor
+public class GenerationAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String SHARE_VIDEO_PREFIX = "/api/share/story/";
+
+    private static final Map<String, Operation> ROUTES = Map.of(
+            "/api/fairytale/generate/story", Operation.STORY,
+            "/api/fairytale/generate/image", Operation.IMAGE,
+            "/api/fairytale/generate/voice", Operation.VOICE,
+            "/api/fairytale/convert/bwimage", Operation.BW_CONVERT,
+            "/api/fairytale/jobs/story", Operation.STORY,
+            "/api/fairytale/jobs/image", Operation.IMAGE,
+            "/api/fairytale/jobs/voice", Operation.VOICE);
+
+    private final AdmissionService admissionService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String username = currentUsername();
+        try {
+            Operation op = path.startsWith(SHARE_VIDEO_PREFIX) ? Operation.VIDEO : ROUTES.get(path);
+            if (op != null) {
+                admissionService.checkRate(op, username);
+            }
+            return true;
+
+        } catch (AdmissionRejectedException e) {
+            reject(response, e);
+            return false;
+        }
+    }
+
+    private void reject(HttpServletResponse response, AdmissionRejectedException e) throws Exception {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("error", e.getMessage());
+        errorResponse.put("retryAfterSeconds", e.getRetryAfterSeconds());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), errorResponse);
+    }
+
+    private static String currentUsername() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null ? auth.getName() : "anonymous";
+    }
+}
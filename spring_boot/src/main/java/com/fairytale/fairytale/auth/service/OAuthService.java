@@ -7,11 +7,14 @@ import com.fairytale.fairytale.auth.repository.RefreshTokenRepository;
 import com.fairytale.fairytale.auth.strategy.JwtAuthStrategy;
 import com.fairytale.fairytale.role.Role;
 import com.fairytale.fairytale.role.RoleRepository;
+import com.fairytale.fairytale.users.DisplayNameResolver;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
 import com.fairytale.fairytale.users.UsersRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
@@ -25,11 +28,14 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class OAuthService {
+    @Qualifier("oauthRestTemplate")
     private final RestTemplate restTemplate;
     private final UsersRepository usersRepository;
     private final RoleRepository roleRepository;
     private final JwtAuthStrategy jwtAuthStrategy;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final DisplayNameResolver displayNameResolver;
+    private final UserIdentityCache userIdentityCache;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${KAKAO_USER_INFO_URI:https://kapi.kakao.com/v2/user/me}")
@@ -180,7 +186,7 @@ public class OAuthService {
         try {
             // 🆕 기본 USER 역할 설정
             System.out.println("🔍 USER 역할 찾는 중...");
-            Role userRole = roleRepository.findByRoleName("USER")
+            Role userRole = userIdentityCache.findRoleByName("USER")
                     .orElseGet(() -> {
                         System.out.println("⚠️ USER 역할이 없어서 새로 생성합니다.");
                         Role newRole = new Role();
@@ -202,6 +208,8 @@ public class OAuthService {
                 Users existingUser = emailUser.get();
                 System.out.println("🔍 기존 사용자 업데이트: " + existingUser.getUsername());
                 existingUser.setNickname(oauthUser.getNickname());
+                displayNameResolver.evict(existingUser.getUsername());
+                userIdentityCache.evictUser(existingUser.getUsername());
 
                 if (existingUser.getRole() == null) {
                     existingUser.setRole(userRole);
@@ -227,6 +235,8 @@ public class OAuthService {
                     Users existingUser = googleUser.get();
                     System.out.println("🔍 기존 사용자 업데이트: " + existingUser.getUsername());
                     existingUser.setNickname(oauthUser.getNickname());
+                    displayNameResolver.evict(existingUser.getUsername());
+                    userIdentityCache.evictUser(existingUser.getUsername());
                     existingUser.setEmail(oauthUser.getEmail()); // 이메일 업데이트
 
                     if (existingUser.getRole() == null) {
@@ -247,6 +257,8 @@ public class OAuthService {
                     Users existingUser = kakaoUser.get();
                     System.out.println("🔍 기존 사용자 업데이트: " + existingUser.getUsername());
                     existingUser.setNickname(oauthUser.getNickname());
+                    displayNameResolver.evict(existingUser.getUsername());
+                    userIdentityCache.evictUser(existingUser.getUsername());
                     existingUser.setEmail(oauthUser.getEmail()); // 이메일 업데이트
 
                     if (existingUser.getRole() == null) {
@@ -305,10 +317,10 @@ public class OAuthService {
             String username = jwtAuthStrategy.getUsername(accessToken);
 
             // 2. 사용자 ID로 리프레시 토큰 삭제
-            Users user = usersRepository.findByUsername(username)
+            Long userId = userIdentityCache.findUserIdByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-            refreshTokenRepository.deleteByUserId(user.getId());
+            refreshTokenRepository.deleteByUserId(userId);
 
         } catch (Exception e) {
             throw new RuntimeException("로그아웃 처리 중 오류 발생", e);
@@ -326,7 +338,7 @@ public class OAuthService {
 
             // 2. 리프레시 토큰에서 사용자 정보 추출
             String username = jwtAuthStrategy.getUsername(refreshToken);
-            Users user = usersRepository.findByUsername(username)
+            Users user = userIdentityCache.findByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
             // 3. DB에서 리프레시 토큰 확인
@@ -13,6 +13,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
+import java.nio.ByteBuffer;
 import java.security.Key;
 import java.util.Collections;
 import java.util.Date;
@@ -23,6 +24,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtAuthStrategy implements AuthStrategy {
     private final UsersRepository usersRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
 
     @Value("${JWT_SECRET}") // application.yml에서 jwt.secret 값 주입
     private String secretKeyString;
@@ -34,12 +39,14 @@ public class JwtAuthStrategy implements AuthStrategy {
     private Long refreshTokenExpirationMs;
 
     private Key key; // 실제 JWT 서명에 쓰일 key 객체
+    private JwtParser jwtParser; // 스레드 안전하므로 한 번만 생성해서 재사용
 
     @PostConstruct
     public void init() {
         // secretKeyString을 바이트 배열로 바꿔서
         // HMAC-SHA256 서명용 Key 객체 생성
         this.key = Keys.hmacShaKeyFor(secretKeyString.getBytes());
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public TokenResponse generateTokens(Users user) {
@@ -72,7 +79,7 @@ public class JwtAuthStrategy implements AuthStrategy {
     public boolean isValid(String token) {
         try {
             // 토큰을 파싱하며 서명 검증도 같이 함
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            jwtParser.parseClaimsJws(token);
             return true; // 문제 없으면 true 반환 (유효한 토큰)
         } catch (JwtException | IllegalArgumentException e) {
             // 파싱 실패, 서명 검증 실패, 토큰이 잘못됐을 때 예외 잡음
@@ -80,31 +87,35 @@ public class JwtAuthStrategy implements AuthStrategy {
         }
     }
 
-    // 3. 토큰으로부터 Authentication 객체 얻기
+    // 3. 토큰으로부터 Authentication 객체 얻기 (검증 + 추출을 한 번의 파싱으로, 유효하지 않으면 null)
     public Authentication getAuthentication(String token) {
-        try {
-            String username = getUsername(token);
-            System.out.println("🔍 JWT에서 추출한 username: " + username);
-
-            // 간단한 인증 객체 생성 (authorities는 필요에 따라 설정)
-            return new UsernamePasswordAuthenticationToken(
-                    username,
-                    null,
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-            );
-        } catch (Exception e) {
-            System.out.println("❌ JWT 인증 객체 생성 실패: " + e.getMessage());
-            return null;
+        ByteBuffer tokenHash = verifiedTokenCache.hash(token);
+        String username = verifiedTokenCache.getUsername(tokenHash);
+
+        if (username == null) {
+            try {
+                Claims claims = jwtParser.parseClaimsJws(token).getBody();
+                username = claims.getSubject();
+                if (username == null) {
+                    return null;
+                }
+                if (claims.getExpiration() != null) {
+                    verifiedTokenCache.put(tokenHash, username, claims.getExpiration().getTime());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                return null;
+            }
         }
+
+        // 간단한 인증 객체 생성 (authorities는 필요에 따라 설정)
+        return new UsernamePasswordAuthenticationToken(username, null, USER_AUTHORITIES);
     }
 
     // 토큰에서 사용자 정보 추출 로직
     @Override
     public String getUsername(String token) {
         // 토큰에서 페이로드 부분(Claims)(실제 데이터가 담겨 있는 부분) 파싱해서 가져옴
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
         return claims.getSubject(); // Claims에서 subject(사용자명) 반환
     }
 }
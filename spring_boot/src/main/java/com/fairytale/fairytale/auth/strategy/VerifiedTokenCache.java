@@ -0,0 +1,99 @@
+package com.fairytale.fairytale.auth.strategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🔐 서명 검증을 통과한 JWT 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 보관하고, 토큰 만료 시각까지만 유효하다.
+ * 최대 개수에 도달하면 만료 항목을 정리하고, 그래도 가득 차 있으면 새 토큰은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Value("${JWT_VERIFIED_CACHE_MAX_ENTRIES:10000}")
+    private int maxEntries;
+
+    private static final class Entry {
+        final String username;
+        final long expiresAtMillis;
+
+        Entry(String username, long expiresAtMillis) {
+            this.username = username;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    /**
+     * 🔍 검증된 토큰이면 username, 없거나 만료됐으면 null
+     */
+    public String getUsername(ByteBuffer tokenHash) {
+        Entry entry = entries.get(tokenHash);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            entries.remove(tokenHash, entry);
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.username;
+    }
+
+    public void put(ByteBuffer tokenHash, String username, long expiresAtMillis) {
+        if (entries.size() >= maxEntries) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(tokenHash, new Entry(username, expiresAtMillis));
+    }
+
+    /**
+     * 🔑 토큰 해시 계산 (토큰 원문은 메모리 캐시에 남기지 않음)
+     */
+    public ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 🧹 만료된 토큰 정리
+    @Scheduled(fixedDelayString = "${JWT_VERIFIED_CACHE_PURGE_MS:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.size());
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        return stats;
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "baby", indexes = {
         @Index(name = "idx_baby_name", columnList = "babyName"),
-        @Index(name = "idx_baby_birthdate", columnList = "babyBirthDate")
+        @Index(name = "idx_baby_birthdate", columnList = "babyBirthDate"),
+        @Index(name = "idx_baby_user_created", columnList = "users_id, createdAt") // 사용자별 아이 조회
 })
 @Getter
 @Setter
@@ -1,7 +1,8 @@
 package com.fairytale.fairytale.baby;
 
+import com.fairytale.fairytale.users.DisplayNameResolver;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,23 +15,23 @@ import java.time.format.DateTimeFormatter;
 @Transactional
 public class BabyService {
     private final BabyRepository babyRepository;
-    private final UsersRepository usersRepository;
+    private final DisplayNameResolver displayNameResolver;
+    private final UserIdentityCache userIdentityCache;
 
     // 사용자 ID로 아이 정보 조회
     @Transactional(readOnly = true)
     public Baby findByUserId(Long userId) {
-        return babyRepository.findByUserId(userId);
+        return userIdentityCache.findBabyByUserId(userId);
     }
 
     // 아이 정보 생성
     public Baby createBaby(BabyCreateRequest request) {
         // 사용자 조회
-        Users user = usersRepository.findById(request.getUserId())
+        Users user = userIdentityCache.findById(request.getUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
         // 이미 아이 정보가 있는지 확인
-        Baby existingBaby = babyRepository.findByUserId(request.getUserId());
-        if (existingBaby != null) {
+        if (userIdentityCache.hasBaby(request.getUserId())) {
             throw new RuntimeException("이미 등록된 아이 정보가 있습니다.");
         }
 
@@ -43,6 +44,8 @@ public class BabyService {
         baby.setBabyBirthDate(birthDate);
         baby.setUser(user);
 
+        displayNameResolver.evict(user.getUsername());
+        userIdentityCache.evictBaby(user.getId());
         return babyRepository.save(baby);
     }
 
@@ -62,6 +65,9 @@ public class BabyService {
             baby.setBabyBirthDate(birthDate);
         }
 
+        if (request.getName() != null) {
+            displayNameResolver.evict(baby.getUser().getUsername());
+        }
         return babyRepository.save(baby);
     }
 
@@ -80,6 +86,8 @@ public class BabyService {
     public void deleteBaby(Long babyId) {
         Baby baby = babyRepository.findById(babyId)
                 .orElseThrow(() -> new RuntimeException("아이 정보를 찾을 수 없습니다."));
+        displayNameResolver.evict(baby.getUser().getUsername());
+        userIdentityCache.evictBaby(baby.getUser().getId());
         babyRepository.delete(baby);
     }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package com.fairytale.fairytale.coloring;
+
+import com.fairytale.fairytale.admission.AdmissionRejectedException;
+import com.fairytale.fairytale.service.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 🎨 흑백 변환 결과 캐시 (원본 S3 키 기준)
+ * 1. 메모리 LRU → 2. 실패 캐시(짧은 TTL) → 3. DB 매핑 테이블 → 4. 기존 S3 흑백 이미지 HEAD 확인 → 5. 실제 변환
+ * 같은 이미지에 대한 동시 요청은 하나의 변환만 수행하고 결과를 공유한다.
+ * converter가 입장 거절(AdmissionRejectedException)로 끝나면 실패 캐시에 넣지 않고 호출자에게 그대로 던진다.
+ */
+@Slf4j
+@Service
+public class BlackWhiteImageCache {
+
+    private final BlackWhiteImageMappingRepository mappingRepository;
+    private final S3Service s3Service;
+    private final RestTemplate s3RestTemplate;
+
+    private final Map<String, String> lruCache;
+    private final Map<String, Long> failedUntil; // 실패 캐시도 크기 제한 (키가 이미지 URL이라 무한히 늘 수 있음)
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${BW_CACHE_NEGATIVE_TTL_SECONDS:60}")
+    private long negativeTtlSeconds;
+
+    @Value("${BW_CACHE_WAIT_SECONDS:120}")
+    private long waitSeconds;
+
+    public BlackWhiteImageCache(BlackWhiteImageMappingRepository mappingRepository,
+                                S3Service s3Service,
+                                @Qualifier("s3RestTemplate") RestTemplate s3RestTemplate,
+                                @Value("${BW_CACHE_MAX_ENTRIES:1000}") int maxEntries) {
+        this.mappingRepository = mappingRepository;
+        this.s3Service = s3Service;
+        this.s3RestTemplate = s3RestTemplate;
+        this.lruCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.failedUntil = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 🔍 흑백 이미지 URL 조회, 없으면 converter로 변환
+     * converter는 실패 시 원본 URL을 그대로 반환하는 기존 규칙을 따른다.
+     */
+    public String getOrConvert(String originalImageUrl, Function<String, String> converter) {
+        if (originalImageUrl == null) {
+            return null;
+        }
+        String key = cacheKey(originalImageUrl);
+
+        String cached = lruCache.get(key);
+        if (cached != null) {
+            log.info("✅ 흑백 이미지 메모리 캐시 적중: {}", cached);
+            return cached;
+        }
+
+        Long until = failedUntil.get(key);
+        if (until != null) {
+            if (until > System.currentTimeMillis()) {
+                log.info("⏭️ 최근 흑백 변환 실패 이미지, 원본 반환: {}", originalImageUrl);
+                return originalImageUrl;
+            }
+            failedUntil.remove(key, until);
+        }
+
+        String stored = mappingRepository.findByOriginalKey(key)
+                .map(BlackWhiteImageMapping::getBlackWhiteImageUrl)
+                .orElse(null);
+        if (stored != null) {
+            lruCache.put(key, stored);
+            log.info("✅ 흑백 이미지 매핑 테이블 적중: {}", stored);
+            return stored;
+        }
+
+        // 🔒 같은 이미지 변환은 하나만 실행
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.info("⏳ 진행 중인 흑백 변환 대기: {}", key);
+            return awaitRunning(running, originalImageUrl);
+        }
+
+        try {
+            String result = findExistingBlackWhiteImageInS3(originalImageUrl);
+            if (result == null) {
+                result = converter.apply(originalImageUrl);
+            }
+
+            if (result != null && !result.equals(originalImageUrl)) {
+                remember(key, result);
+            } else {
+                failedUntil.put(key, System.currentTimeMillis() + negativeTtlSeconds * 1000);
+                result = originalImageUrl;
+            }
+
+            mine.complete(result);
+            return result;
+
+        } catch (AdmissionRejectedException e) {
+            // 실행 자리가 없어 변환하지 못한 것은 실패로 기억하지 않는다 (기다리던 요청은 원본 반환)
+            mine.completeExceptionally(e);
+            throw e;
+
+        } catch (Exception e) {
+            log.error("❌ 흑백 변환 캐시 처리 실패: {}", e.getMessage());
+            failedUntil.put(key, System.currentTimeMillis() + negativeTtlSeconds * 1000);
+            mine.complete(originalImageUrl);
+            return originalImageUrl;
+
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // ⏳ 진행 중인 변환 결과 대기 (BW_CACHE_WAIT_SECONDS 초과 시 원본 반환, 변환은 계속 진행)
+    private String awaitRunning(CompletableFuture<String> running, String originalImageUrl) {
+        try {
+            return running.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            log.warn("⚠️ 흑백 변환 대기 시간 초과, 원본 반환: {}", originalImageUrl);
+            return originalImageUrl;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return originalImageUrl;
+        } catch (ExecutionException e) {
+            return originalImageUrl;
+        }
+    }
+
+    private void remember(String key, String blackWhiteImageUrl) {
+        lruCache.put(key, blackWhiteImageUrl);
+        if (mappingRepository.insertIfAbsent(key, blackWhiteImageUrl) == 0) {
+            // 다른 인스턴스가 먼저 저장한 경우
+            log.debug("📝 흑백 이미지 매핑 이미 존재: {}", key);
+        }
+    }
+
+    // 🔍 매핑 테이블 도입 이전에 변환된 흑백 이미지 확인 (HEAD)
+    private String findExistingBlackWhiteImageInS3(String originalS3Url) {
+        if (originalS3Url == null || !originalS3Url.contains("story-images/")) {
+            return null;
+        }
+        try {
+            String predictedBwUrl = originalS3Url.replace("story-images/", "bw-images/");
+
+            ResponseEntity<String> response = s3RestTemplate.exchange(
+                    predictedBwUrl, HttpMethod.HEAD, null, String.class);
+
+            if (response.getStatusCode().is2xxSuccessful()) {
+                log.info("✅ 기존 흑백 이미지 확인: {}", predictedBwUrl);
+                return predictedBwUrl;
+            }
+        } catch (Exception e) {
+            log.debug("📝 기존 흑백 이미지 없음: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private String cacheKey(String originalImageUrl) {
+        String s3Key = s3Service.extractS3KeyFromUrl(originalImageUrl);
+        return s3Key != null ? s3Key : originalImageUrl;
+    }
+}
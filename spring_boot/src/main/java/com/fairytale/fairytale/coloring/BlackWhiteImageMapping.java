@@ -0,0 +1,37 @@
+package com.fairytale.fairytale.coloring;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bw_image_mappings", indexes = {
+        @Index(name = "idx_bw_original_key", columnList = "original_key", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class BlackWhiteImageMapping {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "original_key", nullable = false, length = 500)
+    private String originalKey;         // 원본 이미지 S3 키 (story-images/...)
+
+    @Column(name = "black_white_image_url", nullable = false, length = 1000)
+    private String blackWhiteImageUrl;  // 흑백 변환된 이미지 URL
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public BlackWhiteImageMapping(String originalKey, String blackWhiteImageUrl) {
+        this.originalKey = originalKey;
+        this.blackWhiteImageUrl = blackWhiteImageUrl;
+    }
+}
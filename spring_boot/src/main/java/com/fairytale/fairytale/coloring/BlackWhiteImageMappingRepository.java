@@ -0,0 +1,22 @@
+package com.fairytale.fairytale.coloring;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface BlackWhiteImageMappingRepository extends JpaRepository<BlackWhiteImageMapping, Long> {
+    Optional<BlackWhiteImageMapping> findByOriginalKey(String originalKey);
+
+    // 매핑 저장 - 이미 있으면 0 반환 (중복 키 예외로 바깥 트랜잭션을 망치지 않음)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO bw_image_mappings (original_key, black_white_image_url, created_at) " +
+            "VALUES (:originalKey, :blackWhiteImageUrl, now()) ON CONFLICT (original_key) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("originalKey") String originalKey,
+                       @Param("blackWhiteImageUrl") String blackWhiteImageUrl);
+}
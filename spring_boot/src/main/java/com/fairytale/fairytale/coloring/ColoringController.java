@@ -4,8 +4,8 @@ package com.fairytale.fairytale.coloring;
 
 import com.fairytale.fairytale.service.S3Service;
 import com.fairytale.fairytale.share.ShareService;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -29,7 +29,7 @@ public class ColoringController {
     private final ColoringWorkRepository coloringWorkRepository;
     private final S3Service s3Service;
     private final ShareService shareService;
-    private final UsersRepository usersRepository;
+    private final UserIdentityCache userIdentityCache;
 
     // ColoringController.java - getMyColoringTemplates 메서드만 교체
 
@@ -242,7 +242,7 @@ public class ColoringController {
                 ));
             }
 
-            Users user = usersRepository.findByUsername(username)
+            Users user = userIdentityCache.findByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
             // 🎯 사용자 정보 포함하여 템플릿 생성
@@ -340,7 +340,7 @@ public class ColoringController {
 
         try {
             // 🎯 Users 엔티티 조회
-            Users user = usersRepository.findByUsername(username)
+            Users user = userIdentityCache.findByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
             ColoringTemplate template = coloringTemplateService.getTemplateByStoryIdAndUser(storyId, username)
                     .orElseGet(() -> {
@@ -10,7 +10,10 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coloring_templates")
+@Table(name = "coloring_templates", indexes = {
+        @Index(name = "idx_coloring_template_story_user", columnList = "story_id, user_id"),
+        @Index(name = "idx_coloring_template_user", columnList = "user_id")
+})
 @Getter
 @Setter
 public class ColoringTemplate {
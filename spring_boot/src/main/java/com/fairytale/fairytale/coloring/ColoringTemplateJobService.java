@@ -0,0 +1,82 @@
+package com.fairytale.fairytale.coloring;
+
+import com.fairytale.fairytale.outbox.OutboxDispatcher;
+import com.fairytale.fairytale.outbox.OutboxService;
+import com.fairytale.fairytale.users.Users;
+import com.fairytale.fairytale.users.UsersRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🎨 색칠공부 템플릿 백그라운드 생성
+ * 요청 트랜잭션에서 아웃박스 작업으로 등록하고, OutboxDispatcher가 coloringExecutor에서 실행한다.
+ * 요청 스레드의 엔티티 대신 ID/값만 넘겨받아 작업 스레드에서 다시 조회한다.
+ * 흑백 변환은 StoryService에서 BW_CONVERT 동시 실행 한도 안에서 한다 (동기 API와 같은 자리를 나눠 씀).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ColoringTemplateJobService {
+
+    public static final String JOB_TYPE = "COLORING_TEMPLATE";
+
+    private final ColoringTemplateService coloringTemplateService;
+    private final UsersRepository usersRepository;
+    private final OutboxService outboxService;
+    private final OutboxDispatcher outboxDispatcher;
+    @Qualifier("coloringExecutor")
+    private final ThreadPoolTaskExecutor coloringExecutor;
+
+    @Value("${COLORING_TEMPLATE_MAX_ATTEMPTS:3}")
+    private int maxAttempts;
+
+    @PostConstruct
+    void registerHandler() {
+        outboxDispatcher.register(JOB_TYPE, coloringExecutor, maxAttempts, payload -> generate(
+                ((Number) payload.get("storyId")).longValue(),
+                (String) payload.get("title"),
+                (String) payload.get("imageUrl"),
+                ((Number) payload.get("userId")).longValue()));
+    }
+
+    /**
+     * 📥 템플릿 생성 작업 등록 (호출한 트랜잭션과 함께 커밋, 같은 이미지는 한 번만)
+     */
+    public void enqueue(Long storyId, String title, String imageUrl, Long userId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("storyId", storyId);
+        payload.put("title", title);
+        payload.put("imageUrl", imageUrl);
+        payload.put("userId", userId);
+
+        String idempotencyKey = "coloring-template:" + storyId + ":" + userId + ":" + Integer.toHexString(imageUrl.hashCode());
+        outboxService.enqueue(JOB_TYPE, idempotencyKey, payload);
+    }
+
+    // 실패하면 예외를 그대로 던져 아웃박스가 재시도하도록 함
+    void generate(Long storyId, String title, String imageUrl, Long userId) {
+        Users user = usersRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.warn("⚠️ 색칠공부 템플릿 생성 건너뜀, 사용자 없음 - UserId: {}", userId);
+            return;
+        }
+
+        String storyKey = storyId.toString();
+        if (coloringTemplateService.getTemplateByStoryId(storyKey, user.getUsername()).isPresent()) {
+            log.info("✅ 색칠공부 템플릿이 이미 존재함 - StoryId: {}", storyId);
+            return;
+        }
+
+        ColoringTemplate template = coloringTemplateService.createColoringTemplate(
+                storyKey, title, imageUrl, null, user); // 흑백 이미지는 서비스에서 자동 생성
+        log.info("✅ 색칠공부 템플릿 자동 생성 완료 - TemplateId: {}, UserId: {}", template.getId(), userId);
+    }
+}
@@ -12,13 +12,13 @@ public interface ColoringTemplateRepository extends JpaRepository<ColoringTempla
     // ====== 🎯 사용자별 조회 메서드들 (새로 추가) ======
 
     // 사용자별 동화 ID로 색칠공부 템플릿 조회
-    Optional<ColoringTemplate> findByStoryIdAndUser(String storyId, Users user);
+    Optional<ColoringTemplate> findByStoryIdAndUserId(String storyId, Long userId);
 
     // 사용자별 최신순 조회
-    Page<ColoringTemplate> findByUserOrderByCreatedAtDesc(Users user, Pageable pageable);
+    Page<ColoringTemplate> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
     // 사용자별 제목 검색
-    Page<ColoringTemplate> findByUserAndTitleContainingOrderByCreatedAtDesc(Users user, String keyword, Pageable pageable);
+    Page<ColoringTemplate> findByUserIdAndTitleContainingOrderByCreatedAtDesc(Long userId, String keyword, Pageable pageable);
 
     // 사용자별 특정 동화 ID들의 템플릿 조회
     Page<ColoringTemplate> findByUserAndStoryIdInOrderByCreatedAtDesc(Users user, List<String> storyIds, Pageable pageable);
@@ -2,8 +2,8 @@ package com.fairytale.fairytale.coloring;
 
 import com.fairytale.fairytale.service.S3Service;
 import com.fairytale.fairytale.story.StoryService;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
@@ -12,7 +12,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -26,10 +25,9 @@ public class ColoringTemplateService {
     private final S3Service s3Service;
     @Lazy
     private final StoryService storyService; // 직접 주입!
-    private final RestTemplate restTemplate = new RestTemplate();
     @Value("${FASTAPI_BASE_URL:http://localhost:8000}")
     private String fastApiBaseUrl;
-    private final UsersRepository usersRepository;
+    private final UserIdentityCache userIdentityCache;
 
     // 🎯 색칠공부 템플릿 생성 (사용자 정보 포함)
     @Transactional
@@ -46,7 +44,7 @@ public class ColoringTemplateService {
         }
 
         // 🎯 기존 템플릿 확인 (사용자별로)
-        Optional<ColoringTemplate> existing = coloringTemplateRepository.findByStoryIdAndUser(storyId, user);
+        Optional<ColoringTemplate> existing = coloringTemplateRepository.findByStoryIdAndUserId(storyId, user.getId());
 
         ColoringTemplate template;
         if (existing.isPresent()) {
@@ -87,24 +85,24 @@ public class ColoringTemplateService {
     public Page<ColoringTemplate> getAllTemplatesByUser(String username, Pageable pageable) {
         System.out.println("🔍 [ColoringTemplateService] 사용자별 색칠공부 템플릿 목록 조회 - User: " + username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        return coloringTemplateRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        return coloringTemplateRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
     // 🎯 사용자별 특정 템플릿 조회
     public ColoringTemplate getTemplateByIdAndUser(Long templateId, String username) {
         System.out.println("🔍 [ColoringTemplateService] 사용자별 색칠공부 템플릿 상세 조회 - ID: " + templateId + ", User: " + username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         ColoringTemplate template = coloringTemplateRepository.findById(templateId)
                 .orElseThrow(() -> new RuntimeException("색칠공부 템플릿을 찾을 수 없습니다: " + templateId));
 
         // 🎯 본인의 템플릿인지 확인
-        if (!template.getUser().getId().equals(user.getId())) {
+        if (!template.getUser().getId().equals(userId)) {
             throw new RuntimeException("접근 권한이 없습니다. 본인의 색칠공부 템플릿만 조회할 수 있습니다.");
         }
 
@@ -115,10 +113,10 @@ public class ColoringTemplateService {
     public Page<ColoringTemplate> searchTemplatesByTitleAndUser(String keyword, String username, Pageable pageable) {
         System.out.println("🔍 [ColoringTemplateService] 사용자별 색칠공부 템플릿 검색 - 키워드: " + keyword + ", User: " + username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        return coloringTemplateRepository.findByUserAndTitleContainingOrderByCreatedAtDesc(user, keyword, pageable);
+        return coloringTemplateRepository.findByUserIdAndTitleContainingOrderByCreatedAtDesc(userId, keyword, pageable);
     }
 
     // 🎯 사용자별 템플릿 삭제
@@ -132,31 +130,10 @@ public class ColoringTemplateService {
         System.out.println("✅ [ColoringTemplateService] 색칠공부 템플릿 삭제 완료");
     }
 
-    // 🎯 효율적인 흑백 변환 (기존 이미지 우선 검색)
+    // 🎯 흑백 변환 (기존 이미지 확인/중복 변환 방지는 BlackWhiteImageCache에서 처리)
     private String convertImageToColoringBook(String originalImageUrl) {
-        try {
-            System.out.println("🔍 [ColoringTemplateService] 온디맨드 흑백 변환: " + originalImageUrl);
-
-            // 1. S3 URL인 경우 기존 흑백 이미지 먼저 확인
-            if (originalImageUrl.startsWith("http") && originalImageUrl.contains("amazonaws.com")) {
-                String existingBwUrl = findExistingBlackWhiteImageInS3(originalImageUrl);
-                if (existingBwUrl != null) {
-                    System.out.println("✅ [ColoringTemplateService] 기존 흑백 이미지 재사용: " + existingBwUrl);
-                    return existingBwUrl;
-                }
-            }
-
-            // 2. 기존 이미지 없으면 StoryService로 새로 변환
-            System.out.println("🔄 [ColoringTemplateService] StoryService로 새 변환 요청");
-            String blackWhiteUrl = callStoryServiceDirectly(originalImageUrl);
-
-            System.out.println("✅ [ColoringTemplateService] 흑백 변환 완료: " + blackWhiteUrl);
-            return blackWhiteUrl;
-
-        } catch (Exception e) {
-            System.err.println("❌ [ColoringTemplateService] 흑백 변환 실패: " + e.getMessage());
-            return originalImageUrl;
-        }
+        System.out.println("🔍 [ColoringTemplateService] 온디맨드 흑백 변환: " + originalImageUrl);
+        return callStoryServiceDirectly(originalImageUrl);
     }
 
     // 🚀 StoryService 직접 호출 (핵심!)
@@ -176,29 +153,6 @@ public class ColoringTemplateService {
         }
     }
 
-    // 🔍 기존 흑백 이미지 검색 (URL 패턴 단순화)
-    private String findExistingBlackWhiteImageInS3(String originalS3Url) {
-        try {
-            // 원본: story-images/2025/06/13/image-xxxxx.png
-            // 흑백: bw-images/2025/06/13/image-xxxxx.png (bw- 접두사 제거!)
-            String predictedBwUrl = originalS3Url.replace("story-images/", "bw-images/");
-
-            System.out.println("🔍 [ColoringTemplateService] 기존 흑백 이미지 확인: " + predictedBwUrl);
-
-            // HEAD 요청으로 존재 여부 확인
-            ResponseEntity<String> response = restTemplate.exchange(
-                    predictedBwUrl, HttpMethod.HEAD, null, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                System.out.println("✅ [ColoringTemplateService] 기존 흑백 이미지 발견: " + predictedBwUrl);
-                return predictedBwUrl;
-            }
-        } catch (Exception e) {
-            System.out.println("📝 [ColoringTemplateService] 기존 흑백 이미지 없음: " + e.getMessage());
-        }
-        return null;
-    }
-
     // 🔍 파일 경로 해결
     private java.io.File resolveImageFile(String imagePath) {
         System.out.println("🔍 [ColoringTemplateService] 이미지 파일 경로 해결: " + imagePath);
@@ -337,10 +291,10 @@ public class ColoringTemplateService {
     public Optional<ColoringTemplate> getTemplateByStoryId(String storyId, String username) {
         System.out.println("🔍 [ColoringTemplateService] 사용자별 동화 색칠공부 템플릿 조회 - StoryId: " + storyId + ", User: " + username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        return coloringTemplateRepository.findByStoryIdAndUser(storyId, user);
+        return coloringTemplateRepository.findByStoryIdAndUserId(storyId, userId);
     }
 
     // 🎯 명확한 네이밍의 별칭 메서드
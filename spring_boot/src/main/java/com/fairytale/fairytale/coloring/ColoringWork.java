@@ -1,5 +1,6 @@
 package com.fairytale.fairytale.coloring;
 
+import com.fairytale.fairytale.stats.UserStatsEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,7 +9,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coloring_works")
+@Table(name = "coloring_works", indexes = {
+        @Index(name = "idx_coloring_work_username_created", columnList = "username, created_at, id")
+})
+@EntityListeners(UserStatsEntityListener.class)
 @Getter
 @Setter
 public class ColoringWork {
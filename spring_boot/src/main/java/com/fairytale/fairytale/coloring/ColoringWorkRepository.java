@@ -1,8 +1,12 @@
 package com.fairytale.fairytale.coloring;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -11,6 +15,20 @@ public interface ColoringWorkRepository extends JpaRepository<ColoringWork, Long
     // 사용자별 색칠 완성작 조회 (최신순)
     List<ColoringWork> findByUsernameOrderByCreatedAtDesc(String username);
 
+    // 🖼️ 갤러리 타임라인 첫 페이지 (최신순)
+    @Query("SELECT c FROM ColoringWork c WHERE c.username = :username " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ColoringWork> findGalleryTimeline(@Param("username") String username, Pageable pageable);
+
+    // 🖼️ 갤러리 타임라인 다음 페이지 (keyset: createdAt, id)
+    @Query("SELECT c FROM ColoringWork c WHERE c.username = :username " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ColoringWork> findGalleryTimelineAfter(@Param("username") String username,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
     // 사용자별 색칠 완성작 개수
     long countByUsername(String username);
 
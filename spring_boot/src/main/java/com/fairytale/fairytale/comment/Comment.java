@@ -10,7 +10,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comment_post_created", columnList = "share_post_id, created_at"),
+        @Index(name = "idx_comment_username_created", columnList = "username, created_at")
+})
 @Data // 🎯 @Data 어노테이션 추가 (모든 getter/setter 자동 생성)
 @Builder
 @NoArgsConstructor
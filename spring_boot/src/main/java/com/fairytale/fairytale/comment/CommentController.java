@@ -1,8 +1,7 @@
 // src/main/java/com/fairytale/fairytale/comment/CommentController.java
 package com.fairytale.fairytale.comment;
 
-import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
+import com.fairytale.fairytale.users.DisplayNameResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,7 +15,6 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,7 +24,7 @@ import java.util.stream.Collectors;
 public class CommentController {
 
     private final CommentService commentService;
-    private final UsersRepository usersRepository; // 🎯 추가
+    private final DisplayNameResolver displayNameResolver;
 
     /**
      * 🗨️ 댓글 작성
@@ -52,7 +50,7 @@ public class CommentController {
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("comment", convertCommentToDTO(comment, username)); // 🎯 isOwner 정보 포함
+            response.put("comment", convertCommentToDTO(comment, username, displayNameResolver.resolve(comment.getUsername()))); // 🎯 isOwner 정보 포함
             response.put("message", "댓글이 작성되었습니다");
 
             log.info("✅ 댓글 작성 완료 - CommentId: {}", comment.getId());
@@ -81,9 +79,13 @@ public class CommentController {
             Pageable pageable = PageRequest.of(page, size);
             Page<Comment> commentPage = commentService.getCommentsBySharePostId(sharePostId, pageable);
 
+            // 🎯 페이지 작성자 표시명 일괄 조회
+            Map<String, String> displayNames = displayNameResolver.resolveAll(
+                    commentPage.getContent().stream().map(Comment::getUsername).collect(Collectors.toSet()));
+
             // 🎯 댓글 DTO 변환 (isOwner 정보 포함)
             List<Map<String, Object>> commentDTOs = commentPage.getContent().stream()
-                    .map(comment -> convertCommentToDTO(comment, currentUsername))
+                    .map(comment -> convertCommentToDTO(comment, currentUsername, displayNames.get(comment.getUsername())))
                     .collect(Collectors.toList());
 
             Map<String, Object> response = new HashMap<>();
@@ -129,7 +131,7 @@ public class CommentController {
 
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("comment", convertCommentToDTO(comment, username)); // 🎯 isOwner 정보 포함
+            response.put("comment", convertCommentToDTO(comment, username, displayNameResolver.resolve(comment.getUsername()))); // 🎯 isOwner 정보 포함
             response.put("message", "댓글이 수정되었습니다");
 
             log.info("✅ 댓글 수정 완료 - CommentId: {}", comment.getId());
@@ -202,14 +204,12 @@ public class CommentController {
     /**
      * 🔧 Comment 엔티티를 DTO로 변환 (아기 이름으로 표시명 생성)
      */
-    private Map<String, Object> convertCommentToDTO(Comment comment, String currentUsername) {
+    private Map<String, Object> convertCommentToDTO(Comment comment, String currentUsername, String displayName) {
         Map<String, Object> dto = new HashMap<>();
         dto.put("id", comment.getId());
         dto.put("content", comment.getContent());
         dto.put("username", comment.getUsername());
 
-        // 🎯 사용자 정보 조회해서 아기 이름으로 표시명 생성
-        String displayName = generateDisplayName(comment.getUsername());
         dto.put("userName", displayName);
 
         dto.put("createdAt", comment.getCreatedAt().toString());
@@ -222,25 +222,4 @@ public class CommentController {
 
         return dto;
     }
-
-    /**
-     * 🎯 사용자명을 아기 이름으로 변환하는 메서드
-     */
-    private String generateDisplayName(String username) {
-        try {
-            Optional<Users> userOpt = usersRepository.findByUsername(username);
-            if (userOpt.isPresent()) {
-                Users user = userOpt.get();
-                // Users 엔티티에 getDisplayNameWithBaby() 메서드가 있으면 사용
-                if (user.getDisplayNameWithBaby() != null) {
-                    return user.getDisplayNameWithBaby();
-                } else {
-                    return user.getNickname() + "님";
-                }
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ 사용자 표시명 생성 실패: {}", e.getMessage());
-        }
-        return username + "님";
-    }
-}
\ No newline at end of file
+}
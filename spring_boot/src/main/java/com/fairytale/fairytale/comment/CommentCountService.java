@@ -0,0 +1,125 @@
+package com.fairytale.fairytale.comment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 🔢 게시물별 댓글 수 서비스
+ * 한 페이지의 댓글 수를 GROUP BY 쿼리 한 번으로 조회하고, 결과를 크기 제한 LRU 캐시에 보관한다.
+ * 댓글 작성/삭제가 커밋되면 캐시된 값을 증감시킨다.
+ */
+@Slf4j
+@Service
+public class CommentCountService {
+
+    private final CommentRepository commentRepository;
+    private final Map<Long, Long> lruCache;
+
+    // 조회 중에 해당 게시물 값이 바뀌면 오래된 결과를 넣지 않도록 하는 게시물별 버전
+    // (게시물 ID 해시로 나눈 슬롯 단위라 다른 게시물의 변경은 채우기를 막지 않음)
+    private static final int VERSION_SLOTS = 1024;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    public CommentCountService(CommentRepository commentRepository,
+                               @Value("${COMMENT_COUNT_CACHE_MAX_ENTRIES:10000}") int maxEntries) {
+        this.commentRepository = commentRepository;
+        this.lruCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * 📊 여러 게시물의 댓글 수 (캐시에 없는 것만 한 번에 조회, 댓글 없으면 0)
+     */
+    public Map<Long, Long> getCounts(Collection<Long> sharePostIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long postId : sharePostIds) {
+            Long cached = lruCache.get(postId);
+            if (cached != null) {
+                counts.put(postId, cached);
+            } else {
+                misses.add(postId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Long, Long> startVersions = new HashMap<>();
+            Map<Long, Long> loaded = new HashMap<>();
+            for (Long postId : misses) {
+                startVersions.put(postId, version(postId));
+                loaded.put(postId, 0L);
+            }
+            for (Object[] row : commentRepository.countCommentsBySharePostIds(misses)) {
+                loaded.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+
+            counts.putAll(loaded);
+            loaded.forEach((postId, count) -> {
+                if (version(postId) == startVersions.get(postId)) {
+                    lruCache.putIfAbsent(postId, count);
+                }
+            });
+        }
+        return counts;
+    }
+
+    public long getCount(Long sharePostId) {
+        return getCounts(List.of(sharePostId)).getOrDefault(sharePostId, 0L);
+    }
+
+    // 댓글 작성 커밋 후 +1
+    public void onCommentCreated(Long sharePostId) {
+        adjustAfterCommit(sharePostId, 1);
+    }
+
+    // 댓글 삭제 커밋 후 -1
+    public void onCommentDeleted(Long sharePostId) {
+        adjustAfterCommit(sharePostId, -1);
+    }
+
+    // 게시물 삭제 시 캐시 제거
+    public void evict(Long sharePostId) {
+        afterCommit(() -> {
+            versions.incrementAndGet(slot(sharePostId));
+            lruCache.remove(sharePostId);
+        });
+    }
+
+    private void adjustAfterCommit(Long sharePostId, long delta) {
+        afterCommit(() -> {
+            versions.incrementAndGet(slot(sharePostId));
+            lruCache.computeIfPresent(sharePostId, (id, count) -> Math.max(0, count + delta));
+        });
+    }
+
+    private long version(Long sharePostId) {
+        return versions.get(slot(sharePostId));
+    }
+
+    private static int slot(Long sharePostId) {
+        return Math.floorMod(sharePostId.hashCode(), VERSION_SLOTS);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
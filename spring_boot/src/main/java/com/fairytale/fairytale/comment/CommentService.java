@@ -2,9 +2,8 @@ package com.fairytale.fairytale.comment;
 
 import com.fairytale.fairytale.share.SharePost;
 import com.fairytale.fairytale.share.SharePostRepository;
-import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
-import com.fairytale.fairytale.baby.Baby;
+import com.fairytale.fairytale.users.DisplayNameResolver;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,8 +11,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,7 +19,9 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final SharePostRepository sharePostRepository;
-    private final UsersRepository usersRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final CommentCountService commentCountService;
+    private final DisplayNameResolver displayNameResolver;
 
     /**
      * 🗨️ 댓글 작성
@@ -34,12 +33,12 @@ public class CommentService {
         SharePost sharePost = sharePostRepository.findById(sharePostId)
                 .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다: " + sharePostId));
 
-        // 2. 사용자 정보 조회
-        Users user = usersRepository.findByUsername(username)
+        // 2. 사용자 존재 확인 (ID 캐시 - 엔티티 조회 없음)
+        userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        // 🎯 3. Users 엔티티의 메서드 사용
-        String displayName = user.getDisplayNameWithBaby(); // 🎯 Users에서 제공하는 메서드 사용
+        // 🎯 3. 표시명 (캐시된 "아이이름의 부모" 형식)
+        String displayName = displayNameResolver.resolve(username);
         log.info("🎯 댓글 작성자 표시명: {}", displayName);
 
         // 4. 댓글 생성
@@ -51,6 +50,7 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        commentCountService.onCommentCreated(sharePostId);
         log.info("✅ 댓글 작성 완료 - CommentId: {}, DisplayName: {}", savedComment.getId(), displayName);
 
         return savedComment;
@@ -102,6 +102,7 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        commentCountService.onCommentDeleted(comment.getSharePost().getId());
         log.info("✅ 댓글 삭제 완료 - CommentId: {}", commentId);
     }
 
@@ -109,57 +110,6 @@ public class CommentService {
      * 🔢 댓글 개수 조회
      */
     public long getCommentCount(Long sharePostId) {
-        return commentRepository.countBySharePostId(sharePostId);
-    }
-
-    /**
-     * 🎯 사용자 표시명 생성 (ShareService와 동일한 로직)
-     */
-    private String generateDisplayName(String username) {
-        try {
-            log.info("🔍 댓글 작성자 표시명 생성 - Username: {}", username);
-
-            // 1. 사용자 정보 조회
-            Users user = usersRepository.findByUsername(username).orElse(null);
-            if (user == null) {
-                log.warn("⚠️ 사용자를 찾을 수 없음: {}", username);
-                return username + "님";
-            }
-
-            // 2. 🎯 Baby 엔티티에서 아이 이름 가져오기
-            try {
-                List<Baby> babies = user.getBabies();
-                if (babies != null && !babies.isEmpty()) {
-                    // 첫 번째 아기의 이름 사용
-                    Baby firstBaby = babies.get(0);
-                    String babyName = firstBaby.getBabyName(); // 🎯 실제 필드명 사용
-
-                    if (babyName != null && !babyName.trim().isEmpty()) {
-                        String displayName = babyName + "의 부모";
-                        log.info("✅ 댓글 작성자 표시명 생성: {}", displayName);
-                        return displayName;
-                    }
-                }
-            } catch (Exception e) {
-                log.info("ℹ️ Baby 정보 조회 실패, 다른 방법 시도: {}", e.getMessage());
-            }
-
-            // 3. Users의 getName() 메서드 사용
-            String userName = user.getName();
-            if (userName != null && !userName.trim().isEmpty()) {
-                String displayName = userName + "님";
-                log.info("✅ 사용자명으로 표시명 생성: {}", displayName);
-                return displayName;
-            }
-
-            // 4. 최종 폴백
-            String displayName = username + "님";
-            log.info("✅ 최종 폴백 표시명 생성: {}", displayName);
-            return displayName;
-
-        } catch (Exception e) {
-            log.error("❌ 표시명 생성 실패: {}", e.getMessage());
-            return username + "님"; // 최종 폴백
-        }
+        return commentCountService.getCount(sharePostId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,207 @@
+package com.fairytale.fairytale.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 🧵 백그라운드 작업 스레드풀
+ * 작업 종류별로 동시 실행 수와 큐 크기를 제한하고, 모든 풀은 ExecutorMetricsRegistry로 계측한다.
+ * 별도 지정 없는 @Async는 coloringExecutor에서 실행된다.
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final ExecutorMetricsRegistry executorMetrics;
+
+    @Value("${STORY_JOB_CORE_POOL_SIZE:2}")
+    private int storyJobCorePoolSize;
+
+    @Value("${STORY_JOB_MAX_POOL_SIZE:4}")
+    private int storyJobMaxPoolSize;
+
+    @Value("${STORY_JOB_QUEUE_CAPACITY:50}")
+    private int storyJobQueueCapacity;
+
+    @Value("${VIDEO_RENDER_CONCURRENCY:2}")
+    private int videoRenderConcurrency;
+
+    @Value("${VIDEO_RENDER_QUEUE_CAPACITY:100}")
+    private int videoRenderQueueCapacity;
+
+    @Value("${THUMBNAIL_RENDER_CONCURRENCY:2}")
+    private int thumbnailRenderConcurrency;
+
+    @Value("${THUMBNAIL_RENDER_QUEUE_CAPACITY:100}")
+    private int thumbnailRenderQueueCapacity;
+
+    @Value("${COLORING_CONVERT_CONCURRENCY:2}")
+    private int coloringConvertConcurrency;
+
+    @Value("${COLORING_CONVERT_QUEUE_CAPACITY:20}")
+    private int coloringConvertQueueCapacity;
+
+    @Value("${MEDIA_EXECUTOR_SHUTDOWN_SECONDS:60}")
+    private int mediaShutdownSeconds;
+
+    @Value("${S3_UPLOAD_CONCURRENCY:4}")
+    private int s3UploadConcurrency;
+
+    @Value("${S3_UPLOAD_QUEUE_CAPACITY:32}")
+    private int s3UploadQueueCapacity;
+
+    @Value("${LULLABY_REFRESH_CONCURRENCY:2}")
+    private int lullabyRefreshConcurrency;
+
+    @Value("${LULLABY_REFRESH_QUEUE_CAPACITY:32}")
+    private int lullabyRefreshQueueCapacity;
+
+    @Value("${LULLABY_SEARCH_CONCURRENCY:8}")
+    private int lullabySearchConcurrency;
+
+    @Value("${LULLABY_SEARCH_QUEUE_CAPACITY:64}")
+    private int lullabySearchQueueCapacity;
+
+    @Value("${HEALTH_PROBE_CONCURRENCY:4}")
+    private int healthProbeConcurrency;
+
+    // 🎯 동화/이미지/음성 생성 전용 스레드풀 (Tomcat 요청 스레드와 분리)
+    @Bean(name = "storyGenerationExecutor")
+    public ThreadPoolTaskExecutor storyGenerationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(storyJobCorePoolSize);
+        executor.setMaxPoolSize(storyJobMaxPoolSize);
+        executor.setQueueCapacity(storyJobQueueCapacity); // 큐가 가득 차면 TaskRejectedException
+        executor.setThreadNamePrefix("story-gen-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(mediaShutdownSeconds);
+        executorMetrics.instrument("storyGeneration", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 🎬 공유 게시물 비디오 렌더링 전용 스레드풀 (동시 렌더링 수 제한)
+    @Bean(name = "videoRenderExecutor")
+    public ThreadPoolTaskExecutor videoRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(videoRenderConcurrency);
+        executor.setMaxPoolSize(videoRenderConcurrency);
+        executor.setQueueCapacity(videoRenderQueueCapacity);
+        executor.setThreadNamePrefix("video-render-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(mediaShutdownSeconds);
+        executorMetrics.instrument("videoRender", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 🖼️ 공유 게시물 썸네일 생성 전용 스레드풀 (비디오 렌더링과 큐 분리)
+    @Bean(name = "thumbnailRenderExecutor")
+    public ThreadPoolTaskExecutor thumbnailRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(thumbnailRenderConcurrency);
+        executor.setMaxPoolSize(thumbnailRenderConcurrency);
+        executor.setQueueCapacity(thumbnailRenderQueueCapacity);
+        executor.setThreadNamePrefix("thumbnail-render-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(mediaShutdownSeconds);
+        executorMetrics.instrument("thumbnailRender", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 🎨 색칠공부 흑백 변환/템플릿 생성 전용 스레드풀 (큐가 차면 거절 → 요청 스레드는 막지 않음)
+    @Bean(name = "coloringExecutor")
+    public ThreadPoolTaskExecutor coloringExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coloringConvertConcurrency);
+        executor.setMaxPoolSize(coloringConvertConcurrency);
+        executor.setQueueCapacity(coloringConvertQueueCapacity);
+        executor.setThreadNamePrefix("coloring-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(mediaShutdownSeconds);
+        executorMetrics.instrument("coloring", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 📤 S3 멀티파트 파트 병렬 업로드 스레드풀 (큐가 차면 거절 → S3MultipartUploader가 호출 스레드에서 직접 전송)
+    @Bean(name = "s3UploadExecutor")
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3UploadConcurrency);
+        executor.setMaxPoolSize(s3UploadConcurrency);
+        executor.setQueueCapacity(s3UploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(mediaShutdownSeconds);
+        executorMetrics.instrument("s3Upload", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 🎵 자장가 검색 캐시 백그라운드 갱신/프리웜 스레드풀 (큐가 차면 갱신을 건너뛰고 기존 값 유지)
+    @Bean(name = "lullabyRefreshExecutor")
+    public ThreadPoolTaskExecutor lullabyRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lullabyRefreshConcurrency);
+        executor.setMaxPoolSize(lullabyRefreshConcurrency);
+        executor.setQueueCapacity(lullabyRefreshQueueCapacity);
+        executor.setThreadNamePrefix("lullaby-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executorMetrics.instrument("lullabyRefresh", executor, new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 🎶 통합 자장가 검색(음악 + 영상) 병렬 조회 스레드풀 (큐가 차면 거절 → 부분 결과로 응답)
+    @Bean(name = "lullabySearchExecutor")
+    public ThreadPoolTaskExecutor lullabySearchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(lullabySearchConcurrency);
+        executor.setMaxPoolSize(lullabySearchConcurrency);
+        executor.setQueueCapacity(lullabySearchQueueCapacity);
+        executor.setThreadNamePrefix("lullaby-search-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executorMetrics.instrument("lullabySearch", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 📡 외부 의존성 헬스 프로브 스레드풀 (느린 프로브가 스케줄러 스레드를 막지 않도록 분리)
+    @Bean(name = "healthProbeExecutor")
+    public ThreadPoolTaskExecutor healthProbeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(healthProbeConcurrency);
+        executor.setMaxPoolSize(healthProbeConcurrency);
+        executor.setQueueCapacity(healthProbeConcurrency * 2);
+        executor.setThreadNamePrefix("health-probe-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executorMetrics.instrument("healthProbe", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 별도 지정 없는 @Async는 제한된 색칠공부 풀 사용 (기본 무제한 풀 방지)
+    @Override
+    public Executor getAsyncExecutor() {
+        return coloringExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("❌ 비동기 작업 실패 - {}: {}", method.getName(), e.getMessage());
+    }
+}
@@ -0,0 +1,103 @@
+package com.fairytale.fairytale.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 📊 백그라운드 스레드풀 현황 (큐 깊이, 대기/실행 시간, 거절 수)
+ * TaskDecorator로 작업별 큐 대기 시간과 실행 시간을 잰다.
+ * submitted는 풀이 받아들인 작업 수 (데코레이터는 거절될 작업에도 실행되므로 거절 시 다시 뺀다).
+ */
+@Slf4j
+@Component
+public class ExecutorMetricsRegistry {
+
+    private final Map<String, Pool> pools = new LinkedHashMap<>();
+
+    private static final class Pool {
+        final ThreadPoolTaskExecutor executor;
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong waitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+        final AtomicLong runNanos = new AtomicLong();
+        final AtomicLong maxRunNanos = new AtomicLong();
+
+        Pool(ThreadPoolTaskExecutor executor) {
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * 🔧 계측 설정 (initialize() 전에 호출)
+     * @param rejectionPolicy 큐가 가득 찼을 때의 정책 (거절 수를 센 뒤 위임)
+     */
+    synchronized void instrument(String name, ThreadPoolTaskExecutor executor, RejectedExecutionHandler rejectionPolicy) {
+        Pool pool = new Pool(executor);
+        pools.put(name, pool);
+
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            pool.submitted.incrementAndGet();
+            return () -> {
+                long startedAt = System.nanoTime();
+                record(pool.waitNanos, pool.maxWaitNanos, startedAt - submittedAt);
+                try {
+                    task.run();
+                    pool.completed.incrementAndGet();
+                } catch (RuntimeException | Error e) {
+                    pool.failed.incrementAndGet();
+                    throw e;
+                } finally {
+                    record(pool.runNanos, pool.maxRunNanos, System.nanoTime() - startedAt);
+                }
+            };
+        });
+
+        executor.setRejectedExecutionHandler((task, threadPool) -> {
+            pool.submitted.decrementAndGet();
+            pool.rejected.incrementAndGet();
+            log.warn("⚠️ 스레드풀 포화 - {} (queued: {})", name, threadPool.getQueue().size());
+            rejectionPolicy.rejectedExecution(task, threadPool);
+        });
+    }
+
+    private static void record(AtomicLong total, AtomicLong max, long nanos) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    public synchronized Map<String, Map<String, Object>> getExecutorStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        pools.forEach((name, pool) -> {
+            ThreadPoolExecutor threadPool = pool.executor.getThreadPoolExecutor();
+            long started = pool.completed.get() + pool.failed.get();
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("poolSize", threadPool.getPoolSize());
+            stats.put("maxPoolSize", threadPool.getMaximumPoolSize());
+            stats.put("active", threadPool.getActiveCount());
+            stats.put("queued", threadPool.getQueue().size());
+            stats.put("queueRemaining", threadPool.getQueue().remainingCapacity());
+            stats.put("submitted", pool.submitted.get());
+            stats.put("completed", pool.completed.get());
+            stats.put("failed", pool.failed.get());
+            stats.put("rejected", pool.rejected.get());
+            stats.put("avgWaitMs", started > 0 ? pool.waitNanos.get() / started / 1_000_000.0 : 0.0);
+            stats.put("maxWaitMs", pool.maxWaitNanos.get() / 1_000_000.0);
+            stats.put("avgRunMs", started > 0 ? pool.runNanos.get() / started / 1_000_000.0 : 0.0);
+            stats.put("maxRunMs", pool.maxRunNanos.get() / 1_000_000.0);
+            result.put(name, stats);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fairytale.fairytale.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 🗂️ DB 마이그레이션 (src/main/resources/db/migration)
+ * 기존 운영 DB는 Hibernate가 만든 스키마를 버전 0으로 baseline한 뒤 V1부터 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineExistingSchema() {
+        return configuration -> configuration.baselineOnMigrate(true).baselineVersion("0");
+    }
+}
@@ -0,0 +1,35 @@
+package com.fairytale.fairytale.config;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📊 외부 API 커넥션 풀 현황 (leased / pending / available)
+ */
+@Component
+public class HttpClientPoolRegistry {
+
+    private final Map<String, PoolingHttpClientConnectionManager> pools = new LinkedHashMap<>();
+
+    synchronized void register(String name, PoolingHttpClientConnectionManager connectionManager) {
+        pools.put(name, connectionManager);
+    }
+
+    public synchronized Map<String, Map<String, Object>> getPoolStats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        pools.forEach((name, connectionManager) -> {
+            PoolStats stats = connectionManager.getTotalStats();
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("leased", stats.getLeased());
+            pool.put("pending", stats.getPending());
+            pool.put("idle", stats.getAvailable());
+            pool.put("max", stats.getMax());
+            result.put(name, pool);
+        });
+        return result;
+    }
+}
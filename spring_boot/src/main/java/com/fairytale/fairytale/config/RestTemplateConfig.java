@@ -1,25 +1,109 @@
 package com.fairytale.fairytale.config;
 
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+
+/**
+ * 🌐 외부 API별 RestTemplate (커넥션 풀 + 타임아웃 분리)
+ * - restTemplate: FastAPI 동화/이미지/음성 생성 (기본)
+ * - videoRestTemplate: FastAPI 영상/썸네일 생성
+ * - s3RestTemplate: S3 공개 URL 다운로드/HEAD 확인
+ * - oauthRestTemplate: 카카오/구글 사용자 정보 조회
+ * ResilienceRegistry로 감싼 호출은 작업별 적응형 읽기 타임아웃이 요청마다 적용된다.
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
+
+    private final HttpClientPoolRegistry poolRegistry;
+
     @Bean
+    @Primary
     public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        // 생성 API는 응답이 오래 걸리므로 읽기 타임아웃을 길게 유지
+        return pooledRestTemplate("fastapi-generation", 20, 10_000, 900_000);
+    }
 
-        // 기본 JDK의 SimpleClientHttpRequestFactory 사용 (스프링부트 3.x 호환)
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+    @Bean
+    public RestTemplate videoRestTemplate() {
+        return pooledRestTemplate("fastapi-video", 10, 10_000, 600_000);
+    }
+
+    @Bean
+    public RestTemplate s3RestTemplate() {
+        return pooledRestTemplate("s3-public", 50, 3_000, 30_000);
+    }
+
+    @Bean
+    public RestTemplate oauthRestTemplate() {
+        return pooledRestTemplate("oauth", 20, 3_000, 10_000);
+    }
+
+    private RestTemplate pooledRestTemplate(String poolName, int maxConnections,
+                                            int connectTimeoutMs, int readTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))   // 연결 타임아웃
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))       // 읽기 타임아웃
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(5))             // 풀에서 커넥션 대기 시간
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        poolRegistry.register(poolName, connectionManager);
+
+        return new RestTemplate(new AdaptiveTimeoutRequestFactory(httpClient));
+    }
 
-        // 타임아웃 설정
-        factory.setConnectTimeout(10000);     // 연결 타임아웃
-        factory.setReadTimeout(900000);       // 읽기 타임아웃
+    // ⏱️ 보호된 호출 중이면 해당 작업의 적응형 타임아웃으로 응답 대기 시간을 덮어씀
+    private static class AdaptiveTimeoutRequestFactory extends HttpComponentsClientHttpRequestFactory {
 
-        restTemplate.setRequestFactory(factory);
+        AdaptiveTimeoutRequestFactory(CloseableHttpClient httpClient) {
+            super(httpClient);
+        }
 
-        return restTemplate;
+        @Override
+        protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+            Long timeoutMs = ResilienceRegistry.currentTimeoutMs();
+            if (timeoutMs == null) {
+                return null; // 클라이언트 기본 설정 사용
+            }
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofSeconds(5))
+                    .setResponseTimeout(Timeout.ofMilliseconds(timeoutMs))
+                    .build());
+            return context;
+        }
     }
 }
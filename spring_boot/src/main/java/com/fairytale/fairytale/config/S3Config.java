@@ -3,6 +3,7 @@ package com.fairytale.fairytale.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
@@ -22,13 +23,24 @@ public class S3Config {
     @Value("${AWS_REGION:ap-northeast-2}")
     private String region;
 
+    // 🧪 MinIO/LocalStack 등 S3 호환 서버 주소 (비어 있으면 AWS 사용)
+    @Value("${AWS_S3_ENDPOINT:}")
+    private String endpoint;
+
     @Bean
     public AmazonS3 amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
 
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .withRegion(Regions.fromName(region))
-                .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(Regions.fromName(region));
+        }
+
+        return builder.build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.fairytale.fairytale.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// ⏰ @Scheduled 작업 활성화 (좋아요 수 반영 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
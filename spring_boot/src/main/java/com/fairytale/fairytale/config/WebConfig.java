@@ -1,12 +1,20 @@
 package com.fairytale.fairytale.config;
 
+import com.fairytale.fairytale.admission.GenerationAdmissionInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final GenerationAdmissionInterceptor generationAdmissionInterceptor;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 🎯 /coloring/** 경로로 접근하면 static/coloring/ 폴더의 파일 제공
@@ -15,4 +23,21 @@ public class WebConfig implements WebMvcConfigurer {
 
         System.out.println("✅ [WebConfig] 정적 리소스 핸들러 등록: /coloring/**");
     }
-}
\ No newline at end of file
+
+    // 🔌 Open-in-view 직접 등록 (이 빈이 있으면 Spring Boot 기본 등록은 생략됨)
+    @Bean
+    public OpenEntityManagerInViewInterceptor openEntityManagerInViewInterceptor() {
+        return new OpenEntityManagerInViewInterceptor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 🎯 동화/이미지/음성 생성은 FastAPI 호출이 길어서 요청 전체에 DB 커넥션을 붙잡지 않도록 제외
+        registry.addWebRequestInterceptor(openEntityManagerInViewInterceptor())
+                .excludePathPatterns("/api/fairytale/generate/**");
+
+        // 🚦 생성 API 입장 제어 (사용자별/작업별 한도 초과 시 429)
+        registry.addInterceptor(generationAdmissionInterceptor)
+                .addPathPatterns("/api/fairytale/**", "/api/share/story/**");
+    }
+}
@@ -0,0 +1,177 @@
+// src/main/java/com/fairytale/fairytale/controller/MetricsController.java
+package com.fairytale.fairytale.controller;
+
+import com.fairytale.fairytale.admission.AdmissionService;
+import com.fairytale.fairytale.auth.strategy.VerifiedTokenCache;
+import com.fairytale.fairytale.config.ExecutorMetricsRegistry;
+import com.fairytale.fairytale.config.HttpClientPoolRegistry;
+import com.fairytale.fairytale.lullaby.LullabySearchCache;
+import com.fairytale.fairytale.outbox.OutboxDispatcher;
+import com.fairytale.fairytale.resilience.HealthMonitor;
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import com.fairytale.fairytale.service.S3MultipartUploader;
+import com.fairytale.fairytale.story.job.GenerationIdempotencyService;
+import com.fairytale.fairytale.users.UserIdentityCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 📊 서버 내부 지표 조회 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private final HttpClientPoolRegistry httpClientPoolRegistry;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserIdentityCache userIdentityCache;
+    private final LullabySearchCache lullabySearchCache;
+    private final ExecutorMetricsRegistry executorMetricsRegistry;
+    private final OutboxDispatcher outboxDispatcher;
+    private final GenerationIdempotencyService generationIdempotencyService;
+    private final AdmissionService admissionService;
+    private final ResilienceRegistry resilienceRegistry;
+    private final HealthMonitor healthMonitor;
+
+    /**
+     * 🌐 외부 API 커넥션 풀 현황
+     */
+    @GetMapping("/http-pools")
+    public ResponseEntity<Map<String, Object>> getHttpPoolStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("pools", httpClientPoolRegistry.getPoolStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 📤 S3 업로드 처리량/재시도 현황
+     */
+    @GetMapping("/s3-uploads")
+    public ResponseEntity<Map<String, Object>> getS3UploadStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("uploads", s3MultipartUploader.getMetrics());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🔐 JWT 검증 캐시 적중률
+     */
+    @GetMapping("/jwt-cache")
+    public ResponseEntity<Map<String, Object>> getJwtCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("cache", verifiedTokenCache.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🪪 사용자/아기/역할 식별자 캐시 적중률
+     */
+    @GetMapping("/identity-cache")
+    public ResponseEntity<Map<String, Object>> getIdentityCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("cache", userIdentityCache.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🎵 자장가 검색 캐시 적중률/업스트림 호출 현황
+     */
+    @GetMapping("/lullaby-cache")
+    public ResponseEntity<Map<String, Object>> getLullabyCacheStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("cache", lullabySearchCache.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🧵 백그라운드 스레드풀 큐 깊이/대기·실행 시간
+     */
+    @GetMapping("/executors")
+    public ResponseEntity<Map<String, Object>> getExecutorStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("executors", executorMetricsRegistry.getExecutorStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 📮 아웃박스 작업 처리 현황 (상태별 건수, 재시도/최종 실패)
+     */
+    @GetMapping("/outbox")
+    public ResponseEntity<Map<String, Object>> getOutboxStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("outbox", outboxDispatcher.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🔁 생성 요청 중복 제거 현황 (실행/합류/재사용 수)
+     */
+    @GetMapping("/generation-idempotency")
+    public ResponseEntity<Map<String, Object>> getGenerationIdempotencyStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("idempotency", generationIdempotencyService.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🚦 생성 API 입장 제어 현황 (허용/대기/거절 수, 작업별 동시 실행)
+     */
+    @GetMapping("/admission")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("admission", admissionService.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 🛡️ 외부 의존성 서킷 브레이커 상태와 작업별 적응형 타임아웃
+     */
+    @GetMapping("/resilience")
+    public ResponseEntity<Map<String, Object>> getResilienceStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("resilience", resilienceRegistry.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 📡 외부 의존성 헬스 프로브 최신 결과 (상태, 지연 시간, 확인 시각)
+     */
+    @GetMapping("/health")
+    public ResponseEntity<Map<String, Object>> getHealthStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("health", healthMonitor.getStats());
+        response.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,7 @@
 package com.fairytale.fairytale.gallery;
 
 import com.fairytale.fairytale.users.Users;
+import com.fairytale.fairytale.stats.UserStatsEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,10 +12,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gallery")
+@Table(name = "gallery", indexes = {
+        @Index(name = "idx_gallery_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_gallery_story_user", columnList = "story_id, user_id")
+})
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserStatsEntityListener.class})
 public class Gallery {
 
     @Id
@@ -3,12 +3,14 @@ package com.fairytale.fairytale.gallery;
 import com.fairytale.fairytale.gallery.dto.ColoringImageRequest;
 import com.fairytale.fairytale.gallery.dto.GalleryImageDTO;
 import com.fairytale.fairytale.gallery.dto.GalleryStatsDTO;
+import com.fairytale.fairytale.gallery.dto.GalleryTimelinePageDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +44,30 @@ public class GalleryController {
         }
     }
 
+    /**
+     * 🖼️ 갤러리 타임라인 조회 (커서 기반 페이지네이션, type: all / story / coloring)
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<GalleryTimelinePageDTO> getGalleryTimeline(
+            @RequestParam(defaultValue = "all") String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication auth) {
+        try {
+            GalleryTimelinePageDTO page = galleryService.getGalleryTimeline(auth.getName(), type, cursor, size);
+
+            log.info("✅ 갤러리 타임라인 조회 완료 - 개수: {}, 다음 페이지: {}", page.getImages().size(), page.isHasNext());
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.warn("⚠️ 잘못된 갤러리 커서: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("❌ 갤러리 타임라인 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     /**
      * 특정 스토리의 갤러리 이미지 조회
      */
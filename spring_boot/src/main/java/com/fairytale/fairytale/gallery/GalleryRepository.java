@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,15 +16,20 @@ public interface GalleryRepository extends JpaRepository<Gallery, Long> {
     /**
      * 사용자의 모든 갤러리 이미지 조회 (최신순)
      */
-    List<Gallery> findByUserOrderByCreatedAtDesc(Users user);
+    List<Gallery> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     Optional<Gallery> findByStoryId(Long storyId);
 
+    /**
+     * 🖼️ 타임라인 페이지에 포함된 스토리들의 갤러리 정보 일괄 조회
+     */
+    List<Gallery> findByUserIdAndStoryIdIn(Long userId, Collection<Long> storyIds);
+
     /**
      * 특정 스토리의 갤러리 이미지 조회
      */
-    @Query("SELECT g FROM Gallery g WHERE g.storyId = :storyId AND g.user = :user")
-    Gallery findByStoryIdAndUser(@Param("storyId") Long storyId, @Param("user") Users user);
+    @Query("SELECT g FROM Gallery g WHERE g.storyId = :storyId AND g.user.id = :userId")
+    Gallery findByStoryIdAndUserId(@Param("storyId") Long storyId, @Param("userId") Long userId);
 
     /**
      * 사용자의 색칠한 이미지 개수 조회
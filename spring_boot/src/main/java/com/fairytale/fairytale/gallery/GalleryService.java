@@ -4,18 +4,26 @@ import com.fairytale.fairytale.coloring.ColoringWork;
 import com.fairytale.fairytale.coloring.ColoringWorkRepository;
 import com.fairytale.fairytale.gallery.dto.GalleryImageDTO;
 import com.fairytale.fairytale.gallery.dto.GalleryStatsDTO;
+import com.fairytale.fairytale.gallery.dto.GalleryTimelinePageDTO;
+import com.fairytale.fairytale.stats.UserStats;
+import com.fairytale.fairytale.stats.UserStatsService;
 import com.fairytale.fairytale.story.Story;
 import com.fairytale.fairytale.story.StoryRepository;
-import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,9 +33,99 @@ import java.util.stream.Collectors;
 public class GalleryService {
 
     private final StoryRepository storyRepository;
-    private final UsersRepository usersRepository;
+    private final UserIdentityCache userIdentityCache;
     private final GalleryRepository galleryRepository;
     private final ColoringWorkRepository coloringWorkRepository;
+    private final UserStatsService userStatsService;
+
+    private static final int MAX_TIMELINE_PAGE_SIZE = 50;
+    private static final String TYPE_STORY = "story";
+    private static final String TYPE_COLORING = "coloring";
+
+    /**
+     * 🖼️ 갤러리 타임라인 (동화 + 색칠 완성작, keyset 페이지네이션)
+     * 두 스트림을 각각 (createdAt, id) 역순으로 페이지 크기+1개만 읽어 병합하므로
+     * 응답 시간과 메모리 사용량이 전체 보관 개수가 아니라 페이지 크기에 비례한다.
+     * 같은 시각이면 동화가 먼저, 같은 종류 안에서는 id 역순으로 정렬한다.
+     */
+    @Transactional(readOnly = true)
+    public GalleryTimelinePageDTO getGalleryTimeline(String username, String type, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_TIMELINE_PAGE_SIZE));
+        boolean includeStories = !TYPE_COLORING.equals(type);
+        boolean includeColoring = !TYPE_STORY.equals(type);
+        log.info("🔍 갤러리 타임라인 조회 - 사용자: {}, 타입: {}, 커서: {}, 크기: {}", username, type, cursor, pageSize);
+
+        Long userId = userIdentityCache.findUserIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        String[] cursorParts = decodeCursor(cursor);
+
+        List<Story> stories = Collections.emptyList();
+        if (includeStories) {
+            stories = cursorParts == null
+                    ? storyRepository.findGalleryTimeline(userId, limit)
+                    // 커서가 색칠 완성작이면 같은 시각의 동화는 이미 앞 페이지에 포함됨
+                    : storyRepository.findGalleryTimelineAfter(userId, LocalDateTime.parse(cursorParts[0]),
+                    TYPE_STORY.equals(cursorParts[1]) ? Long.valueOf(cursorParts[2]) : 0L, limit);
+        }
+
+        List<ColoringWork> coloringWorks = Collections.emptyList();
+        if (includeColoring) {
+            coloringWorks = cursorParts == null
+                    ? coloringWorkRepository.findGalleryTimeline(username, limit)
+                    // 커서가 동화이면 같은 시각의 색칠 완성작은 아직 반환되지 않음
+                    : coloringWorkRepository.findGalleryTimelineAfter(username, LocalDateTime.parse(cursorParts[0]),
+                    TYPE_COLORING.equals(cursorParts[1]) ? Long.valueOf(cursorParts[2]) : Long.MAX_VALUE, limit);
+        }
+
+        // 두 정렬된 스트림을 병합 (pageSize + 1개까지)
+        List<GalleryImageDTO> merged = new ArrayList<>(pageSize + 1);
+        int storyIndex = 0;
+        int coloringIndex = 0;
+        while (merged.size() <= pageSize && (storyIndex < stories.size() || coloringIndex < coloringWorks.size())) {
+            boolean takeStory;
+            if (storyIndex >= stories.size()) {
+                takeStory = false;
+            } else if (coloringIndex >= coloringWorks.size()) {
+                takeStory = true;
+            } else {
+                takeStory = !stories.get(storyIndex).getCreatedAt()
+                        .isBefore(coloringWorks.get(coloringIndex).getCreatedAt());
+            }
+
+            merged.add(takeStory
+                    ? convertToGalleryImageDTO(stories.get(storyIndex++))
+                    : convertColoringWorkToGalleryImageDTO(coloringWorks.get(coloringIndex++)));
+        }
+
+        boolean hasNext = merged.size() > pageSize;
+        if (hasNext) {
+            merged = merged.subList(0, pageSize);
+        }
+
+        // 페이지에 포함된 동화들의 색칠 이미지만 일괄 조회
+        List<Long> storyIds = merged.stream()
+                .filter(dto -> TYPE_STORY.equals(dto.getType()))
+                .map(GalleryImageDTO::getStoryId)
+                .collect(Collectors.toList());
+        if (!storyIds.isEmpty()) {
+            mergeColoringImages(merged, galleryRepository.findByUserIdAndStoryIdIn(userId, storyIds));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            GalleryImageDTO last = merged.get(merged.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt() + "|" + last.getType() + "|" + last.getStoryId());
+        }
+
+        return GalleryTimelinePageDTO.builder()
+                .images(new ArrayList<>(merged))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 
     /**
      * 사용자의 모든 갤러리 이미지 조회 (동화 + 색칠 완성작) - 수정됨
@@ -36,13 +134,13 @@ public class GalleryService {
         log.info("🔍 사용자 갤러리 이미지 조회 시작 - 사용자: {}", username);
 
         // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         List<GalleryImageDTO> allGalleryImages = new ArrayList<>();
 
         // 2. 기존 동화 이미지들 조회
-        List<Story> storiesWithImages = storyRepository.findByUserAndImageIsNotNullOrderByCreatedAtDesc(user);
+        List<Story> storiesWithImages = storyRepository.findByUserIdAndImageIsNotNullOrderByCreatedAtDesc(userId);
         log.info("🔍 이미지가 있는 스토리 개수: {}", storiesWithImages.size());
 
         // 3. Story를 GalleryImageDTO로 변환
@@ -51,7 +149,7 @@ public class GalleryService {
                 .collect(Collectors.toList());
 
         // 4. 갤러리 테이블에서 추가 색칠 이미지 정보 가져와서 병합
-        List<Gallery> galleries = galleryRepository.findByUserOrderByCreatedAtDesc(user);
+        List<Gallery> galleries = galleryRepository.findByUserIdOrderByCreatedAtDesc(userId);
         mergeColoringImages(storyImages, galleries);
 
         allGalleryImages.addAll(storyImages);
@@ -99,11 +197,11 @@ public class GalleryService {
         log.info("🔍 사용자 동화 이미지 조회 시작 - 사용자: {}", username);
 
         // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         // 2. 사용자의 모든 스토리에서 이미지가 있는 것들만 조회
-        List<Story> storiesWithImages = storyRepository.findByUserAndImageIsNotNullOrderByCreatedAtDesc(user);
+        List<Story> storiesWithImages = storyRepository.findByUserIdAndImageIsNotNullOrderByCreatedAtDesc(userId);
 
         // 3. Story를 GalleryImageDTO로 변환
         List<GalleryImageDTO> storyImages = storiesWithImages.stream()
@@ -111,7 +209,7 @@ public class GalleryService {
                 .collect(Collectors.toList());
 
         // 4. 갤러리 테이블에서 추가 색칠 이미지 정보 가져와서 병합
-        List<Gallery> galleries = galleryRepository.findByUserOrderByCreatedAtDesc(user);
+        List<Gallery> galleries = galleryRepository.findByUserIdOrderByCreatedAtDesc(userId);
         mergeColoringImages(storyImages, galleries);
 
         log.info("✅ 동화 이미지 조회 완료 - 개수: {}", storyImages.size());
@@ -125,18 +223,18 @@ public class GalleryService {
         log.info("🔍 특정 스토리 갤러리 이미지 조회 - StoryId: {}", storyId);
 
         // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         // 2. 스토리 조회 (권한 확인 포함)
-        Story story = storyRepository.findByIdAndUser(storyId, user)
+        Story story = storyRepository.findByIdAndUserId(storyId, userId)
                 .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다: " + storyId));
 
         // 3. 기본 갤러리 정보 생성
         GalleryImageDTO galleryImage = convertToGalleryImageDTO(story);
 
         // 4. 갤러리 테이블에서 색칠 이미지 정보 추가
-        Gallery gallery = galleryRepository.findByStoryIdAndUser(storyId, user);
+        Gallery gallery = galleryRepository.findByStoryIdAndUserId(storyId, userId);
         if (gallery != null) {
             galleryImage.setColoringImageUrl(gallery.getColoringImageUrl());
         }
@@ -151,19 +249,19 @@ public class GalleryService {
         log.info("🔍 색칠한 이미지 업데이트 시작 - StoryId: {}", storyId);
 
         // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         // 2. 스토리 조회 (권한 확인 포함)
-        Story story = storyRepository.findByIdAndUser(storyId, user)
+        Story story = storyRepository.findByIdAndUserId(storyId, userId)
                 .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다: " + storyId));
 
         // 3. 갤러리 엔티티 조회 또는 생성
-        Gallery gallery = galleryRepository.findByStoryIdAndUser(storyId, user);
+        Gallery gallery = galleryRepository.findByStoryIdAndUserId(storyId, userId);
         if (gallery == null) {
             gallery = new Gallery();
             gallery.setStoryId(storyId);
-            gallery.setUser(user);
+            gallery.setUser(story.getUser());
             gallery.setStoryTitle(story.getTitle());
             gallery.setColorImageUrl(story.getImage());
             gallery.setCreatedAt(LocalDateTime.now());
@@ -191,11 +289,11 @@ public class GalleryService {
 
         try {
             // 1. 사용자 조회
-            Users user = usersRepository.findByUsername(username)
+            Long userId = userIdentityCache.findUserIdByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
             // 2. 스토리 조회 (권한 확인 포함)
-            Story story = storyRepository.findByIdAndUser(storyId, user)
+            Story story = storyRepository.findByIdAndUserId(storyId, userId)
                     .orElse(null);
 
             if (story == null) {
@@ -204,7 +302,7 @@ public class GalleryService {
             }
 
             // 3. 관련 Gallery 엔티티도 함께 삭제
-            Gallery gallery = galleryRepository.findByStoryIdAndUser(storyId, user);
+            Gallery gallery = galleryRepository.findByStoryIdAndUserId(storyId, userId);
             if (gallery != null) {
                 galleryRepository.delete(gallery);
                 log.info("✅ 관련 갤러리 엔티티 삭제 완료");
@@ -247,23 +345,19 @@ public class GalleryService {
     public GalleryStatsDTO getGalleryStats(String username) {
         log.info("🔍 갤러리 통계 조회 시작");
 
-        // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+        // 사용자 통계 집계 테이블 PK 조회 (동화/색칠 변경 시 갱신됨)
+        UserStats userStats = userStatsService.getStats(username);
 
-        // 2. 통계 계산
-        long totalStoryImages = storyRepository.countByUserAndImageIsNotNull(user);
-        long coloringImages = galleryRepository.countByUserAndColoringImageUrlIsNotNull(user);
-        long totalStories = storyRepository.countByUser(user);
+        long totalStoryImages = userStats.getStoryImageCount();
+        long coloringImages = userStats.getGalleryColoringCount();
+        long totalStories = userStats.getStoryCount();
 
         // 🎯 색칠 완성작 통계 추가
-        long coloringWorks = coloringWorkRepository.countByUsername(username);
+        long coloringWorks = userStats.getColoringWorkCount();
         long totalImages = totalStoryImages + coloringWorks;
 
-        log.info("✅ 갤러리 통계 조회 완료");
-        log.info("   - 동화 이미지: {}개", totalStoryImages);
-        log.info("   - 색칠 완성작: {}개", coloringWorks);
-        log.info("   - 총 이미지: {}개", totalImages);
+        log.info("✅ 갤러리 통계 조회 완료 - 동화 이미지: {}개, 색칠 완성작: {}개, 총 이미지: {}개",
+                totalStoryImages, coloringWorks, totalImages);
 
         return GalleryStatsDTO.builder()
                 .totalImages(totalImages)
@@ -339,15 +433,38 @@ public class GalleryService {
      */
     private void mergeColoringImages(List<GalleryImageDTO> galleryImages, List<Gallery> galleries) {
         // Gallery 리스트를 Map으로 변환 (storyId를 키로)
-        var galleryMap = galleries.stream()
-                .collect(Collectors.toMap(Gallery::getStoryId, gallery -> gallery));
+        Map<Long, Gallery> galleryMap = galleries.stream()
+                .collect(Collectors.toMap(Gallery::getStoryId, Function.identity(), (first, second) -> first));
 
-        // GalleryImageDTO에 색칠 이미지 정보 병합
+        // GalleryImageDTO에 색칠 이미지 정보 병합 (색칠 완성작은 storyId에 ColoringWork ID가 들어 있으므로 제외)
         galleryImages.forEach(dto -> {
+            if (dto.isColoringWork()) {
+                return;
+            }
             Gallery gallery = galleryMap.get(dto.getStoryId());
             if (gallery != null) {
                 dto.setColoringImageUrl(gallery.getColoringImageUrl());
             }
         });
     }
-}
\ No newline at end of file
+
+    private String encodeCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !(TYPE_STORY.equals(parts[1]) || TYPE_COLORING.equals(parts[1]))) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.fairytale.fairytale.gallery.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GalleryTimelinePageDTO {
+    private List<GalleryImageDTO> images;
+    private String nextCursor;      // 다음 페이지 요청 시 그대로 전달 (없으면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,81 @@
+package com.fairytale.fairytale.like;
+
+import com.fairytale.fairytale.share.SharePostRepository;
+import com.fairytale.fairytale.stats.UserStatsService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ❤️ 좋아요 수 증감 버퍼 (선택 기능, LIKE_COUNTER_BUFFERED=true)
+ * 인기 게시물에 좋아요가 몰릴 때 like_count 행 갱신을 모아서 주기적으로 한 번에 반영한다.
+ * 작성자 통계(total_likes)도 같은 증감값을 같은 트랜잭션에서 반영해 두 값이 어긋나지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+
+    private final SharePostRepository sharePostRepository;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Value("${LIKE_COUNTER_BUFFERED:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(Long postId, long delta) {
+        pendingDeltas.merge(postId, delta, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 증감값
+    public long getPendingDelta(Long postId) {
+        return pendingDeltas.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${LIKE_COUNTER_FLUSH_MS:1000}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        int flushed = 0;
+        for (Long postId : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(postId);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    sharePostRepository.incrementLikeCount(postId, delta.intValue());
+                    userStatsService.applyLikeDelta(postId, delta.intValue());
+                });
+                flushed++;
+            } catch (Exception e) {
+                // 실패한 증감값은 다음 주기에 다시 반영
+                pendingDeltas.merge(postId, delta, Long::sum);
+                log.warn("⚠️ 좋아요 수 반영 실패 - PostId: {}, delta: {}, 오류: {}", postId, delta, e.getMessage());
+            }
+        }
+
+        if (flushed > 0) {
+            log.debug("❤️ 좋아요 수 일괄 반영 - {}개 게시물", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
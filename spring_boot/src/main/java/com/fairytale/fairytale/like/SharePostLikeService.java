@@ -0,0 +1,72 @@
+package com.fairytale.fairytale.like;
+
+import com.fairytale.fairytale.share.SharePostRepository;
+import com.fairytale.fairytale.stats.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ❤️ 공유 게시물 좋아요 서비스
+ * share_post_likes 한 행 INSERT/DELETE + like_count 원자적 증감 (likedUsers 컬렉션을 읽지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SharePostLikeService {
+
+    private final SharePostRepository sharePostRepository;
+    private final LikeCountBuffer likeCountBuffer;
+    private final UserStatsService userStatsService;
+
+    /**
+     * 🔄 좋아요 토글 - 결과가 좋아요 상태면 true
+     */
+    @Transactional
+    public boolean toggle(Long postId, Long userId) {
+        if (sharePostRepository.insertLike(postId, userId) == 1) {
+            applyDelta(postId, 1);
+            return true;
+        }
+        if (sharePostRepository.deleteLike(postId, userId) == 1) {
+            applyDelta(postId, -1);
+        }
+        return false;
+    }
+
+    /**
+     * ❤️ 좋아요 (이미 좋아요면 변화 없음)
+     */
+    @Transactional
+    public void like(Long postId, Long userId) {
+        if (sharePostRepository.insertLike(postId, userId) == 1) {
+            applyDelta(postId, 1);
+        }
+    }
+
+    /**
+     * 💔 좋아요 취소 (이미 취소 상태면 변화 없음)
+     */
+    @Transactional
+    public void unlike(Long postId, Long userId) {
+        if (sharePostRepository.deleteLike(postId, userId) == 1) {
+            applyDelta(postId, -1);
+        }
+    }
+
+    // 버퍼에 쌓인 미반영 증감값 포함 좋아요 수
+    public int resolveLikeCount(Long postId, int storedLikeCount) {
+        return (int) Math.max(0, storedLikeCount + likeCountBuffer.getPendingDelta(postId));
+    }
+
+    // 버퍼 사용 시 작성자 통계는 버퍼 flush에서 like_count와 함께 반영
+    private void applyDelta(Long postId, int delta) {
+        if (likeCountBuffer.isEnabled()) {
+            likeCountBuffer.add(postId, delta);
+        } else {
+            sharePostRepository.incrementLikeCount(postId, delta);
+            userStatsService.applyLikeDelta(postId, delta);
+        }
+    }
+}
@@ -205,19 +205,15 @@ public class LullabyController {
             String decodedThemeName = URLDecoder.decode(themeName, StandardCharsets.UTF_8);
             log.info("🔍 [LullabyController] 통합 검색 요청: {}", decodedThemeName);
 
-            // 음악과 영상을 동시에 검색
-            List<LullabyTheme> music = lullabyService.searchByTheme(decodedThemeName, limit);
-            List<LullabyVideoTheme> videos = lullabyService.searchVideosByTheme(decodedThemeName, limit);
-
-            CombinedLullabyContent combined = CombinedLullabyContent.builder()
-                    .music(music)
-                    .videos(videos)
-                    .theme(decodedThemeName)
-                    .totalCount(music.size() + videos.size())
-                    .build();
+            // 음악과 영상을 병렬로 검색 (제한 시간 안에 끝난 결과만 포함)
+            CombinedLullabyContent combined = lullabyService.searchCombined(decodedThemeName, limit);
 
-            return ResponseEntity.ok(ApiResponse.success(combined,
-                    "'" + decodedThemeName + "' 테마에서 음악 " + music.size() + "개, 영상 " + videos.size() + "개를 찾았습니다."));
+            String message = "'" + decodedThemeName + "' 테마에서 음악 " + combined.getMusic().size()
+                    + "개, 영상 " + combined.getVideos().size() + "개를 찾았습니다.";
+            if (combined.isPartial()) {
+                message += " (일부 결과는 시간 초과로 제외되었습니다.)";
+            }
+            return ResponseEntity.ok(ApiResponse.success(combined, message));
         } catch (Exception e) {
             log.error("❌ [LullabyController] 통합 검색 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,210 @@
+package com.fairytale.fairytale.lullaby;
+
+import com.fairytale.fairytale.lullaby.dto.JamendoTrack;
+import com.fairytale.fairytale.lullaby.dto.YouTubeVideo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 🎵 자장가 검색 결과 캐시 (정규화한 키워드 단위)
+ * - 같은 키워드의 동시 요청은 업스트림 호출 한 번을 함께 기다린다 (single-flight)
+ * - TTL이 지난 값은 그대로 응답하고 백그라운드에서 갱신한다 (stale-while-revalidate)
+ * - 업스트림이 실패하거나 빈 결과를 주면 마지막 정상 결과를 계속 사용하고, 잠시 갱신을 멈춘다
+ * - 처음 보는 키워드가 실패하면 그 키워드만 잠시 바로 실패시킨다 (장애 중 업스트림 호출 반복 방지)
+ * 재시도 대기 시각은 캐시 항목에 함께 들어 있어 LRU에서 밀려나면 같이 정리된다.
+ */
+@Slf4j
+@Component
+public class LullabySearchCache {
+
+    private static final String MUSIC = "music:";
+    private static final String VIDEO = "video:";
+
+    private final PythonApiService pythonApiService;
+    private final ThreadPoolTaskExecutor refreshExecutor;
+    private final Map<String, Entry> lruCache;
+    private final Map<String, CompletableFuture<List<?>>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${LULLABY_CACHE_TTL_SECONDS:900}")
+    private long ttlSeconds;
+
+    @Value("${LULLABY_CACHE_RETRY_SECONDS:60}")
+    private long retrySeconds;
+
+    // 📊 캐시 지표
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong upstreamFailures = new AtomicLong();
+    private final AtomicLong lastGoodFallbacks = new AtomicLong();
+
+    // value가 null이면 아직 정상 결과가 없는 키워드 (retryAfterMillis까지 바로 실패)
+    private record Entry(List<?> value, long fetchedAtMillis, long retryAfterMillis) {
+        boolean blocked(long now) {
+            return retryAfterMillis > now;
+        }
+
+        Entry blockUntil(long retryAfterMillis) {
+            return new Entry(value, fetchedAtMillis, retryAfterMillis);
+        }
+    }
+
+    public LullabySearchCache(PythonApiService pythonApiService,
+                              @Qualifier("lullabyRefreshExecutor") ThreadPoolTaskExecutor refreshExecutor,
+                              @Value("${LULLABY_CACHE_MAX_ENTRIES:256}") int maxEntries) {
+        this.pythonApiService = pythonApiService;
+        this.refreshExecutor = refreshExecutor;
+        this.lruCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public List<JamendoTrack> getMusic(String keyword) {
+        String normalized = normalize(keyword);
+        return get(MUSIC + normalized, () -> pythonApiService.searchMusicByTheme(normalized));
+    }
+
+    public List<YouTubeVideo> getVideos(String keyword) {
+        String normalized = normalize(keyword);
+        return get(VIDEO + normalized, () -> pythonApiService.searchVideosByTheme(normalized));
+    }
+
+    /**
+     * 🔥 프리웜: 음악/영상 결과를 백그라운드에서 미리 채움
+     */
+    public void prewarm(String keyword) {
+        String normalized = normalize(keyword);
+        refreshAsync(MUSIC + normalized, () -> pythonApiService.searchMusicByTheme(normalized));
+        refreshAsync(VIDEO + normalized, () -> pythonApiService.searchVideosByTheme(normalized));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> get(String key, Supplier<List<T>> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = lruCache.get(key);
+        if (entry != null && entry.value() != null) {
+            if (now - entry.fetchedAtMillis() < ttlSeconds * 1000L) {
+                hits.incrementAndGet();
+            } else {
+                staleHits.incrementAndGet();
+                refreshAsync(key, loader);
+            }
+            return (List<T>) entry.value();
+        }
+
+        // 최근에 실패한 키워드는 재시도 시각 전까지 업스트림을 부르지 않음
+        if (entry != null && entry.blocked(now)) {
+            negativeHits.incrementAndGet();
+            throw new RuntimeException("자장가 검색 재시도 대기 중: " + key);
+        }
+
+        // 처음 보는 키워드만 업스트림 응답을 기다림
+        misses.incrementAndGet();
+        return (List<T>) load(key, loader);
+    }
+
+    /**
+     * 🔁 single-flight 로드 (진행 중인 호출이 있으면 그 결과를 함께 기다림)
+     */
+    private List<?> load(String key, Supplier<? extends List<?>> loader) {
+        CompletableFuture<List<?>> mine = new CompletableFuture<>();
+        CompletableFuture<List<?>> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        try {
+            upstreamCalls.incrementAndGet();
+            List<?> result = store(key, loader.get());
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            upstreamFailures.incrementAndGet();
+            block(key);
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private void refreshAsync(String key, Supplier<? extends List<?>> loader) {
+        Entry entry = lruCache.get(key);
+        if (inFlight.containsKey(key) || (entry != null && entry.blocked(System.currentTimeMillis()))) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                load(key, loader);
+            } catch (RuntimeException e) {
+                lastGoodFallbacks.incrementAndGet();
+                log.warn("⚠️ 자장가 캐시 갱신 실패, 마지막 정상 결과 유지: {} ({})", key, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 💾 결과 저장 (빈 결과는 기존 정상 결과를 덮어쓰지 않음)
+     */
+    private List<?> store(String key, List<?> result) {
+        List<?> value = result != null ? List.copyOf(result) : List.of();
+        Entry previous = lruCache.get(key);
+        if (value.isEmpty() && previous != null && previous.value() != null && !previous.value().isEmpty()) {
+            lastGoodFallbacks.incrementAndGet();
+            block(key);
+            log.warn("⚠️ 자장가 검색 결과 없음, 이전 결과 유지: {}", key);
+            return previous.value();
+        }
+        lruCache.put(key, new Entry(value, System.currentTimeMillis(), 0L));
+        return value;
+    }
+
+    // ⏸️ 재시도 대기 (정상 결과가 있으면 유지한 채 갱신만 멈추고, 없으면 실패 항목으로 기록)
+    private void block(String key) {
+        long retryAfter = System.currentTimeMillis() + retrySeconds * 1000L;
+        lruCache.compute(key, (k, current) ->
+                current != null ? current.blockUntil(retryAfter) : new Entry(null, 0L, retryAfter));
+    }
+
+    private static String normalize(String keyword) {
+        return keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", lruCache.size());
+        stats.put("hits", hits.get());
+        stats.put("staleHits", staleHits.get());
+        stats.put("misses", misses.get());
+        stats.put("negativeHits", negativeHits.get());
+        stats.put("coalesced", coalesced.get());
+        stats.put("upstreamCalls", upstreamCalls.get());
+        stats.put("upstreamFailures", upstreamFailures.get());
+        stats.put("lastGoodFallbacks", lastGoodFallbacks.get());
+        stats.put("inFlight", inFlight.size());
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("retrySeconds", retrySeconds);
+        return stats;
+    }
+}
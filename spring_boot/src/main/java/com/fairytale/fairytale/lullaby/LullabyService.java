@@ -2,9 +2,15 @@ package com.fairytale.fairytale.lullaby;
 
 import com.fairytale.fairytale.lullaby.dto.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -12,6 +18,14 @@ import java.util.stream.Collectors;
 public class LullabyService {
 
     private final PythonApiService pythonApiService;
+    private final LullabySearchCache lullabySearchCache;
+    private final ThreadPoolTaskExecutor lullabySearchExecutor;
+
+    @Value("${LULLABY_COMBINED_BRANCH_TIMEOUT_MS:3000}")
+    private long combinedBranchTimeoutMs;
+
+    @Value("${LULLABY_COMBINED_TOTAL_TIMEOUT_MS:4000}")
+    private long combinedTotalTimeoutMs;
 
     // 테마 키워드 매핑
     private final Map<String, String> THEME_KEYWORDS = Map.of(
@@ -23,8 +37,26 @@ public class LullabyService {
             "클래식", "classical"
     );
 
-    public LullabyService(PythonApiService pythonApiService) {
+    private static final String DEFAULT_KEYWORD = "lullaby";
+
+    public LullabyService(PythonApiService pythonApiService,
+                          LullabySearchCache lullabySearchCache,
+                          @Qualifier("lullabySearchExecutor") ThreadPoolTaskExecutor lullabySearchExecutor) {
         this.pythonApiService = pythonApiService;
+        this.lullabySearchCache = lullabySearchCache;
+        this.lullabySearchExecutor = lullabySearchExecutor;
+    }
+
+    /**
+     * 🔥 기본/테마 검색 결과 프리웜 (시작 직후 + 주기적으로 TTL 전에 갱신)
+     */
+    @Scheduled(initialDelayString = "${LULLABY_PREWARM_INITIAL_DELAY_MS:5000}",
+            fixedDelayString = "${LULLABY_PREWARM_INTERVAL_MS:600000}")
+    public void prewarmThemes() {
+        lullabySearchCache.prewarm(DEFAULT_KEYWORD);
+        for (String themeName : getAvailableThemes()) {
+            lullabySearchCache.prewarm(THEME_KEYWORDS.get(themeName));
+        }
     }
 
     // ==================== 음악 검색 기능 ====================
@@ -32,7 +64,7 @@ public class LullabyService {
     public List<LullabyTheme> getDefaultLullabies() {
         try {
             log.info("🔍 [LullabyService] 기본 자장가 목록 조회 시작");
-            List<JamendoTrack> tracks = pythonApiService.searchMusicByTheme("lullaby");
+            List<JamendoTrack> tracks = lullabySearchCache.getMusic(DEFAULT_KEYWORD);
             List<LullabyTheme> themes = tracks.stream()
                     .map(this::convertToLullabyTheme)
                     .collect(Collectors.toList());
@@ -47,12 +79,7 @@ public class LullabyService {
     public List<LullabyTheme> searchByTheme(String themeName, int limit) {
         try {
             log.info("🔍 [LullabyService] 테마별 음악 검색 시작: {}", themeName);
-            String englishKeyword = THEME_KEYWORDS.getOrDefault(themeName, themeName);
-            List<JamendoTrack> tracks = pythonApiService.searchMusicByTheme(englishKeyword);
-            List<LullabyTheme> themes = tracks.stream()
-                    .limit(limit)
-                    .map(this::convertToLullabyTheme)
-                    .collect(Collectors.toList());
+            List<LullabyTheme> themes = loadMusicByTheme(themeName, limit);
             log.info("✅ [LullabyService] 테마 '{}' 음악 검색 완료: {}개", themeName, themes.size());
             return themes;
         } catch (Exception e) {
@@ -64,7 +91,7 @@ public class LullabyService {
     public List<LullabyTheme> searchByTag(String tag, int limit) {
         try {
             log.info("🔍 [LullabyService] 태그 음악 검색 시작: {}", tag);
-            List<JamendoTrack> tracks = pythonApiService.searchMusicByTheme(tag);
+            List<JamendoTrack> tracks = lullabySearchCache.getMusic(tag);
             List<LullabyTheme> themes = tracks.stream()
                     .limit(limit)
                     .map(this::convertToLullabyTheme)
@@ -82,12 +109,7 @@ public class LullabyService {
     public List<LullabyVideoTheme> searchVideosByTheme(String themeName, int limit) {
         try {
             log.info("🔍 [LullabyService] 테마별 영상 검색 시작: {}", themeName);
-            String englishKeyword = THEME_KEYWORDS.getOrDefault(themeName, themeName);
-            List<YouTubeVideo> videos = pythonApiService.searchVideosByTheme(englishKeyword);
-            List<LullabyVideoTheme> videoThemes = videos.stream()
-                    .limit(limit)
-                    .map(video -> convertToLullabyVideoTheme(video, themeName))
-                    .collect(Collectors.toList());
+            List<LullabyVideoTheme> videoThemes = loadVideosByTheme(themeName, limit);
             log.info("✅ [LullabyService] 테마 '{}' 영상 검색 완료: {}개", themeName, videoThemes.size());
             return videoThemes;
         } catch (Exception e) {
@@ -96,10 +118,27 @@ public class LullabyService {
         }
     }
 
+    // 캐시 조회 + 변환 (실패는 그대로 던짐 - 대체 결과는 호출하는 쪽에서 결정)
+    private List<LullabyTheme> loadMusicByTheme(String themeName, int limit) {
+        String englishKeyword = THEME_KEYWORDS.getOrDefault(themeName, themeName);
+        return lullabySearchCache.getMusic(englishKeyword).stream()
+                .limit(limit)
+                .map(this::convertToLullabyTheme)
+                .collect(Collectors.toList());
+    }
+
+    private List<LullabyVideoTheme> loadVideosByTheme(String themeName, int limit) {
+        String englishKeyword = THEME_KEYWORDS.getOrDefault(themeName, themeName);
+        return lullabySearchCache.getVideos(englishKeyword).stream()
+                .limit(limit)
+                .map(video -> convertToLullabyVideoTheme(video, themeName))
+                .collect(Collectors.toList());
+    }
+
     public List<LullabyVideoTheme> getDefaultLullabyVideos() {
         try {
             log.info("🔍 [LullabyService] 기본 자장가 영상 목록 조회 시작");
-            List<YouTubeVideo> videos = pythonApiService.searchVideosByTheme("lullaby");
+            List<YouTubeVideo> videos = lullabySearchCache.getVideos(DEFAULT_KEYWORD);
             List<LullabyVideoTheme> videoThemes = videos.stream()
                     .map(video -> convertToLullabyVideoTheme(video, "기본 자장가"))
                     .collect(Collectors.toList());
@@ -111,6 +150,72 @@ public class LullabyService {
         }
     }
 
+    // ==================== 통합 검색 기능 ====================
+
+    /**
+     * 🎶 음악 + 영상 동시 검색
+     * 두 검색을 병렬로 실행하고, 각 검색은 개별 제한 시간과 전체 제한 시간 중 빠른 쪽까지만 기다린다.
+     * 시간 안에 끝나지 않았거나 실패한 쪽은 빈 목록으로 두고 partial=true로 응답한다.
+     * (각 검색은 실패를 삼키지 않는 경로를 써서 업스트림 장애가 partial에 드러나게 함)
+     */
+    public CombinedLullabyContent searchCombined(String themeName, int limit) {
+        long startNanos = System.nanoTime();
+        long totalDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(combinedTotalTimeoutMs);
+        long branchDeadline = Math.min(totalDeadline, startNanos + TimeUnit.MILLISECONDS.toNanos(combinedBranchTimeoutMs));
+
+        CompletableFuture<List<LullabyTheme>> musicFuture = submit(() -> loadMusicByTheme(themeName, limit));
+        CompletableFuture<List<LullabyVideoTheme>> videoFuture = submit(() -> loadVideosByTheme(themeName, limit));
+
+        List<LullabyTheme> music = awaitBranch(musicFuture, branchDeadline, "음악", themeName);
+        List<LullabyVideoTheme> videos = awaitBranch(videoFuture, branchDeadline, "영상", themeName);
+        boolean partial = music == null || videos == null;
+
+        if (music == null) {
+            music = Collections.emptyList();
+        }
+        if (videos == null) {
+            videos = Collections.emptyList();
+        }
+
+        log.info("✅ [LullabyService] 테마 '{}' 통합 검색 완료: 음악 {}개, 영상 {}개, 부분결과={}, {}ms",
+                themeName, music.size(), videos.size(), partial,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        return CombinedLullabyContent.builder()
+                .music(music)
+                .videos(videos)
+                .theme(themeName)
+                .totalCount(music.size() + videos.size())
+                .partial(partial)
+                .build();
+    }
+
+    private <T> CompletableFuture<List<T>> submit(Supplier<List<T>> search) {
+        try {
+            return CompletableFuture.supplyAsync(search, lullabySearchExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // ⏱️ 마감 시각까지 결과를 기다림 (시간 초과/실패 시 null)
+    private <T> List<T> awaitBranch(CompletableFuture<List<T>> future, long deadlineNanos, String label, String themeName) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("⏱️ [LullabyService] 테마 '{}' {} 검색 제한 시간 초과", themeName, label);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("⚠️ [LullabyService] 테마 '{}' {} 검색 실패: {}", themeName, label, e.getMessage());
+            return null;
+        }
+    }
+
     // ==================== 공통 기능 ====================
 
     public List<String> getAvailableThemes() {
@@ -2,9 +2,14 @@ package com.fairytale.fairytale.lullaby;
 
 import com.fairytale.fairytale.lullaby.dto.JamendoTrack;
 import com.fairytale.fairytale.lullaby.dto.YouTubeVideo;
+import com.fairytale.fairytale.resilience.HealthMonitor;
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -21,16 +26,31 @@ import java.util.Map;
 public class PythonApiService {
 
     private final RestTemplate restTemplate;
+    private final ResilienceRegistry resilienceRegistry;
+    private final HealthMonitor healthMonitor;
 
     @Value("${python.fastapi.url:http://localhost:8000}")
     private String pythonApiUrl;
 
-    public PythonApiService(RestTemplate restTemplate) {
+    public PythonApiService(@Qualifier("restTemplate") RestTemplate restTemplate,
+                            ResilienceRegistry resilienceRegistry,
+                            HealthMonitor healthMonitor) {
         this.restTemplate = restTemplate;
+        this.resilienceRegistry = resilienceRegistry;
+        this.healthMonitor = healthMonitor;
+    }
+
+    @PostConstruct
+    void registerHealthProbe() {
+        healthMonitor.register(HealthMonitor.FASTAPI_LULLABY, Dependency.FASTAPI_LULLABY, () -> {
+            ResponseEntity<Map> response = restTemplate.getForEntity(pythonApiUrl + "/health", Map.class);
+            return response.getStatusCode() == HttpStatus.OK;
+        });
     }
 
     // ==================== 음악 검색 기능 ====================
 
+    // 🎯 호출 실패 시 예외 (캐시가 마지막 정상 결과로 대체할 수 있도록)
     public List<JamendoTrack> searchMusicByTheme(String theme) {
         try {
             String url = pythonApiUrl + "/search/url";
@@ -38,8 +58,8 @@ public class PythonApiService {
 
             log.info("🔍 [PythonApiService] 음악 검색 API 호출: {} -> {}", theme, url);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    url, requestBody, String.class);
+            ResponseEntity<String> response = resilienceRegistry.call(Dependency.FASTAPI_LULLABY, "lullaby-search", () ->
+                    restTemplate.postForEntity(url, requestBody, String.class));
 
             log.info("🔍 [PythonApiService] 음악 검색 응답 상태: {}", response.getStatusCode());
 
@@ -47,11 +67,11 @@ public class PythonApiService {
                 return parseMusicResponse(response.getBody());
             }
 
-            return Collections.emptyList();
+            throw new RuntimeException("음악 검색 API 응답 오류: " + response.getStatusCode());
 
         } catch (Exception e) {
-            log.error("❌ [PythonApiService] 음악 검색 API 호출 중 오류: {}", e.getMessage(), e);
-            return Collections.emptyList();
+            log.error("❌ [PythonApiService] 음악 검색 API 호출 중 오류: {}", e.getMessage());
+            throw new RuntimeException("음악 검색 API 호출 실패: " + e.getMessage(), e);
         }
     }
 
@@ -64,8 +84,8 @@ public class PythonApiService {
 
             log.info("🔍 [PythonApiService] 영상 검색 API 호출: {} -> {}", theme, url);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    url, requestBody, String.class);
+            ResponseEntity<String> response = resilienceRegistry.call(Dependency.FASTAPI_LULLABY, "lullaby-search", () ->
+                    restTemplate.postForEntity(url, requestBody, String.class));
 
             log.info("🔍 [PythonApiService] 영상 검색 응답 상태: {}", response.getStatusCode());
 
@@ -75,11 +95,11 @@ public class PythonApiService {
                 return parseVideoResponse(response.getBody());
             }
 
-            return Collections.emptyList();
+            throw new RuntimeException("영상 검색 API 응답 오류: " + response.getStatusCode());
 
         } catch (Exception e) {
-            log.error("❌ [PythonApiService] 영상 검색 API 호출 중 오류: {}", e.getMessage(), e);
-            return Collections.emptyList();
+            log.error("❌ [PythonApiService] 영상 검색 API 호출 중 오류: {}", e.getMessage());
+            throw new RuntimeException("영상 검색 API 호출 실패: " + e.getMessage(), e);
         }
     }
 
@@ -178,14 +198,8 @@ public class PythonApiService {
 
     // ==================== 공통 기능 ====================
 
+    // 📡 HealthMonitor 스냅샷 조회 (원격 호출 없음)
     public boolean isApiHealthy() {
-        try {
-            String healthUrl = pythonApiUrl + "/health";
-            ResponseEntity<Map> response = restTemplate.getForEntity(healthUrl, Map.class);
-            return response.getStatusCode() == HttpStatus.OK;
-        } catch (Exception e) {
-            log.error("❌ [PythonApiService] 파이썬 API 헬스체크 실패: {}", e.getMessage());
-            return false;
-        }
+        return healthMonitor.isUp(HealthMonitor.FASTAPI_LULLABY);
     }
 }
\ No newline at end of file
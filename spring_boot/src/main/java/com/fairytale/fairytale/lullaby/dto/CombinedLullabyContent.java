@@ -15,4 +15,5 @@ public class CombinedLullabyContent {
     private List<LullabyVideoTheme> videos;    // 영상 목록
     private String theme;                      // 검색 테마
     private int totalCount;                    // 전체 컨텐츠 수
+    private boolean partial;                   // 제한 시간 초과나 실패로 일부만 조회된 경우 true
 }
\ No newline at end of file
@@ -0,0 +1,242 @@
+package com.fairytale.fairytale.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🚚 아웃박스 폴러
+ * 작업 종류별로 등록된 스레드풀의 남은 큐 용량만큼만 임대해서 실행한다.
+ * 인스턴스마다 임대 소유자가 달라 여러 대가 동시에 폴링해도 같은 작업을 나눠 갖지 않고,
+ * 실행 중 JVM이 내려가면 임대 만료 후 다른 인스턴스가 다시 가져간다.
+ * 임대한 작업은 끝날 때까지 주기적으로 임대를 연장하므로(하트비트) 오래 걸리는 렌더링도 두 번 실행되지 않는다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+    private final String owner = resolveOwner();
+    private final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    @Value("${OUTBOX_BATCH_SIZE:10}")
+    private int batchSize;
+
+    @Value("${OUTBOX_LEASE_SECONDS:600}")
+    private long leaseSeconds;
+
+    // 임대 연장 주기 (임대 시간보다 충분히 짧아야 함)
+    @Value("${OUTBOX_HEARTBEAT_MS:60000}")
+    private long heartbeatMs;
+
+    @Value("${OUTBOX_BACKOFF_MS:5000}")
+    private long backoffMs;
+
+    @Value("${OUTBOX_MAX_BACKOFF_MS:600000}")
+    private long maxBackoffMs;
+
+    @Value("${OUTBOX_RETENTION_HOURS:72}")
+    private long retentionHours;
+
+    // 📊 처리 지표
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong leaseLost = new AtomicLong();
+    private final AtomicLong exhausted = new AtomicLong();
+
+    // 이 인스턴스가 임대 중인 작업 (큐 대기 + 실행 중)
+    private final Set<Long> leasedJobIds = ConcurrentHashMap.newKeySet();
+
+    private record Registration(ThreadPoolTaskExecutor executor, int maxAttempts, OutboxJobHandler handler) {
+    }
+
+    public OutboxDispatcher(OutboxService outboxService, ObjectMapper objectMapper) {
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 🔧 작업 종류 등록 (각 서비스의 @PostConstruct에서 호출)
+     */
+    public void register(String jobType, ThreadPoolTaskExecutor executor, int maxAttempts, OutboxJobHandler handler) {
+        registrations.put(jobType, new Registration(executor, maxAttempts, handler));
+        log.info("🔧 아웃박스 작업 종류 등록 - {} (최대 {}회)", jobType, maxAttempts);
+    }
+
+    @Scheduled(fixedDelayString = "${OUTBOX_POLL_MS:1000}", initialDelayString = "${OUTBOX_POLL_INITIAL_DELAY_MS:10000}")
+    public void poll() {
+        registrations.forEach(this::dispatch);
+    }
+
+    private void dispatch(String jobType, Registration registration) {
+        // 큐에 들어갈 수 있는 만큼만 가져감 (나머지는 다른 인스턴스 몫)
+        int capacity = Math.min(batchSize,
+                registration.executor().getThreadPoolExecutor().getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+
+        List<OutboxService.ClaimedJob> jobs;
+        try {
+            jobs = outboxService.claim(jobType, owner, capacity, leaseSeconds);
+        } catch (Exception e) {
+            log.warn("⚠️ 아웃박스 작업 임대 실패 - {}: {}", jobType, e.getMessage());
+            return;
+        }
+
+        for (OutboxService.ClaimedJob job : jobs) {
+            claimed.incrementAndGet();
+
+            // 임대 만료로 회수된 작업은 이미 최대 횟수만큼 실행됐을 수 있음 → 실행하지 않고 종료
+            if (job.attempt() > registration.maxAttempts()) {
+                exhausted.incrementAndGet();
+                giveUp(registration, job, parsePayload(job), "최대 시도 횟수 초과 (임대 만료 후 회수)");
+                continue;
+            }
+
+            leasedJobIds.add(job.id());
+            try {
+                registration.executor().execute(() -> run(registration, job));
+            } catch (TaskRejectedException e) {
+                // 실행하지 못했으므로 시도 횟수를 되돌려 반납
+                leasedJobIds.remove(job.id());
+                rejected.incrementAndGet();
+                outboxService.unclaim(job.id(), owner);
+            }
+        }
+    }
+
+    private void run(Registration registration, OutboxService.ClaimedJob job) {
+        try {
+            process(registration, job);
+        } finally {
+            leasedJobIds.remove(job.id());
+        }
+    }
+
+    private void process(Registration registration, OutboxService.ClaimedJob job) {
+        Map<String, Object> payload = null;
+        try {
+            payload = objectMapper.readValue(job.payload(), new TypeReference<Map<String, Object>>() {});
+            registration.handler().handle(payload);
+        } catch (Exception e) {
+            handleFailure(registration, job, payload, e);
+            return;
+        }
+
+        if (outboxService.complete(job.id(), owner)) {
+            completed.incrementAndGet();
+        } else {
+            leaseLost.incrementAndGet();
+            log.warn("⚠️ 아웃박스 작업 임대 만료 후 완료됨 - {}", job.idempotencyKey());
+        }
+    }
+
+    private void handleFailure(Registration registration, OutboxService.ClaimedJob job,
+                               Map<String, Object> payload, Exception e) {
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+
+        if (payload == null || job.attempt() >= registration.maxAttempts()) {
+            giveUp(registration, job, payload, error);
+            return;
+        }
+
+        long delay = Math.min(maxBackoffMs, backoffMs * (1L << Math.min(job.attempt() - 1, 20)));
+        retried.incrementAndGet();
+        log.warn("⚠️ 아웃박스 작업 실패, {}ms 후 재시도 ({}/{}) - {}, 오류: {}",
+                delay, job.attempt(), registration.maxAttempts(), job.idempotencyKey(), error);
+        outboxService.retry(job.id(), owner, delay, error);
+    }
+
+    private void giveUp(Registration registration, OutboxService.ClaimedJob job,
+                        Map<String, Object> payload, String error) {
+        failed.incrementAndGet();
+        log.error("❌ 아웃박스 작업 최종 실패 ({}회) - {}, 오류: {}", job.attempt(), job.idempotencyKey(), error);
+        outboxService.fail(job.id(), owner, error);
+        if (payload != null) {
+            try {
+                registration.handler().onGiveUp(payload, error);
+            } catch (Exception e) {
+                log.warn("⚠️ 아웃박스 최종 실패 처리 중 오류 - {}: {}", job.idempotencyKey(), e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, Object> parsePayload(OutboxService.ClaimedJob job) {
+        try {
+            return objectMapper.readValue(job.payload(), new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // 💓 이 인스턴스가 가진 임대 연장
+    @Scheduled(fixedDelayString = "${OUTBOX_HEARTBEAT_MS:60000}", initialDelayString = "${OUTBOX_HEARTBEAT_MS:60000}")
+    public void renewLeases() {
+        if (leasedJobIds.isEmpty()) {
+            return;
+        }
+        try {
+            outboxService.renewLeases(new ArrayList<>(leasedJobIds), owner, leaseSeconds);
+        } catch (Exception e) {
+            log.warn("⚠️ 아웃박스 임대 연장 실패 ({}건): {}", leasedJobIds.size(), e.getMessage());
+        }
+    }
+
+    // 🧹 완료된 작업 정리
+    @Scheduled(fixedDelayString = "${OUTBOX_PURGE_INTERVAL_MS:3600000}", initialDelayString = "${OUTBOX_PURGE_INTERVAL_MS:3600000}")
+    public void purgeDone() {
+        int deleted = outboxService.purgeDone(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("🧹 완료된 아웃박스 작업 정리: {}건", deleted);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("owner", owner);
+        stats.put("jobTypes", registrations.keySet());
+        stats.put("claimed", claimed.get());
+        stats.put("completed", completed.get());
+        stats.put("retried", retried.get());
+        stats.put("failed", failed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("leaseLost", leaseLost.get());
+        stats.put("exhausted", exhausted.get());
+        stats.put("leased", leasedJobIds.size());
+        stats.put("leaseSeconds", leaseSeconds);
+        stats.put("heartbeatMs", heartbeatMs);
+        stats.put("byStatus", outboxService.countByStatus());
+        return stats;
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,63 @@
+package com.fairytale.fairytale.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📮 트랜잭션 아웃박스 작업
+ * 업무 데이터(Story/SharePost)와 같은 트랜잭션에서 저장되고, OutboxDispatcher가 임대(lease)해서 실행한다.
+ * idempotencyKey가 같은 작업은 한 번만 등록된다.
+ */
+@Entity
+@Table(name = "outbox_job",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_job_idempotency_key", columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_outbox_job_claim", columnList = "job_type, status, available_at"))
+@Getter
+@NoArgsConstructor
+public class OutboxJob {
+
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType;
+
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;             // JSON
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;  // 이 시각 이후 실행 가능 (재시도 백오프)
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "leased_until")
+    private LocalDateTime leasedUntil;  // 임대 만료 후에는 다른 인스턴스가 다시 가져간다
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.fairytale.fairytale.outbox;
+
+import java.util.Map;
+
+/**
+ * 🛠️ 아웃박스 작업 처리기
+ * 같은 작업이 두 번 이상 실행될 수 있으므로(at-least-once) 재실행해도 결과가 같아야 한다.
+ * 예외를 던지면 백오프 후 재시도하고, 최대 시도 횟수를 넘기면 onGiveUp이 호출된다.
+ */
+@FunctionalInterface
+public interface OutboxJobHandler {
+
+    void handle(Map<String, Object> payload) throws Exception;
+
+    default void onGiveUp(Map<String, Object> payload, String error) {
+    }
+}
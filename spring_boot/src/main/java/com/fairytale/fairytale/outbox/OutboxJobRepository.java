@@ -0,0 +1,83 @@
+package com.fairytale.fairytale.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxJobRepository extends JpaRepository<OutboxJob, Long> {
+
+    // 📥 등록 - 같은 idempotency_key가 이미 있으면 무시 (업무 트랜잭션을 롤백시키지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO outbox_job (job_type, idempotency_key, payload, status, attempts, available_at, created_at, updated_at) " +
+            "VALUES (:jobType, :idempotencyKey, :payload, 'PENDING', 0, :now, :now, :now) " +
+            "ON CONFLICT (idempotency_key) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("jobType") String jobType,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("payload") String payload,
+                       @Param("now") LocalDateTime now);
+
+    // 🔒 실행할 작업 잠금 (다른 인스턴스가 잠근 행은 건너뜀, 임대가 만료된 RUNNING 작업도 회수)
+    @Query(value = "SELECT * FROM outbox_job " +
+            "WHERE job_type = :jobType " +
+            "AND ((status = 'PENDING' AND available_at <= :now) OR (status = 'RUNNING' AND leased_until < :now)) " +
+            "ORDER BY available_at LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxJob> lockAvailable(@Param("jobType") String jobType,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE outbox_job SET status = 'RUNNING', attempts = attempts + 1, lease_owner = :owner, " +
+            "leased_until = :leasedUntil, updated_at = :now WHERE id IN (:ids)", nativeQuery = true)
+    int lease(@Param("ids") List<Long> ids,
+              @Param("owner") String owner,
+              @Param("leasedUntil") LocalDateTime leasedUntil,
+              @Param("now") LocalDateTime now);
+
+    // ✅ 완료 (임대를 가진 인스턴스만 상태를 바꿀 수 있음)
+    @Modifying
+    @Query(value = "UPDATE outbox_job SET status = 'DONE', leased_until = NULL, last_error = NULL, updated_at = :now " +
+            "WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int markDone(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // 🔁 재시도 예약 또는 최종 실패
+    @Modifying
+    @Query(value = "UPDATE outbox_job SET status = :status, available_at = :availableAt, leased_until = NULL, " +
+            "last_error = :lastError, updated_at = :now " +
+            "WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int release(@Param("id") Long id,
+                @Param("owner") String owner,
+                @Param("status") String status,
+                @Param("availableAt") LocalDateTime availableAt,
+                @Param("lastError") String lastError,
+                @Param("now") LocalDateTime now);
+
+    // ↩️ 실행하지 못한 임대 반납 (시도 횟수를 되돌리고 바로 다시 실행 가능)
+    @Modifying
+    @Query(value = "UPDATE outbox_job SET status = 'PENDING', attempts = GREATEST(attempts - 1, 0), " +
+            "available_at = :now, leased_until = NULL, updated_at = :now " +
+            "WHERE id = :id AND lease_owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int unlease(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // 💓 실행 중인 작업의 임대 연장 (임대를 가진 인스턴스만)
+    @Modifying
+    @Query(value = "UPDATE outbox_job SET leased_until = :leasedUntil, updated_at = :now " +
+            "WHERE id IN (:ids) AND lease_owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int renewLeases(@Param("ids") Collection<Long> ids,
+                    @Param("owner") String owner,
+                    @Param("leasedUntil") LocalDateTime leasedUntil,
+                    @Param("now") LocalDateTime now);
+
+    // 🧹 보관 기간이 지난 완료 작업 삭제
+    @Modifying
+    @Query(value = "DELETE FROM outbox_job WHERE status = 'DONE' AND updated_at < :cutoff", nativeQuery = true)
+    int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "SELECT status, COUNT(*) FROM outbox_job GROUP BY status", nativeQuery = true)
+    List<Object[]> countByStatus();
+}
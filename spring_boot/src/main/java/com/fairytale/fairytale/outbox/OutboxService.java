@@ -0,0 +1,131 @@
+package com.fairytale.fairytale.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📮 아웃박스 저장소 접근 (등록 / 임대 / 연장 / 반납 / 완료 / 재시도)
+ * enqueue는 호출한 쪽의 트랜잭션에 참여하므로 업무 데이터와 작업이 함께 커밋되거나 함께 롤백된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxJobRepository outboxJobRepository;
+    private final ObjectMapper objectMapper;
+
+    // 임대한 작업 (attempt는 이번 실행의 시도 번호)
+    public record ClaimedJob(Long id, String jobType, String idempotencyKey, String payload, int attempt) {
+    }
+
+    /**
+     * 📥 작업 등록 (같은 idempotencyKey가 이미 있으면 무시)
+     * @return 새로 등록했으면 true
+     */
+    @Transactional
+    public boolean enqueue(String jobType, String idempotencyKey, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("아웃박스 작업 직렬화 실패: " + idempotencyKey, e);
+        }
+
+        boolean inserted = outboxJobRepository.insertIfAbsent(jobType, idempotencyKey, json, LocalDateTime.now()) > 0;
+        if (inserted) {
+            log.info("📮 아웃박스 작업 등록 - {} ({})", jobType, idempotencyKey);
+        } else {
+            log.info("✅ 이미 등록된 아웃박스 작업 - {}", idempotencyKey);
+        }
+        return inserted;
+    }
+
+    /**
+     * 🔒 실행 가능한 작업을 최대 limit개 임대 (SKIP LOCKED로 인스턴스 간 중복 없이 나눠 가짐)
+     */
+    @Transactional
+    public List<ClaimedJob> claim(String jobType, String owner, int limit, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxJob> jobs = outboxJobRepository.lockAvailable(jobType, now, limit);
+        if (jobs.isEmpty()) {
+            return List.of();
+        }
+
+        outboxJobRepository.lease(jobs.stream().map(OutboxJob::getId).toList(), owner, now.plusSeconds(leaseSeconds), now);
+        return jobs.stream()
+                .map(job -> new ClaimedJob(job.getId(), job.getJobType(), job.getIdempotencyKey(),
+                        job.getPayload(), job.getAttempts() + 1))
+                .toList();
+    }
+
+    // ✅ 완료 처리 (임대를 잃었으면 false)
+    @Transactional
+    public boolean complete(Long jobId, String owner) {
+        return outboxJobRepository.markDone(jobId, owner, LocalDateTime.now()) > 0;
+    }
+
+    // 🔁 delayMs 후 다시 실행 가능하도록 반환
+    @Transactional
+    public void retry(Long jobId, String owner, long delayMs, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxJobRepository.release(jobId, owner, OutboxJob.PENDING,
+                now.plusNanos(delayMs * 1_000_000L), truncate(error), now);
+    }
+
+    // ↩️ 실행하지 못한 작업 반납 (큐 포화 등 - 시도 횟수에 세지 않음)
+    @Transactional
+    public boolean unclaim(Long jobId, String owner) {
+        return outboxJobRepository.unlease(jobId, owner, LocalDateTime.now()) > 0;
+    }
+
+    // 💓 임대 연장 (연장된 작업 수)
+    @Transactional
+    public int renewLeases(Collection<Long> jobIds, String owner, long leaseSeconds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return outboxJobRepository.renewLeases(jobIds, owner, now.plusSeconds(leaseSeconds), now);
+    }
+
+    // ❌ 최종 실패 (더 이상 임대되지 않음)
+    @Transactional
+    public void fail(Long jobId, String owner, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxJobRepository.release(jobId, owner, OutboxJob.FAILED, now, truncate(error), now);
+    }
+
+    @Transactional
+    public int purgeDone(LocalDateTime cutoff) {
+        return outboxJobRepository.deleteDoneBefore(cutoff);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : outboxJobRepository.countByStatus()) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
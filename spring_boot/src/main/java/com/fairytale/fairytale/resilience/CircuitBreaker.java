@@ -0,0 +1,166 @@
+package com.fairytale.fairytale.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 🔌 서킷 브레이커 (최근 N번 호출의 실패율 기준)
+ * CLOSED → 실패율 초과 시 OPEN → openMillis 후 HALF_OPEN (시험 호출 1건) → 성공 시 CLOSED / 실패 시 다시 OPEN
+ * 헬스 프로브가 등록된 의존성은 프로브만 시험 호출이 된다 (수 분짜리 생성 호출이 시험 호출로 붙잡히지 않도록).
+ */
+@Slf4j
+class CircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final boolean[] outcomes;   // true = 실패
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int recorded;
+    private int failures;
+    private long openUntilMillis;
+    private boolean trialInFlight;
+    private boolean probeTrial;
+    private long openedCount;
+    private long rejectedCount;
+
+    CircuitBreaker(String name, int windowSize, int minCalls, double failureRateThreshold, long openMillis) {
+        this.name = name;
+        this.outcomes = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+    }
+
+    // 이후 반열림 시험은 헬스 프로브만 (일반 호출은 회로가 닫힐 때까지 차단)
+    synchronized void useProbeAsTrial() {
+        probeTrial = true;
+    }
+
+    // 일반 호출 허용 여부 (HALF_OPEN이면 시험 호출 1건만 허용)
+    synchronized boolean tryAcquire() {
+        return acquire(false);
+    }
+
+    // 헬스 프로브 허용 여부 (열린 뒤 대기 시간이 지났으면 시험 호출이 됨)
+    synchronized boolean tryAcquireProbe() {
+        return acquire(true);
+    }
+
+    private boolean acquire(boolean probe) {
+        boolean trialAllowed = probe || !probeTrial;
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() < openUntilMillis || !trialAllowed) {
+                rejectedCount++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+            log.info("🔌 회로 반열림, 시험 호출 허용 - {}", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight || !trialAllowed) {
+                rejectedCount++;
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            log.info("✅ 회로 닫힘 (복구 확인) - {}", name);
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && recorded >= minCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    // 헬스 프로브 결과 - 반열림 시험일 때만 회로를 닫거나 다시 열고, 닫혀 있으면 실패율에 넣지 않음
+    synchronized void onProbeResult(boolean healthy) {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        if (healthy) {
+            log.info("✅ 회로 닫힘 (헬스 프로브 복구 확인) - {}", name);
+            reset();
+        } else {
+            open();
+        }
+    }
+
+    // 성공도 실패도 아닌 호출 (4xx 등) - 실패율에 넣지 않고, 시험 호출이었다면 다음 호출이 다시 시험
+    synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    // 열려 있어도 대기 시간이 지났으면 시험 호출이 가능하므로 사용 가능으로 본다 (프로브 시험이면 닫힐 때까지 불가)
+    synchronized boolean isAvailable() {
+        if (probeTrial) {
+            return state == State.CLOSED;
+        }
+        return state != State.OPEN || System.currentTimeMillis() >= openUntilMillis;
+    }
+
+    private void record(boolean failed) {
+        if (recorded == outcomes.length) {
+            if (outcomes[index]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[index] = failed;
+        if (failed) {
+            failures++;
+        }
+        index = (index + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntilMillis = System.currentTimeMillis() + openMillis;
+        trialInFlight = false;
+        openedCount++;
+        log.warn("⛔ 회로 열림 - {} ({}ms 동안 호출 차단)", name, openMillis);
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        index = 0;
+        recorded = 0;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("probeTrial", probeTrial);
+        stats.put("recentCalls", recorded);
+        stats.put("failureRate", recorded > 0 ? (double) failures / recorded : 0.0);
+        stats.put("openedCount", openedCount);
+        stats.put("rejectedCalls", rejectedCount);
+        stats.put("openRemainingMs", state == State.OPEN ? Math.max(0, openUntilMillis - System.currentTimeMillis()) : 0);
+        return stats;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fairytale.fairytale.resilience;
+
+/**
+ * ⛔ 회로가 열려 있어 외부 호출을 바로 거절함 (장애 중 빠른 실패)
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String dependency) {
+        super("외부 서비스 일시 차단 중: " + dependency);
+    }
+}
@@ -0,0 +1,185 @@
+package com.fairytale.fairytale.resilience;
+
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 📡 외부 의존성 헬스 모니터
+ * S3, FastAPI(생성 /health, 영상 /video/test, 자장가 /health), DB를 주기적으로 확인해 최신 상태/지연 시간을 메모리에 보관한다.
+ * is*Available 확인은 원격 호출 없이 이 스냅샷만 읽는다.
+ * 각 서비스가 @PostConstruct에서 자기 프로브를 등록하고, 프로브는 healthProbeExecutor에서 실행된다.
+ * 의존성이 있는 프로브는 그 의존성 회로의 반열림 시험 호출만 맡는다 (닫힌 회로의 실패율에는 넣지 않음).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HealthMonitor {
+
+    public static final String S3 = "s3";
+    public static final String FASTAPI_GENERATION = "fastapi-generation";
+    public static final String FASTAPI_VIDEO = "fastapi-video";
+    public static final String FASTAPI_LULLABY = "fastapi-lullaby";
+    public static final String DATABASE = "database";
+
+    private final ResilienceRegistry resilienceRegistry;
+    private final DataSource dataSource;
+    @Qualifier("healthProbeExecutor")
+    private final ThreadPoolTaskExecutor probeExecutor;
+
+    @Value("${HEALTH_DB_VALIDATION_SECONDS:2}")
+    private int dbValidationSeconds;
+
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    public enum Status { UNKNOWN, UP, DOWN }
+
+    // 마지막 확인 결과
+    public record Snapshot(Status status, long latencyMs, long checkedAtMillis, String error) {
+        static final Snapshot UNKNOWN = new Snapshot(Status.UNKNOWN, 0, 0, null);
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("status", status.name());
+            map.put("latencyMs", latencyMs);
+            map.put("checkedAt", checkedAtMillis);
+            if (error != null) {
+                map.put("error", error);
+            }
+            return map;
+        }
+    }
+
+    private static final class Target {
+        final String name;
+        final Dependency dependency; // null이면 서킷 브레이커 없이 확인 (DB)
+        final BooleanSupplier probe;
+        final AtomicBoolean inFlight = new AtomicBoolean();
+        volatile Snapshot snapshot = Snapshot.UNKNOWN;
+
+        Target(String name, Dependency dependency, BooleanSupplier probe) {
+            this.name = name;
+            this.dependency = dependency;
+            this.probe = probe;
+        }
+    }
+
+    @PostConstruct
+    void registerDatabase() {
+        register(DATABASE, null, () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                return connection.isValid(dbValidationSeconds);
+            } catch (SQLException e) {
+                throw new RuntimeException("DB 연결 확인 실패: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 📝 프로브 등록 (probe는 정상이면 true, 실패는 false 또는 예외)
+     */
+    public void register(String name, Dependency dependency, BooleanSupplier probe) {
+        targets.put(name, new Target(name, dependency, probe));
+        if (dependency != null) {
+            resilienceRegistry.registerProbe(dependency);
+        }
+        log.info("📡 헬스 프로브 등록 - {}", name);
+    }
+
+    /**
+     * ✅ 사용 가능 여부 (메모리 조회만, 아직 확인 전이면 사용 가능으로 봄)
+     * 의존성의 회로가 열려 있으면 마지막 프로브 결과와 관계없이 false.
+     */
+    public boolean isUp(String name) {
+        Target target = targets.get(name);
+        if (target == null) {
+            return true;
+        }
+        if (target.dependency != null && !resilienceRegistry.isAvailable(target.dependency)) {
+            return false;
+        }
+        return target.snapshot.status() != Status.DOWN;
+    }
+
+    public Snapshot getSnapshot(String name) {
+        Target target = targets.get(name);
+        return target != null ? target.snapshot : Snapshot.UNKNOWN;
+    }
+
+    // ⏰ 주기적 확인 - 이전 확인이 아직 끝나지 않은 대상은 건너뜀
+    @Scheduled(fixedDelayString = "${HEALTH_PROBE_INTERVAL_MS:15000}")
+    public void probeAll() {
+        for (Target target : targets.values()) {
+            if (!target.inFlight.compareAndSet(false, true)) {
+                continue;
+            }
+            try {
+                probeExecutor.execute(() -> {
+                    try {
+                        probe(target);
+                    } finally {
+                        target.inFlight.set(false);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                target.inFlight.set(false);
+                log.warn("⚠️ 헬스 프로브 큐 가득 참, 다음 주기에 확인 - {}", target.name);
+            }
+        }
+    }
+
+    private void probe(Target target) {
+        long startedAt = System.nanoTime();
+        Snapshot result;
+        try {
+            if (target.dependency != null) {
+                resilienceRegistry.probe(target.dependency, target.name, target.probe);
+                result = new Snapshot(Status.UP, elapsedMs(startedAt), System.currentTimeMillis(), null);
+            } else if (target.probe.getAsBoolean()) {
+                result = new Snapshot(Status.UP, elapsedMs(startedAt), System.currentTimeMillis(), null);
+            } else {
+                result = new Snapshot(Status.DOWN, elapsedMs(startedAt), System.currentTimeMillis(),
+                        target.name + " 헬스체크 실패");
+            }
+        } catch (RuntimeException e) {
+            result = new Snapshot(Status.DOWN, elapsedMs(startedAt), System.currentTimeMillis(), e.getMessage());
+        }
+
+        Status previous = target.snapshot.status();
+        target.snapshot = result;
+        if (previous != result.status()) {
+            if (result.status() == Status.UP) {
+                log.info("✅ {} 상태 변경: {} → UP ({}ms)", target.name, previous, result.latencyMs());
+            } else {
+                log.warn("⚠️ {} 상태 변경: {} → DOWN - {}", target.name, previous, result.error());
+            }
+        }
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000L;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        targets.forEach((name, target) -> stats.put(name, target.snapshot.toMap()));
+        return stats;
+    }
+}
@@ -0,0 +1,59 @@
+package com.fairytale.fairytale.resilience;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ⏱️ 작업별 응답 시간 기록 + 적응형 타임아웃
+ * 최근 성공 호출의 p99 × 배수를 [최소, 최대] 범위로 잘라 다음 호출의 읽기 타임아웃으로 쓴다.
+ * 표본이 모이기 전에는 최대값(기존 고정 타임아웃)을 사용한다.
+ */
+class LatencyTracker {
+
+    private final long[] samples;
+    private final long minTimeoutMs;
+    private final long maxTimeoutMs;
+    private int index;
+    private int count;
+
+    LatencyTracker(int sampleSize, long minTimeoutMs, long maxTimeoutMs) {
+        this.samples = new long[sampleSize];
+        this.minTimeoutMs = minTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+    }
+
+    synchronized void record(long millis) {
+        samples[index] = millis;
+        index = (index + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    synchronized long timeoutMs(int minSamples, double multiplier) {
+        if (count < minSamples) {
+            return maxTimeoutMs;
+        }
+        long adaptive = (long) (percentile(0.99) * multiplier);
+        return Math.max(minTimeoutMs, Math.min(maxTimeoutMs, adaptive));
+    }
+
+    private long percentile(double p) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+    }
+
+    synchronized Map<String, Object> stats(int minSamples, double multiplier) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("samples", count);
+        stats.put("p50Ms", count > 0 ? percentile(0.50) : 0);
+        stats.put("p99Ms", count > 0 ? percentile(0.99) : 0);
+        stats.put("timeoutMs", timeoutMs(minSamples, multiplier));
+        stats.put("minTimeoutMs", minTimeoutMs);
+        stats.put("maxTimeoutMs", maxTimeoutMs);
+        return stats;
+    }
+}
@@ -0,0 +1,193 @@
+package com.fairytale.fairytale.resilience;
+
+import com.amazonaws.AmazonServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 🛡️ 외부 의존성 보호 (FastAPI / S3)
+ * - 의존성별 서킷 브레이커: 장애 중에는 900초 타임아웃을 기다리지 않고 바로 실패
+ *   S3는 S3Service의 업로드/다운로드가 실제 호출로 실패율을 채운다.
+ *   FastAPI는 작업 묶음(생성 / 비디오 / 자장가)마다 따로 둬서 한쪽 장애가 다른 쪽을 막지 않는다.
+ * - 작업별 적응형 타임아웃: 최근 응답 시간 p99 기준으로 읽기 타임아웃을 줄임 (RestTemplateConfig가 적용)
+ * - 헬스 프로브: 프로브가 등록된 의존성은 열린 회로의 반열림 시험을 짧은 프로브 호출로만 한다
+ *   (닫힌 회로의 실패율에는 실제 호출만 반영)
+ */
+@Slf4j
+@Component
+public class ResilienceRegistry {
+
+    public enum Dependency {
+        FASTAPI_GENERATION, // story, image, voice, bw-convert
+        FASTAPI_VIDEO,      // video, thumbnail
+        FASTAPI_LULLABY,    // lullaby-search
+        S3
+    }
+
+    // 헬스 프로브 작업 이름 접두사 (대상마다 "health-" + 대상으로 지연 시간을 따로 잰다)
+    private static final String HEALTH_OPERATION = "health";
+
+    // 작업별 타임아웃 범위 [최소, 최대] - 최대값은 기존 고정 읽기 타임아웃
+    private static final Map<String, long[]> TIMEOUT_BOUNDS = Map.of(
+            "story", new long[]{30_000, 900_000},
+            "image", new long[]{30_000, 900_000},
+            "voice", new long[]{30_000, 900_000},
+            "bw-convert", new long[]{10_000, 900_000},
+            "video", new long[]{30_000, 600_000},
+            "thumbnail", new long[]{10_000, 600_000},
+            "lullaby-search", new long[]{2_000, 30_000},
+            "s3-upload", new long[]{5_000, 600_000},    // S3는 SDK 클라이언트 타임아웃을 쓰고 여기서는 지연 시간만 잰다
+            "s3-download", new long[]{2_000, 60_000},
+            HEALTH_OPERATION, new long[]{1_000, 5_000});
+    private static final long[] DEFAULT_BOUNDS = {10_000, 900_000};
+
+    // 현재 스레드에서 진행 중인 호출의 읽기 타임아웃 (RestTemplateConfig가 요청마다 읽음)
+    private static final ThreadLocal<Long> CURRENT_TIMEOUT_MS = new ThreadLocal<>();
+
+    private final Map<Dependency, CircuitBreaker> breakers = new EnumMap<>(Dependency.class);
+    private final Map<String, LatencyTracker> trackers = new ConcurrentHashMap<>();
+
+    @Value("${RESILIENCE_TIMEOUT_MULTIPLIER:3.0}")
+    private double timeoutMultiplier;
+
+    @Value("${RESILIENCE_TIMEOUT_MIN_SAMPLES:20}")
+    private int timeoutMinSamples;
+
+    @Value("${RESILIENCE_LATENCY_SAMPLES:200}")
+    private int latencySamples;
+
+    public ResilienceRegistry(@Value("${RESILIENCE_WINDOW_SIZE:20}") int windowSize,
+                              @Value("${RESILIENCE_MIN_CALLS:5}") int minCalls,
+                              @Value("${RESILIENCE_FAILURE_RATE:0.5}") double failureRate,
+                              @Value("${RESILIENCE_OPEN_SECONDS:30}") long openSeconds) {
+        for (Dependency dependency : Dependency.values()) {
+            breakers.put(dependency, new CircuitBreaker(dependency.name(), windowSize, minCalls, failureRate, openSeconds * 1000L));
+        }
+    }
+
+    /**
+     * 🛡️ 보호된 외부 호출 - 회로가 열려 있으면 CircuitOpenException
+     * 4xx 응답은 서버는 살아 있지만 요청이 잘못된 것이므로 성공도 실패도 아닌 호출로 본다 (실패율에서 제외).
+     * S3 SDK의 4xx(없는 키, 잘못된 Range 등)도 같다.
+     */
+    public <T> T call(Dependency dependency, String operation, Supplier<T> call) {
+        CircuitBreaker breaker = breakers.get(dependency);
+        if (!breaker.tryAcquire()) {
+            log.warn("⛔ {} 호출 차단 (회로 열림) - {}", dependency, operation);
+            throw new CircuitOpenException(dependency.name());
+        }
+        try {
+            T result = timed(operation, call);
+            breaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (isClientError(e)) {
+                breaker.onIgnored();
+            } else {
+                breaker.onFailure();
+            }
+            throw e;
+        } catch (Error e) {
+            breaker.onFailure();
+            throw e;
+        }
+    }
+
+    private static boolean isClientError(RuntimeException e) {
+        if (e instanceof HttpClientErrorException) {
+            return true;
+        }
+        return e instanceof AmazonServiceException ase && ase.getStatusCode() >= 400 && ase.getStatusCode() < 500;
+    }
+
+    // 작업별 적응형 타임아웃을 걸고 실행, 성공한 호출의 지연 시간 기록
+    private <T> T timed(String operation, Supplier<T> call) {
+        LatencyTracker tracker = tracker(operation);
+        Long previousTimeout = CURRENT_TIMEOUT_MS.get();
+        CURRENT_TIMEOUT_MS.set(tracker.timeoutMs(timeoutMinSamples, timeoutMultiplier));
+        long startedAt = System.nanoTime();
+        try {
+            T result = call.get();
+            tracker.record((System.nanoTime() - startedAt) / 1_000_000L);
+            return result;
+        } finally {
+            if (previousTimeout != null) {
+                CURRENT_TIMEOUT_MS.set(previousTimeout);
+            } else {
+                CURRENT_TIMEOUT_MS.remove();
+            }
+        }
+    }
+
+    /**
+     * 📝 헬스 프로브 등록 (HealthMonitor 전용) - 이후 이 의존성의 반열림 시험은 프로브만 한다
+     */
+    void registerProbe(Dependency dependency) {
+        breakers.get(dependency).useProbeAsTrial();
+    }
+
+    /**
+     * 📡 헬스 프로브 실행 (HealthMonitor 전용) - 실패하면 예외
+     * 회로가 열린 뒤 대기 시간이 지났으면 이 프로브가 반열림 시험 호출이 된다.
+     * 닫힌 회로에서는 결과를 실패율에 넣지 않는다 (한가할 때 프로브만으로 회로가 열리지 않도록).
+     * 헬스 엔드포인트의 4xx는 실패로 본다.
+     */
+    void probe(Dependency dependency, String target, BooleanSupplier probe) {
+        CircuitBreaker breaker = breakers.get(dependency);
+        if (!breaker.tryAcquireProbe()) {
+            throw new CircuitOpenException(dependency.name());
+        }
+
+        boolean healthy = false;
+        try {
+            healthy = timed(HEALTH_OPERATION + "-" + target, probe::getAsBoolean);
+        } catch (HttpClientErrorException e) {
+            throw new IllegalStateException(target + " 헬스체크 실패: " + e.getStatusCode(), e);
+        } finally {
+            breaker.onProbeResult(healthy);
+        }
+        if (!healthy) {
+            throw new IllegalStateException(target + " 헬스체크 실패");
+        }
+    }
+
+    public boolean isAvailable(Dependency dependency) {
+        return breakers.get(dependency).isAvailable();
+    }
+
+    /**
+     * ⏱️ 현재 스레드의 보호된 호출에 적용할 읽기 타임아웃 (보호된 호출 밖이면 null)
+     */
+    public static Long currentTimeoutMs() {
+        return CURRENT_TIMEOUT_MS.get();
+    }
+
+    private LatencyTracker tracker(String operation) {
+        return trackers.computeIfAbsent(operation, op -> {
+            String boundsKey = op.startsWith(HEALTH_OPERATION + "-") ? HEALTH_OPERATION : op;
+            long[] bounds = TIMEOUT_BOUNDS.getOrDefault(boundsKey, DEFAULT_BOUNDS);
+            return new LatencyTracker(latencySamples, bounds[0], bounds[1]);
+        });
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> dependencies = new LinkedHashMap<>();
+        breakers.forEach((dependency, breaker) -> dependencies.put(dependency.name(), breaker.stats()));
+
+        Map<String, Object> operations = new TreeMap<>();
+        trackers.forEach((operation, tracker) ->
+                operations.put(operation, tracker.stats(timeoutMinSamples, timeoutMultiplier)));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("circuitBreakers", dependencies);
+        stats.put("timeouts", operations);
+        return stats;
+    }
+}
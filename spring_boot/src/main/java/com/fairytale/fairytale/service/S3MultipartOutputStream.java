@@ -0,0 +1,154 @@
+// src/main/java/com/fairytale/fairytale/service/S3MultipartOutputStream.java
+package com.fairytale.fairytale.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📤 S3 멀티파트 업로드용 OutputStream
+ * 파트 크기(5MB) 버퍼 하나만 사용하므로 전체 파일을 메모리/디스크에 올리지 않는다.
+ * 전체 크기가 한 파트보다 작으면 일반 putObject로 업로드한다.
+ */
+public class S3MultipartOutputStream extends OutputStream {
+
+    static final int PART_SIZE = 5 * 1024 * 1024; // S3 최소 파트 크기
+
+    private final AmazonS3 amazonS3;
+    private final String bucketName;
+    private final String key;
+    private final ObjectMetadata metadata;
+
+    private final byte[] buffer = new byte[PART_SIZE];
+    private int position = 0;
+    private long totalBytes = 0;
+
+    private String uploadId;
+    private final List<PartETag> partETags = new ArrayList<>();
+    private boolean closed = false;
+
+    public S3MultipartOutputStream(AmazonS3 amazonS3, String bucketName, String key, ObjectMetadata metadata) {
+        this.amazonS3 = amazonS3;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+        totalBytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, count);
+            position += count;
+            totalBytes += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * ✅ 업로드 완료 (남은 버퍼 전송 후 멀티파트 완료)
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            if (uploadId == null) {
+                // 한 파트보다 작으면 단일 업로드
+                metadata.setContentLength(position);
+                amazonS3.putObject(new PutObjectRequest(
+                        bucketName, key, new ByteArrayInputStream(buffer, 0, position), metadata));
+                return;
+            }
+
+            if (position > 0) {
+                uploadPart();
+            }
+            amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+        } catch (RuntimeException e) {
+            abortQuietly();
+            throw new IOException("S3 업로드 완료 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 🗑️ 업로드 취소 (이미 올라간 파트 정리)
+     */
+    public void abort() {
+        closed = true;
+        abortQuietly();
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void uploadPart() throws IOException {
+        try {
+            if (uploadId == null) {
+                uploadId = amazonS3.initiateMultipartUpload(
+                        new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+            }
+
+            UploadPartRequest partRequest = new UploadPartRequest()
+                    .withBucketName(bucketName)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partETags.size() + 1)
+                    .withInputStream(new ByteArrayInputStream(buffer, 0, position))
+                    .withPartSize(position);
+
+            partETags.add(amazonS3.uploadPart(partRequest).getPartETag());
+            position = 0;
+        } catch (RuntimeException e) {
+            abort();
+            throw new IOException("S3 파트 업로드 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void abortQuietly() {
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+        } catch (RuntimeException ignored) {
+            // 정리 실패는 S3 라이프사이클 규칙에 맡긴다
+        }
+        uploadId = null;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 S3 업로드 스트림입니다: " + key);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+// src/main/java/com/fairytale/fairytale/service/S3MultipartUploader.java
+package com.fairytale.fairytale.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.util.Base64;
+import com.amazonaws.util.BinaryUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 📤 로컬 파일 S3 업로드 엔진
+ * 임계값 미만은 단일 putObject, 이상은 멀티파트 업로드(파트 병렬 전송 + 파트 단위 재시도)로 처리한다.
+ * 모든 요청에 Content-MD5를 지정해 S3가 손상된 전송을 거부하도록 하고, 응답 ETag도 다시 대조한다.
+ */
+@Slf4j
+@Component
+public class S3MultipartUploader {
+
+    private static final long MB = 1024L * 1024L;
+    private static final long MIN_PART_SIZE = 5 * MB; // S3 최소 파트 크기
+    private static final int MAX_PARTS = 10_000;      // S3 최대 파트 수
+
+    private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor s3UploadExecutor;
+
+    @Value("${S3_MULTIPART_THRESHOLD_MB:16}")
+    private long multipartThresholdMb;
+
+    @Value("${S3_MULTIPART_PART_SIZE_MB:8}")
+    private long partSizeMb;
+
+    @Value("${S3_UPLOAD_PART_MAX_ATTEMPTS:3}")
+    private int partMaxAttempts;
+
+    @Value("${S3_UPLOAD_PART_BACKOFF_MS:500}")
+    private long partBackoffMs;
+
+    // 📊 업로드 지표
+    private final AtomicLong singlePartUploads = new AtomicLong();
+    private final AtomicLong multipartUploads = new AtomicLong();
+    private final AtomicLong failedUploads = new AtomicLong();
+    private final AtomicLong partRetries = new AtomicLong();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicLong uploadNanos = new AtomicLong();
+
+    public S3MultipartUploader(AmazonS3 amazonS3,
+                               @Qualifier("s3UploadExecutor") ThreadPoolTaskExecutor s3UploadExecutor) {
+        this.amazonS3 = amazonS3;
+        this.s3UploadExecutor = s3UploadExecutor;
+    }
+
+    /**
+     * 🚀 파일 업로드 (크기에 따라 단일/멀티파트 자동 선택)
+     * @return 업로드된 객체의 ETag
+     */
+    public String upload(String bucketName, String key, File file, ObjectMetadata metadata) {
+        long size = file.length();
+        long startNanos = System.nanoTime();
+        try {
+            String eTag = size < multipartThresholdMb * MB
+                    ? uploadSinglePart(bucketName, key, file, metadata)
+                    : uploadMultipart(bucketName, key, file, metadata, size);
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            uploadedBytes.addAndGet(size);
+            uploadNanos.addAndGet(elapsedNanos);
+            log.info("✅ S3 업로드 완료: {} ({} bytes, {} ms, {} MB/s)",
+                    key, size, elapsedNanos / 1_000_000, String.format("%.2f", throughputMbPerSec(size, elapsedNanos)));
+            return eTag;
+        } catch (RuntimeException e) {
+            failedUploads.incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * 📄 단일 파트 업로드 (Content-MD5 검증)
+     */
+    private String uploadSinglePart(String bucketName, String key, File file, ObjectMetadata metadata) {
+        byte[] md5 = md5(file, 0, file.length());
+        metadata.setContentLength(file.length());
+        metadata.setContentMD5(Base64.encodeAsString(md5));
+
+        PutObjectResult result = amazonS3.putObject(new PutObjectRequest(bucketName, key, file).withMetadata(metadata));
+        verifyETag(result.getETag(), md5, key);
+        singlePartUploads.incrementAndGet();
+        return result.getETag();
+    }
+
+    /**
+     * 🧩 멀티파트 업로드 (파트 병렬 전송, 실패 시 업로드 중단)
+     */
+    private String uploadMultipart(String bucketName, String key, File file, ObjectMetadata metadata, long size) {
+        long partSize = resolvePartSize(size);
+        int partCount = (int) ((size + partSize - 1) / partSize);
+        log.info("🧩 멀티파트 업로드 시작: {} ({} bytes, 파트 {}개 x {} bytes)", key, size, partCount, partSize);
+
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, key, metadata)).getUploadId();
+
+        try {
+            List<CompletableFuture<PartETag>> futures = new ArrayList<>(partCount);
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                long offset = (partNumber - 1) * partSize;
+                long length = Math.min(partSize, size - offset);
+                int number = partNumber;
+                futures.add(submitPart(
+                        () -> uploadPartWithRetry(bucketName, key, uploadId, file, number, offset, length)));
+            }
+
+            List<PartETag> partETags = new ArrayList<>(partCount);
+            for (CompletableFuture<PartETag> future : futures) {
+                partETags.add(future.join());
+            }
+
+            CompleteMultipartUploadResult result = amazonS3.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            multipartUploads.incrementAndGet();
+            return result.getETag();
+
+        } catch (RuntimeException e) {
+            abortQuietly(bucketName, key, uploadId);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("S3 멀티파트 업로드 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 📨 파트 전송 작업 제출
+     * 큐가 가득 차면 호출 스레드에서 직접 전송해 속도를 맞추고, 풀이 종료됐으면 실패한 future를 돌려준다.
+     * (CallerRunsPolicy는 종료된 풀에서 작업을 조용히 버려 join()이 영원히 대기하므로 직접 처리)
+     */
+    private CompletableFuture<PartETag> submitPart(Supplier<PartETag> part) {
+        try {
+            return CompletableFuture.supplyAsync(part, s3UploadExecutor);
+        } catch (RejectedExecutionException e) {
+            if (s3UploadExecutor.getThreadPoolExecutor().isShutdown()) {
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("S3 업로드 스레드풀이 종료되었습니다", e));
+            }
+            try {
+                return CompletableFuture.completedFuture(part.get());
+            } catch (RuntimeException partFailure) {
+                return CompletableFuture.failedFuture(partFailure);
+            }
+        }
+    }
+
+    /**
+     * 🔁 파트 업로드 (실패한 파트만 지수 백오프로 재시도)
+     */
+    private PartETag uploadPartWithRetry(String bucketName, String key, String uploadId, File file,
+                                         int partNumber, long offset, long length) {
+        byte[] md5 = md5(file, offset, length);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                UploadPartResult result = amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withFile(file)
+                        .withFileOffset(offset)
+                        .withPartSize(length)
+                        .withMD5Digest(Base64.encodeAsString(md5)));
+                verifyETag(result.getETag(), md5, key + "#" + partNumber);
+                return result.getPartETag();
+
+            } catch (RuntimeException e) {
+                if (attempt >= partMaxAttempts) {
+                    log.error("❌ 파트 {} 업로드 최종 실패 ({}회 시도): {}", partNumber, attempt, e.getMessage());
+                    throw e;
+                }
+                partRetries.incrementAndGet();
+                long backoff = partBackoffMs * (1L << (attempt - 1));
+                log.warn("⚠️ 파트 {} 업로드 실패, {}ms 후 재시도 ({}/{}): {}",
+                        partNumber, backoff, attempt, partMaxAttempts, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("파트 업로드 재시도 중단: " + partNumber, ie);
+                }
+            }
+        }
+    }
+
+    /**
+     * 📏 파트 크기 결정 (최소 5MB, 최대 파트 수 10,000 이내)
+     */
+    private long resolvePartSize(long size) {
+        long partSize = Math.max(partSizeMb * MB, MIN_PART_SIZE);
+        long minForCount = (size + MAX_PARTS - 1) / MAX_PARTS;
+        return Math.max(partSize, minForCount);
+    }
+
+    /**
+     * 🔐 응답 ETag와 로컬 MD5 대조 (SSE-KMS 등으로 ETag가 MD5가 아니면 건너뜀)
+     */
+    private void verifyETag(String eTag, byte[] md5, String label) {
+        if (eTag == null || eTag.contains("-")) {
+            return;
+        }
+        String expected = BinaryUtils.toHex(md5);
+        String actual = eTag.replace("\"", "");
+        if (actual.length() == expected.length() && !actual.equalsIgnoreCase(expected)) {
+            throw new IllegalStateException("S3 체크섬 불일치: " + label + " (expected=" + expected + ", actual=" + actual + ")");
+        }
+    }
+
+    private byte[] md5(File file, long offset, long length) {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            MessageDigest digest = MessageDigest.getInstance("MD5");
+            raf.seek(offset);
+            byte[] buffer = new byte[64 * 1024];
+            long remaining = length;
+            while (remaining > 0) {
+                int read = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new IOException("파일이 예상보다 짧습니다: " + file.getPath());
+                }
+                digest.update(buffer, 0, read);
+                remaining -= read;
+            }
+            return digest.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("MD5 계산 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void abortQuietly(String bucketName, String key, String uploadId) {
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+            log.warn("🗑️ 멀티파트 업로드 중단: {}", key);
+        } catch (Exception e) {
+            log.warn("⚠️ 멀티파트 업로드 중단 실패: {}", e.getMessage());
+        }
+    }
+
+    private static double throughputMbPerSec(long bytes, long nanos) {
+        return nanos > 0 ? (bytes / (double) MB) / (nanos / 1_000_000_000.0) : 0.0;
+    }
+
+    /**
+     * 📊 업로드 지표 스냅샷
+     */
+    public Map<String, Object> getMetrics() {
+        long bytes = uploadedBytes.get();
+        long nanos = uploadNanos.get();
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("singlePartUploads", singlePartUploads.get());
+        metrics.put("multipartUploads", multipartUploads.get());
+        metrics.put("failedUploads", failedUploads.get());
+        metrics.put("partRetries", partRetries.get());
+        metrics.put("uploadedBytes", bytes);
+        metrics.put("uploadMillis", nanos / 1_000_000);
+        metrics.put("averageThroughputMbPerSec", throughputMbPerSec(bytes, nanos));
+        metrics.put("activeParts", s3UploadExecutor.getActiveCount());
+        metrics.put("queuedParts", s3UploadExecutor.getThreadPoolExecutor().getQueue().size());
+        metrics.put("multipartThresholdMb", multipartThresholdMb);
+        metrics.put("partSizeMb", partSizeMb);
+        return metrics;
+    }
+}
@@ -4,6 +4,10 @@ package com.fairytale.fairytale.service;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
+import com.fairytale.fairytale.resilience.HealthMonitor;
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,6 +23,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -26,6 +31,9 @@ import java.util.UUID;
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final S3MultipartUploader s3MultipartUploader;
+    private final HealthMonitor healthMonitor;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${AWS_S3_BUCKET_NAME}")
     private String bucketName;
@@ -33,6 +41,9 @@ public class S3Service {
     @Value("${AWS_REGION:ap-northeast-2}")
     private String region;
 
+    @Value("${AWS_S3_ENDPOINT:}")
+    private String endpoint;
+
 
     /**
      * 프로필 이미지 업로드
@@ -66,7 +77,7 @@ public class S3Service {
                     metadata
             ).withCannedAcl(CannedAccessControlList.PublicRead);
 
-            amazonS3.putObject(putObjectRequest);
+            guardedUpload(() -> amazonS3.putObject(putObjectRequest));
 
             // 업로드된 파일의 URL 반환
             String imageUrl = getPublicUrl(fileName);
@@ -151,6 +162,10 @@ public class S3Service {
     }
 
     private String getPublicUrl(String fileName) {
+        if (endpoint != null && !endpoint.isBlank()) {
+            // 🧪 로컬 S3 호환 서버 (path-style)
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucketName, fileName);
+        }
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
     }
 
@@ -218,7 +233,7 @@ public class S3Service {
                 // 🚫 ACL 설정 제거 (버킷 정책으로 공개 접근 제어)
                 // putRequest.setCannedAcl(CannedAccessControlList.PublicRead);
 
-                PutObjectResult result = amazonS3.putObject(putRequest);
+                PutObjectResult result = guardedUpload(() -> amazonS3.putObject(putRequest));
                 log.info("✅ S3 이미지 업로드 완료. ETag: {}", result.getETag());
             }
 
@@ -342,19 +357,9 @@ public class S3Service {
             metadata.setContentType(getImageContentTypeFromFile(localFile.getName()));
             metadata.setCacheControl("max-age=31536000"); // 1년 캐시
 
-            // 4. S3에 업로드 (ACL 없이)
-            try (java.io.FileInputStream fileInputStream = new java.io.FileInputStream(localFile)) {
-                PutObjectRequest putRequest = new PutObjectRequest(
-                        bucketName,
-                        s3Key,
-                        fileInputStream,
-                        metadata
-                );
-
-                // ACL 설정 제거 (버킷 정책으로 공개 접근 제어)
-                PutObjectResult result = amazonS3.putObject(putRequest);
-                log.info("✅ S3 이미지 업로드 완료. ETag: {}", result.getETag());
-            }
+            // 4. S3에 업로드 (ACL 없이, 버킷 정책으로 공개 접근 제어)
+            String eTag = guardedUpload(() -> s3MultipartUploader.upload(bucketName, s3Key, localFile, metadata));
+            log.info("✅ S3 이미지 업로드 완료. ETag: {}", eTag);
 
             // 5. 공개 URL 반환
             String publicUrl = getPublicUrl(s3Key);
@@ -397,13 +402,23 @@ public class S3Service {
         }
     }
 
-    // s3업로드
+    @PostConstruct
+    void registerHealthProbe() {
+        healthMonitor.register(HealthMonitor.S3, Dependency.S3, () -> amazonS3.doesBucketExistV2(bucketName));
+    }
+
+    // 🛡️ S3 업로드/다운로드는 서킷 브레이커를 거친다 (장애가 이어지면 바로 실패, 404 등 4xx는 실패율에서 제외)
+    private <T> T guardedUpload(Supplier<T> call) {
+        return resilienceRegistry.call(Dependency.S3, "s3-upload", call);
+    }
+
+    private <T> T guardedDownload(Supplier<T> call) {
+        return resilienceRegistry.call(Dependency.S3, "s3-download", call);
+    }
+
+    // s3업로드 (HealthMonitor 스냅샷 조회 - 원격 호출 없음)
     public boolean isS3Available() {
-        try {
-            return amazonS3.doesBucketExistV2(bucketName);
-        } catch (Exception e) {
-            return false;
-        }
+        return healthMonitor.isUp(HealthMonitor.S3);
     }
 
     // S3Service.java에 추가할 메서드 (기존 uploadImageWithCustomKey 수정)
@@ -426,20 +441,8 @@ public class S3Service {
             metadata.setCacheControl("max-age=31536000"); // 1년 캐시
 
             // 커스텀 키로 업로드 (UUID 생성하지 않음)
-            try (java.io.FileInputStream fileInputStream = new java.io.FileInputStream(file)) {
-                PutObjectRequest putRequest = new PutObjectRequest(
-                        bucketName,
-                        customKey,  // 🔥 전달받은 키 그대로 사용!
-                        fileInputStream,
-                        metadata
-                );
-
-                // ACL 설정 (기존 패턴과 동일)
-                // putRequest.setCannedAcl(CannedAccessControlList.PublicRead); // 필요시 주석 해제
-
-                PutObjectResult result = amazonS3.putObject(putRequest);
-                log.info("✅ S3 커스텀 키 업로드 완료. ETag: {}", result.getETag());
-            }
+            String eTag = guardedUpload(() -> s3MultipartUploader.upload(bucketName, customKey, file, metadata)); // 🔥 전달받은 키 그대로 사용!
+            log.info("✅ S3 커스텀 키 업로드 완료. ETag: {}", eTag);
 
             // 공개 URL 반환
             String s3Url = getPublicUrl(customKey);
@@ -471,18 +474,9 @@ public class S3Service {
             metadata.setContentType(getAudioContentType(localFilePath));
             metadata.setCacheControl("max-age=31536000");
 
-            try (java.io.FileInputStream fileInputStream = new java.io.FileInputStream(localFile)) {
-                PutObjectRequest putRequest = new PutObjectRequest(
-                        bucketName,
-                        s3Key,
-                        fileInputStream,
-                        metadata
-                );
-                // ACL 설정 없음 - 비공개 파일
-
-                amazonS3.putObject(putRequest);
-                log.info("✅ S3 업로드 완료 (비공개): {}", s3Key);
-            }
+            // ACL 설정 없음 - 비공개 파일
+            guardedUpload(() -> s3MultipartUploader.upload(bucketName, s3Key, localFile, metadata));
+            log.info("✅ S3 업로드 완료 (비공개): {}", s3Key);
 
             // Presigned URL 생성 (24시간 유효)
             String presignedUrl = generateAudioPresignedUrl(s3Key, 24 * 60); // 24시간
@@ -496,6 +490,36 @@ public class S3Service {
         }
     }
 
+    /**
+     * 🎵 스트림으로 오디오 파일 업로드 후 Presigned URL 반환 (임시 파일 없이)
+     */
+    public String uploadAudioFromStream(String fileName, StreamWriter writer) {
+        String s3Key = generateAudioFileName(fileName);
+        log.info("📤 S3 오디오 스트리밍 업로드 시작: {}", s3Key);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(getAudioContentType(fileName));
+        metadata.setCacheControl("max-age=31536000");
+
+        S3MultipartOutputStream outputStream = new S3MultipartOutputStream(amazonS3, bucketName, s3Key, metadata);
+        try {
+            writer.writeTo(outputStream);
+            outputStream.close();
+            log.info("✅ S3 스트리밍 업로드 완료 (비공개): {}, {} bytes", s3Key, outputStream.getTotalBytes());
+        } catch (Exception e) {
+            outputStream.abort();
+            log.error("❌ S3 오디오 스트리밍 업로드 실패: {}", e.getMessage());
+            throw new RuntimeException("S3 파일 업로드 실패: " + e.getMessage(), e);
+        }
+
+        return generateAudioPresignedUrl(s3Key, 24 * 60); // 24시간
+    }
+
+    @FunctionalInterface
+    public interface StreamWriter {
+        void writeTo(java.io.OutputStream outputStream) throws IOException;
+    }
+
     /**
      * 📥 S3에서 오디오 파일을 바이트 배열로 다운로드
      */
@@ -504,12 +528,12 @@ public class S3Service {
             log.info("📥 S3 파일 다운로드 시작: {}", s3Key);
 
             // 🔍 파일 존재 여부 확인
-            if (!amazonS3.doesObjectExist(bucketName, s3Key)) {
+            if (!guardedDownload(() -> amazonS3.doesObjectExist(bucketName, s3Key))) {
                 throw new java.io.FileNotFoundException("S3에 파일이 존재하지 않습니다: " + s3Key);
             }
 
             // 📥 S3에서 객체 가져오기
-            S3Object s3Object = amazonS3.getObject(bucketName, s3Key);
+            S3Object s3Object = guardedDownload(() -> amazonS3.getObject(bucketName, s3Key));
 
             // 📖 스트림을 바이트 배열로 변환
             try (java.io.InputStream inputStream = s3Object.getObjectContent();
@@ -533,6 +557,32 @@ public class S3Service {
         }
     }
 
+    /**
+     * 🎧 오디오 객체 스트리밍 조회 (Range / If-None-Match 조건부 GET)
+     * 본문은 호출자가 읽고 닫아야 하며, ETag가 일치해 변경이 없으면 null을 반환한다.
+     */
+    public S3Object getAudioObject(String s3Key, Long rangeStart, Long rangeEnd, String ifNoneMatch) {
+        GetObjectRequest getRequest = new GetObjectRequest(bucketName, s3Key);
+        if (rangeStart != null) {
+            if (rangeEnd != null) {
+                getRequest.setRange(rangeStart, rangeEnd);
+            } else {
+                getRequest.setRange(rangeStart);
+            }
+        }
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            getRequest.withNonmatchingETagConstraint(ifNoneMatch);
+        }
+        return guardedDownload(() -> amazonS3.getObject(getRequest));
+    }
+
+    /**
+     * 📋 오디오 객체 메타데이터 조회 (suffix Range 계산 / 416 응답용)
+     */
+    public ObjectMetadata getAudioObjectMetadata(String s3Key) {
+        return guardedDownload(() -> amazonS3.getObjectMetadata(bucketName, s3Key));
+    }
+
     /**
      * 🔗 오디오 파일 Presigned URL 생성 (임시 접근용)
      */
@@ -588,12 +638,7 @@ public class S3Service {
      * 📊 S3 연결 상태 확인 (헬스체크용)
      */
     public boolean isS3Connected() {
-        try {
-            return amazonS3.doesBucketExistV2(bucketName);
-        } catch (Exception e) {
-            log.error("❌ S3 연결 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        return healthMonitor.isUp(HealthMonitor.S3);
     }
 
 // === Private Methods for Audio Files ===
@@ -655,18 +700,9 @@ public class S3Service {
             metadata.setContentType(getVideoContentTypeFromFile(localFile.getName()));
             metadata.setCacheControl("max-age=31536000"); // 1년 캐시
 
-            // 4. S3에 업로드
-            try (java.io.FileInputStream fileInputStream = new java.io.FileInputStream(localFile)) {
-                PutObjectRequest putRequest = new PutObjectRequest(
-                        bucketName,
-                        s3Key,
-                        fileInputStream,
-                        metadata
-                );
-
-                PutObjectResult result = amazonS3.putObject(putRequest);
-                log.info("✅ S3 비디오 업로드 완료. ETag: {}", result.getETag());
-            }
+            // 4. S3에 업로드 (대용량 MP4는 멀티파트 병렬 전송)
+            String eTag = guardedUpload(() -> s3MultipartUploader.upload(bucketName, s3Key, localFile, metadata));
+            log.info("✅ S3 비디오 업로드 완료. ETag: {}", eTag);
 
             // 5. 공개 URL 반환
             String publicUrl = getPublicUrl(s3Key);
@@ -798,7 +834,7 @@ public class S3Service {
                     metadata
             );
 
-            amazonS3.putObject(putRequest);
+            guardedUpload(() -> amazonS3.putObject(putRequest));
 
             String publicUrl = getPublicUrl(fileName);
             log.info("✅ 색칠 완성작 S3 업로드 완료: {}", publicUrl);
@@ -1,8 +1,13 @@
 // src/main/java/com/fairytale/fairytale/service/VideoService.java
 package com.fairytale.fairytale.service;
 
+import com.fairytale.fairytale.resilience.HealthMonitor;
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -17,138 +22,137 @@ import java.util.Map;
 public class VideoService {
 
     private final S3Service s3Service;
+    private final ResilienceRegistry resilienceRegistry;
+    private final HealthMonitor healthMonitor;
+    @Qualifier("videoRestTemplate")
     private final RestTemplate restTemplate;
 
     @Value("${FASTAPI_BASE_URL:http://localhost:8000}")
     private String fastApiBaseUrl;
 
+    @PostConstruct
+    void registerHealthProbe() {
+        healthMonitor.register(HealthMonitor.FASTAPI_VIDEO, Dependency.FASTAPI_VIDEO, () -> {
+            ResponseEntity<Map> response = restTemplate.getForEntity(fastApiBaseUrl + "/video/test", Map.class);
+            return response.getStatusCode().is2xxSuccessful() && response.getBody() != null
+                    && "ok".equals(response.getBody().get("status"));
+        });
+    }
+
     /**
-     * 이미지와 오디오를 결합하여 비디오 생성
+     * 이미지와 오디오를 결합하여 비디오 생성 (실패 시 이미지 URL 반환)
      */
     public String createVideoFromImageAndAudio(String imageUrl, String audioUrl, String storyTitle) {
         try {
-            log.info("🎬 비디오 생성 시작 - 이미지: {}, 오디오: {}", imageUrl, audioUrl);
+            return renderVideo(imageUrl, audioUrl, storyTitle);
+        } catch (Exception e) {
+            log.error("❌ Python API 호출 실패: {}", e.getMessage());
+
+            // 대체 방안: 이미지를 비디오 URL로 사용
+            log.warn("⚠️ 비디오 생성 실패 - 대체 모드: 이미지 URL을 비디오 URL로 사용");
+            return imageUrl;
+        }
+    }
+
+    /**
+     * 🎬 비디오 생성 + S3 업로드 (실패 시 예외 - 재시도용)
+     */
+    public String renderVideo(String imageUrl, String audioUrl, String storyTitle) {
+        log.info("🎬 비디오 생성 시작 - 이미지: {}, 오디오: {}", imageUrl, audioUrl);
 
-            // 1. Python FastAPI로 비디오 생성 요청
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("image_url", imageUrl);
-            requestData.put("audio_url", audioUrl);
-            requestData.put("story_title", storyTitle);
+        // 1. Python FastAPI로 비디오 생성 요청
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("image_url", imageUrl);
+        requestData.put("audio_url", audioUrl);
+        requestData.put("story_title", storyTitle);
 
-            String pythonVideoEndpoint = fastApiBaseUrl + "/video/create-from-image-audio";
-            log.info("🔍 Python API 호출: {}", pythonVideoEndpoint);
+        String pythonVideoEndpoint = fastApiBaseUrl + "/video/create-from-image-audio";
+        log.info("🔍 Python API 호출: {}", pythonVideoEndpoint);
 
-            try {
-                ResponseEntity<Map> response = restTemplate.postForEntity(
+        ResponseEntity<Map> response = resilienceRegistry.call(Dependency.FASTAPI_VIDEO, "video", () ->
+                restTemplate.postForEntity(
                         pythonVideoEndpoint,
                         requestData,
                         Map.class
-                );
+                ));
 
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Map<String, Object> responseBody = response.getBody();
-
-                    Boolean success = (Boolean) responseBody.get("success");
-                    if (Boolean.TRUE.equals(success)) {
-                        String localVideoPath = (String) responseBody.get("video_path");
-                        log.info("✅ Python에서 비디오 생성 완료: {}", localVideoPath);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new RuntimeException("Python API 응답 오류");
+        }
 
-                        // 2. 생성된 비디오를 S3에 업로드 (이미 구현된 메서드 활용)
-                        String s3VideoUrl = s3Service.uploadVideoFromLocalFile(localVideoPath, "videos");
-                        log.info("✅ S3 비디오 업로드 완료: {}", s3VideoUrl);
+        Map<String, Object> responseBody = response.getBody();
+        Boolean success = (Boolean) responseBody.get("success");
+        if (!Boolean.TRUE.equals(success)) {
+            String errorMsg = (String) responseBody.get("error");
+            throw new RuntimeException("Python API 비디오 생성 실패: " + errorMsg);
+        }
 
-                        return s3VideoUrl;
-                    } else {
-                        String errorMsg = (String) responseBody.get("error");
-                        throw new RuntimeException("Python API 비디오 생성 실패: " + errorMsg);
-                    }
-                } else {
-                    throw new RuntimeException("Python API 응답 오류");
-                }
+        String localVideoPath = (String) responseBody.get("video_path");
+        log.info("✅ Python에서 비디오 생성 완료: {}", localVideoPath);
 
-            } catch (Exception e) {
-                log.error("❌ Python API 호출 실패: {}", e.getMessage());
+        // 2. 생성된 비디오를 S3에 업로드 (이미 구현된 메서드 활용)
+        String s3VideoUrl = s3Service.uploadVideoFromLocalFile(localVideoPath, "videos");
+        log.info("✅ S3 비디오 업로드 완료: {}", s3VideoUrl);
 
-                // 대체 방안: 이미지를 비디오 URL로 사용
-                log.warn("⚠️ 비디오 생성 실패 - 대체 모드: 이미지 URL을 비디오 URL로 사용");
-                return imageUrl;
-            }
+        return s3VideoUrl;
+    }
 
+    /**
+     * 썸네일 이미지 생성 (첫 번째 프레임 추출, 실패 시 null)
+     */
+    public String createThumbnail(String videoUrl) {
+        try {
+            return renderThumbnail(videoUrl);
         } catch (Exception e) {
-            log.error("❌ 비디오 생성 전체 프로세스 실패: {}", e.getMessage());
+            log.error("❌ 썸네일 생성 API 호출 실패: {}", e.getMessage());
 
-            // 최종 대체 방안
-            log.warn("⚠️ 최종 대체 모드 활성화");
-            return imageUrl;
+            // 썸네일 생성 실패 시 null 반환 (비디오 공유는 계속 가능)
+            log.warn("⚠️ 썸네일 생성 실패, null 반환");
+            return null;
         }
     }
 
     /**
-     * 썸네일 이미지 생성 (첫 번째 프레임 추출)
+     * 🖼️ 썸네일 생성 + S3 업로드 (실패 시 예외 - 재시도용)
      */
-    public String createThumbnail(String videoUrl) {
-        try {
-            log.info("🖼️ 썸네일 생성 시작 - 비디오: {}", videoUrl);
+    public String renderThumbnail(String videoUrl) {
+        log.info("🖼️ 썸네일 생성 시작 - 비디오: {}", videoUrl);
 
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("video_url", videoUrl);
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("video_url", videoUrl);
 
-            String pythonThumbnailEndpoint = fastApiBaseUrl + "/video/create-thumbnail";
+        String pythonThumbnailEndpoint = fastApiBaseUrl + "/video/create-thumbnail";
 
-            try {
-                ResponseEntity<Map> response = restTemplate.postForEntity(
+        ResponseEntity<Map> response = resilienceRegistry.call(Dependency.FASTAPI_VIDEO, "thumbnail", () ->
+                restTemplate.postForEntity(
                         pythonThumbnailEndpoint,
                         requestData,
                         Map.class
-                );
-
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Map<String, Object> responseBody = response.getBody();
+                ));
 
-                    Boolean success = (Boolean) responseBody.get("success");
-                    if (Boolean.TRUE.equals(success)) {
-                        String localThumbnailPath = (String) responseBody.get("thumbnail_path");
-                        log.info("✅ Python에서 썸네일 생성 완료: {}", localThumbnailPath);
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new RuntimeException("Python API 응답 오류");
+        }
 
-                        // S3에 썸네일 업로드 (이미 구현된 메서드 활용)
-                        String s3ThumbnailUrl = s3Service.uploadImageFromLocalFile(localThumbnailPath, "thumbnails");
-                        log.info("✅ S3 썸네일 업로드 완료: {}", s3ThumbnailUrl);
+        Map<String, Object> responseBody = response.getBody();
+        if (!Boolean.TRUE.equals(responseBody.get("success"))) {
+            throw new RuntimeException("Python API 썸네일 생성 실패: " + responseBody.get("error"));
+        }
 
-                        return s3ThumbnailUrl;
-                    }
-                }
+        String localThumbnailPath = (String) responseBody.get("thumbnail_path");
+        log.info("✅ Python에서 썸네일 생성 완료: {}", localThumbnailPath);
 
-            } catch (Exception e) {
-                log.error("❌ 썸네일 생성 API 호출 실패: {}", e.getMessage());
-            }
+        // S3에 썸네일 업로드 (이미 구현된 메서드 활용)
+        String s3ThumbnailUrl = s3Service.uploadImageFromLocalFile(localThumbnailPath, "thumbnails");
+        log.info("✅ S3 썸네일 업로드 완료: {}", s3ThumbnailUrl);
 
-            // 썸네일 생성 실패 시 null 반환 (비디오 공유는 계속 가능)
-            log.warn("⚠️ 썸네일 생성 실패, null 반환");
-            return null;
-
-        } catch (Exception e) {
-            log.error("❌ 썸네일 생성 전체 프로세스 실패: {}", e.getMessage());
-            return null;
-        }
+        return s3ThumbnailUrl;
     }
 
     /**
-     * 비디오 서비스 상태 확인 (헬스체크)
+     * 비디오 서비스 상태 확인 (HealthMonitor 스냅샷 조회 - 원격 호출 없음)
      */
     public boolean isVideoServiceAvailable() {
-        try {
-            String testEndpoint = fastApiBaseUrl + "/video/test";
-            ResponseEntity<Map> response = restTemplate.getForEntity(testEndpoint, Map.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> body = response.getBody();
-                return "ok".equals(body.get("status"));
-            }
-
-            return false;
-        } catch (Exception e) {
-            log.warn("⚠️ 비디오 서비스 상태 확인 실패: {}", e.getMessage());
-            return false;
-        }
+        return healthMonitor.isUp(HealthMonitor.FASTAPI_VIDEO);
     }
 }
\ No newline at end of file
@@ -3,12 +3,14 @@
 package com.fairytale.fairytale.share;
 
 import com.fairytale.fairytale.share.dto.SharePostDTO;
+import com.fairytale.fairytale.share.dto.SharePostPageDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 
@@ -95,6 +97,32 @@ public class ShareController {
         }
     }
 
+    /**
+     * 🎯 커서 기반 공유 피드 조회
+     * sort=latest|popular, cursor는 이전 응답의 nextCursor
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<SharePostPageDTO> getFeed(
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication auth) {
+        try {
+            String currentUsername = auth != null ? auth.getName() : "anonymous";
+            SharePostPageDTO page = shareService.getFeed(sort, cursor, size, currentUsername);
+
+            log.info("✅ 공유 피드 조회 완료 - 개수: {}, 다음 페이지: {}", page.getPosts().size(), page.isHasNext());
+            return ResponseEntity.ok(page);
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            log.warn("⚠️ 잘못된 피드 커서: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("❌ 공유 피드 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     /**
      * 내 공유 게시물 조회
      */
@@ -166,6 +194,36 @@ public class ShareController {
         }
     }
 
+    /**
+     * ❤️ 좋아요 (멱등)
+     */
+    @PutMapping("/posts/{postId}/like")
+    public ResponseEntity<SharePostDTO> like(
+            @PathVariable Long postId,
+            Authentication auth) {
+        return setLike(postId, auth, true);
+    }
+
+    /**
+     * 💔 좋아요 취소 (멱등)
+     */
+    @DeleteMapping("/posts/{postId}/like")
+    public ResponseEntity<SharePostDTO> unlike(
+            @PathVariable Long postId,
+            Authentication auth) {
+        return setLike(postId, auth, false);
+    }
+
+    private ResponseEntity<SharePostDTO> setLike(Long postId, Authentication auth, boolean liked) {
+        try {
+            SharePostDTO updatedPost = shareService.setLike(postId, auth.getName(), liked);
+            return ResponseEntity.ok(updatedPost);
+        } catch (Exception e) {
+            log.error("❌ 좋아요 상태 변경 실패 - PostId: {}, 오류: {}", postId, e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     /**
      * 🎨 색칠 완성작 공유 (새로 추가)
      */
@@ -192,6 +250,21 @@ public class ShareController {
         }
     }
 
+    /**
+     * 📊 내 공유 통계 조회 (게시물 수, 받은 좋아요 수)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getUserStats(Authentication auth) {
+        try {
+            Map<String, Object> stats = shareService.getUserStats(auth.getName());
+            return ResponseEntity.ok(stats);
+
+        } catch (Exception e) {
+            log.error("❌ 공유 통계 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     // 🎯 아래 메서드들은 ShareService에 구현되지 않았으므로 주석 처리하거나 삭제
 
     /*
@@ -210,10 +283,5 @@ public class ShareController {
     public ResponseEntity<List<SharePostDTO>> getRecentPosts(@RequestParam(defaultValue = "20") int limit, Authentication auth) {
         // TODO: ShareService.getRecentPosts() 구현 필요
     }
-
-    @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getUserStats(Authentication auth) {
-        // TODO: ShareService.getUserStats() 구현 필요
-    }
     */
 }
\ No newline at end of file
@@ -2,6 +2,7 @@
 package com.fairytale.fairytale.share;
 
 import com.fairytale.fairytale.users.Users;
+import com.fairytale.fairytale.stats.UserStatsEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,10 +14,15 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "share_posts")
+@Table(name = "share_posts", indexes = {
+        @Index(name = "idx_share_post_created", columnList = "created_at, id"),                    // 최신 피드
+        @Index(name = "idx_share_post_popular", columnList = "like_count, created_at, id"),        // 인기 피드
+        @Index(name = "idx_share_post_user_created", columnList = "user_id, created_at"),          // 내 게시물
+        @Index(name = "idx_share_post_source_created", columnList = "source_type, created_at")
+})
 @Getter
 @Setter
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserStatsEntityListener.class})
 public class SharePost {
 
     @Id
@@ -51,6 +57,9 @@ public class SharePost {
     @Column(name = "user_name", length = 100)
     private String userName; // "아이이름의 부모" 저장
 
+    @Column(name = "render_status", length = 20)
+    private String renderStatus; // "RENDERING" / "READY" / "FAILED" (null이면 READY)
+
 
     @Column(name = "like_count", nullable = false)
     private Integer likeCount = 0; // 좋아요 수
@@ -60,7 +69,8 @@ public class SharePost {
     @JoinTable(
             name = "share_post_likes",
             joinColumns = @JoinColumn(name = "post_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_share_post_likes_user", columnList = "user_id") // 내가 누른 좋아요 조회
     )
     private Set<Users> likedUsers = new HashSet<>();
 
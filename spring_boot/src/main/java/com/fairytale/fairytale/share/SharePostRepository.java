@@ -3,9 +3,11 @@ package com.fairytale.fairytale.share;
 
 import com.fairytale.fairytale.users.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 
@@ -23,7 +25,7 @@ public interface SharePostRepository extends JpaRepository<SharePost, Long> {
     /**
      * 특정 사용자의 공유 게시물 조회
      */
-    List<SharePost> findByUserOrderByCreatedAtDesc(Users user);
+    List<SharePost> findByUserIdOrderByCreatedAtDesc(Long userId);
 
     /**
      * 특정 소스(Story/Gallery)에서 생성된 게시물 확인
@@ -52,4 +54,76 @@ public interface SharePostRepository extends JpaRepository<SharePost, Long> {
 
     // 소스 타입별 게시물 조회
     List<SharePost> findBySourceTypeOrderByCreatedAtDesc(String sourceType);
-}
\ No newline at end of file
+
+    // ====== 🎯 커서 기반 피드 (작성자 함께 조회) ======
+
+    // 최신순 첫 페이지
+    @Query("SELECT sp FROM SharePost sp JOIN FETCH sp.user ORDER BY sp.createdAt DESC, sp.id DESC")
+    List<SharePost> findLatestFeed(Pageable pageable);
+
+    // 최신순 다음 페이지 (createdAt, id) 커서
+    @Query("SELECT sp FROM SharePost sp JOIN FETCH sp.user " +
+            "WHERE sp.createdAt < :createdAt OR (sp.createdAt = :createdAt AND sp.id < :id) " +
+            "ORDER BY sp.createdAt DESC, sp.id DESC")
+    List<SharePost> findLatestFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 인기순 첫 페이지
+    @Query("SELECT sp FROM SharePost sp JOIN FETCH sp.user ORDER BY sp.likeCount DESC, sp.createdAt DESC, sp.id DESC")
+    List<SharePost> findPopularFeed(Pageable pageable);
+
+    // 인기순 다음 페이지 (likeCount, createdAt, id) 커서
+    @Query("SELECT sp FROM SharePost sp JOIN FETCH sp.user " +
+            "WHERE sp.likeCount < :likeCount " +
+            "OR (sp.likeCount = :likeCount AND sp.createdAt < :createdAt) " +
+            "OR (sp.likeCount = :likeCount AND sp.createdAt = :createdAt AND sp.id < :id) " +
+            "ORDER BY sp.likeCount DESC, sp.createdAt DESC, sp.id DESC")
+    List<SharePost> findPopularFeedAfter(@Param("likeCount") Integer likeCount,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    // 사용자가 좋아요한 게시물 ID (페이지 단위 일괄 조회)
+    @Query("SELECT sp.id FROM SharePost sp JOIN sp.likedUsers u WHERE u.id = :userId AND sp.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") List<Long> postIds);
+
+    // ====== ❤️ 좋아요 (share_post_likes 한 행만 변경) ======
+
+    // 좋아요 추가 - 이미 있으면 0 반환
+    @Modifying
+    @Query(value = "INSERT INTO share_post_likes (post_id, user_id) VALUES (:postId, :userId) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 취소 - 없으면 0 반환
+    @Modifying
+    @Query(value = "DELETE FROM share_post_likes WHERE post_id = :postId AND user_id = :userId", nativeQuery = true)
+    int deleteLike(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    // 좋아요 수 원자적 증감 (0 미만 방지)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = "UPDATE share_posts SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :postId",
+            nativeQuery = true)
+    int incrementLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // ====== 🎬 비디오 렌더링 결과 반영 ======
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SharePost sp SET sp.videoUrl = :videoUrl WHERE sp.id = :id")
+    int updateVideoUrl(@Param("id") Long id, @Param("videoUrl") String videoUrl);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SharePost sp SET sp.thumbnailUrl = :thumbnailUrl, sp.renderStatus = :renderStatus WHERE sp.id = :id")
+    int updateThumbnailAndStatus(@Param("id") Long id,
+                                 @Param("thumbnailUrl") String thumbnailUrl,
+                                 @Param("renderStatus") String renderStatus);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE SharePost sp SET sp.renderStatus = :renderStatus WHERE sp.id = :id")
+    int updateRenderStatus(@Param("id") Long id, @Param("renderStatus") String renderStatus);
+}
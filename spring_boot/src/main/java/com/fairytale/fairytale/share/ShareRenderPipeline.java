@@ -0,0 +1,148 @@
+// src/main/java/com/fairytale/fairytale/share/ShareRenderPipeline.java
+package com.fairytale.fairytale.share;
+
+import com.fairytale.fairytale.admission.AdmissionService;
+import com.fairytale.fairytale.admission.AdmissionService.Operation;
+import com.fairytale.fairytale.outbox.OutboxDispatcher;
+import com.fairytale.fairytale.outbox.OutboxJobHandler;
+import com.fairytale.fairytale.outbox.OutboxService;
+import com.fairytale.fairytale.service.VideoService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 🎬 공유 게시물 비디오 렌더링 파이프라인
+ * 1단계: 비디오 생성(videoRenderExecutor) → 2단계: 썸네일 생성(thumbnailRenderExecutor)
+ * 단계마다 아웃박스 작업으로 등록되어 재시작해도 유실되지 않고, 실패 시 아웃박스가 지수 백오프로 재시도한다.
+ * FastAPI 호출은 AdmissionService의 VIDEO 동시 실행 한도 안에서만 한다.
+ */
+@Slf4j
+@Component
+public class ShareRenderPipeline {
+
+    public static final String RENDERING = "RENDERING";
+    public static final String READY = "READY";
+    public static final String FAILED = "FAILED";
+
+    static final String VIDEO_JOB = "SHARE_VIDEO_RENDER";
+    static final String THUMBNAIL_JOB = "SHARE_THUMBNAIL_RENDER";
+
+    private final VideoService videoService;
+    private final SharePostRepository sharePostRepository;
+    private final OutboxService outboxService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final AdmissionService admissionService;
+    private final ThreadPoolTaskExecutor videoExecutor;
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @Value("${VIDEO_RENDER_MAX_ATTEMPTS:3}")
+    private int maxAttempts;
+
+    public ShareRenderPipeline(VideoService videoService,
+                               SharePostRepository sharePostRepository,
+                               OutboxService outboxService,
+                               OutboxDispatcher outboxDispatcher,
+                               AdmissionService admissionService,
+                               @Qualifier("videoRenderExecutor") ThreadPoolTaskExecutor videoExecutor,
+                               @Qualifier("thumbnailRenderExecutor") ThreadPoolTaskExecutor thumbnailExecutor) {
+        this.videoService = videoService;
+        this.sharePostRepository = sharePostRepository;
+        this.outboxService = outboxService;
+        this.outboxDispatcher = outboxDispatcher;
+        this.admissionService = admissionService;
+        this.videoExecutor = videoExecutor;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    @PostConstruct
+    void registerHandlers() {
+        outboxDispatcher.register(VIDEO_JOB, videoExecutor, maxAttempts, new OutboxJobHandler() {
+            @Override
+            public void handle(Map<String, Object> payload) throws Exception {
+                renderVideo(postId(payload), (String) payload.get("imageUrl"),
+                        (String) payload.get("audioUrl"), (String) payload.get("title"));
+            }
+
+            @Override
+            public void onGiveUp(Map<String, Object> payload, String error) {
+                // 최종 실패 - 이미지가 비디오 자리에 남는다 (기존 대체 방식과 동일)
+                sharePostRepository.updateRenderStatus(postId(payload), FAILED);
+            }
+        });
+
+        outboxDispatcher.register(THUMBNAIL_JOB, thumbnailExecutor, maxAttempts, new OutboxJobHandler() {
+            @Override
+            public void handle(Map<String, Object> payload) throws Exception {
+                renderThumbnail(postId(payload), (String) payload.get("videoUrl"));
+            }
+
+            @Override
+            public void onGiveUp(Map<String, Object> payload, String error) {
+                // 썸네일은 실패해도 원본 이미지로 READY 처리
+                log.warn("⚠️ 썸네일 생성 최종 실패, 원본 이미지 사용 - PostId: {}", postId(payload));
+                sharePostRepository.updateThumbnailAndStatus(postId(payload), (String) payload.get("imageUrl"), READY);
+            }
+        });
+    }
+
+    /**
+     * 📥 렌더링 요청 - 게시물 저장과 같은 트랜잭션에 아웃박스 작업으로 기록
+     */
+    public void enqueue(Long postId, String imageUrl, String audioUrl, String title) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("postId", postId);
+        payload.put("imageUrl", imageUrl);
+        payload.put("audioUrl", audioUrl);
+        payload.put("title", title);
+        outboxService.enqueue(VIDEO_JOB, "share-video:" + postId, payload);
+    }
+
+    // 1단계: 비디오 생성 (이미 렌더링된 비디오가 있으면 다시 만들지 않음)
+    private void renderVideo(Long postId, String imageUrl, String audioUrl, String title) {
+        SharePost post = sharePostRepository.findById(postId).orElse(null);
+        if (post == null) {
+            log.warn("⚠️ 렌더링 중 게시물 삭제됨 - PostId: {}", postId);
+            return;
+        }
+        if (post.getRenderStatus() != null && !RENDERING.equals(post.getRenderStatus())) {
+            log.info("✅ 이미 렌더링이 끝난 게시물 - PostId: {}, 상태: {}", postId, post.getRenderStatus());
+            return;
+        }
+
+        String videoUrl = post.getVideoUrl();
+        if (videoUrl == null || videoUrl.equals(imageUrl)) {
+            videoUrl = admissionService.runAdmitted(Operation.VIDEO,
+                    () -> videoService.renderVideo(imageUrl, audioUrl, title));
+            if (sharePostRepository.updateVideoUrl(postId, videoUrl) == 0) {
+                log.warn("⚠️ 렌더링 중 게시물 삭제됨 - PostId: {}", postId);
+                return;
+            }
+            log.info("✅ 공유 비디오 렌더링 완료 - PostId: {}, VideoUrl: {}", postId, videoUrl);
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("postId", postId);
+        payload.put("videoUrl", videoUrl);
+        payload.put("imageUrl", imageUrl);
+        outboxService.enqueue(THUMBNAIL_JOB, "share-thumbnail:" + postId, payload);
+    }
+
+    // 2단계: 썸네일 생성
+    private void renderThumbnail(Long postId, String videoUrl) {
+        String thumbnailUrl = admissionService.runAdmitted(Operation.VIDEO,
+                () -> videoService.renderThumbnail(videoUrl));
+        sharePostRepository.updateThumbnailAndStatus(postId, thumbnailUrl, READY);
+        log.info("✅ 공유 썸네일 생성 완료 - PostId: {}, ThumbnailUrl: {}", postId, thumbnailUrl);
+    }
+
+    private static Long postId(Map<String, Object> payload) {
+        return ((Number) payload.get("postId")).longValue();
+    }
+}
@@ -3,24 +3,29 @@ package com.fairytale.fairytale.share;
 
 import com.fairytale.fairytale.coloring.ColoringWork;
 import com.fairytale.fairytale.coloring.ColoringWorkRepository;
+import com.fairytale.fairytale.comment.CommentCountService;
 import com.fairytale.fairytale.comment.CommentRepository;
 import com.fairytale.fairytale.gallery.Gallery;
 import com.fairytale.fairytale.gallery.GalleryRepository;
-import com.fairytale.fairytale.service.VideoService;
+import com.fairytale.fairytale.like.SharePostLikeService;
 import com.fairytale.fairytale.share.dto.SharePostDTO;
+import com.fairytale.fairytale.stats.UserStats;
+import com.fairytale.fairytale.stats.UserStatsService;
 import com.fairytale.fairytale.story.Story;
 import com.fairytale.fairytale.story.StoryRepository;
+import com.fairytale.fairytale.users.DisplayNameResolver;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
-import com.fairytale.fairytale.baby.Baby;
+import com.fairytale.fairytale.share.dto.SharePostPageDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,10 +37,16 @@ public class ShareService {
     private final SharePostRepository sharePostRepository;
     private final StoryRepository storyRepository;
     private final GalleryRepository galleryRepository;
-    private final UsersRepository usersRepository;
-    private final VideoService videoService;
+    private final UserIdentityCache userIdentityCache;
     private final CommentRepository commentRepository;
     private final ColoringWorkRepository coloringWorkRepository; // 추가
+    private final SharePostLikeService sharePostLikeService;
+    private final ShareRenderPipeline shareRenderPipeline;
+    private final UserStatsService userStatsService;
+    private final CommentCountService commentCountService;
+    private final DisplayNameResolver displayNameResolver;
+
+    private static final int MAX_FEED_PAGE_SIZE = 50;
     /**
      * Stories에서 비디오 생성 및 공유 - 수정된 버전
      */
@@ -43,10 +54,10 @@ public class ShareService {
         log.info("🎬 Stories에서 공유 시작 - StoryId: {}, 사용자: {}", storyId, username);
 
         // 1. 사용자 및 스토리 조회
-        Users user = usersRepository.findByUsername(username)
+        Users user = userIdentityCache.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        Story story = storyRepository.findByIdAndUser(storyId, user)
+        Story story = storyRepository.findByIdAndUserId(storyId, user.getId())
                 .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다: " + storyId));
 
         // 2. 개선된 필수 데이터 검증
@@ -82,38 +93,6 @@ public class ShareService {
 
         log.info("✅ 공유 데이터 검증 통과 - StoryId: {}", storyId);
 
-        // 3. 비디오 생성 (안전하게 처리)
-        String videoUrl;
-        try {
-            log.info("🎬 비디오 생성 시작 - StoryId: {}", storyId);
-            videoUrl = videoService.createVideoFromImageAndAudio(
-                    imageUrl,
-                    voiceUrl,
-                    story.getTitle()
-            );
-            log.info("✅ 비디오 생성 완료 - VideoUrl: {}", videoUrl);
-        } catch (Exception e) {
-            log.error("❌ 비디오 생성 실패 - StoryId: {}, Error: {}", storyId, e.getMessage());
-            // 비디오 생성 실패 시 이미지를 대신 사용
-            videoUrl = imageUrl;
-            log.info("🔄 비디오 대신 이미지 사용 - StoryId: {}, ImageUrl: {}", storyId, videoUrl);
-        }
-
-        // 4. 썸네일 생성 (실패해도 진행)
-        String thumbnailUrl = imageUrl; // 기본적으로 스토리 이미지 사용
-        try {
-            log.info("🖼️ 썸네일 생성 시작 - StoryId: {}", storyId);
-            String generatedThumbnail = videoService.createThumbnail(videoUrl);
-            if (generatedThumbnail != null && !generatedThumbnail.trim().isEmpty()) {
-                thumbnailUrl = generatedThumbnail;
-                log.info("✅ 썸네일 생성 완료 - ThumbnailUrl: {}", thumbnailUrl);
-            } else {
-                log.info("🔄 썸네일 생성 실패, 원본 이미지 사용 - StoryId: {}", storyId);
-            }
-        } catch (Exception e) {
-            log.warn("⚠️ 썸네일 생성 실패, 원본 이미지 사용 - StoryId: {}, Error: {}", storyId, e.getMessage());
-        }
-
         // 5. SharePost 생성 및 저장
         try {
             log.info("💾 SharePost 생성 및 저장 시작 - StoryId: {}", storyId);
@@ -121,9 +100,11 @@ public class ShareService {
             SharePost sharePost = new SharePost();
             sharePost.setUser(user);
             sharePost.setStoryTitle(story.getTitle());
-            sharePost.setVideoUrl(videoUrl);
+            // 🎬 비디오는 백그라운드에서 렌더링 - 완료 전까지 이미지를 자리표시자로 사용
+            sharePost.setVideoUrl(imageUrl);
             sharePost.setImageUrl(imageUrl); // 🎯 이미지 URL도 설정
-            sharePost.setThumbnailUrl(thumbnailUrl);
+            sharePost.setThumbnailUrl(imageUrl);
+            sharePost.setRenderStatus(ShareRenderPipeline.RENDERING);
             sharePost.setSourceType("STORY");
             sharePost.setSourceId(storyId);
 
@@ -135,7 +116,10 @@ public class ShareService {
             SharePost savedPost = sharePostRepository.save(sharePost);
             log.info("✅ SharePost 저장 완료 - SharePostId: {}, StoryId: {}", savedPost.getId(), storyId);
 
-            SharePostDTO result = convertToDTO(savedPost, user);
+            // 🎬 비디오/썸네일 렌더링 작업을 같은 트랜잭션에 기록 (커밋 후 아웃박스 폴러가 실행)
+            shareRenderPipeline.enqueue(savedPost.getId(), imageUrl, voiceUrl, story.getTitle());
+
+            SharePostDTO result = convertToDTO(savedPost, user.getId());
             log.info("✅ Stories 공유 전체 프로세스 완료 - SharePostId: {}, StoryId: {}", savedPost.getId(), storyId);
 
             return result;
@@ -190,7 +174,7 @@ public class ShareService {
     public SharePostDTO shareFromGallery(Long storyId, String username) {
         log.info("🖼️ Gallery에서 공유 시작 - StoryId: {}, 사용자: {}", storyId, username);
 
-        Users user = usersRepository.findByUsername(username)
+        Users user = userIdentityCache.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         Gallery gallery = galleryRepository.findByStoryId(storyId)
@@ -216,7 +200,7 @@ public class ShareService {
         SharePost savedPost = sharePostRepository.save(sharePost);
         log.info("✅ Gallery 공유 완료 - SharePostId: {}", savedPost.getId());
 
-        return convertToDTO(savedPost, user);
+        return convertToDTO(savedPost, user.getId());
     }
 
     /**
@@ -225,12 +209,59 @@ public class ShareService {
     public List<SharePostDTO> getAllSharePosts(String currentUsername) {
         log.info("🔍 모든 공유 게시물 조회");
 
-        Users currentUser = usersRepository.findByUsername(currentUsername).orElse(null);
+        Long currentUserId = userIdentityCache.findUserIdByUsername(currentUsername).orElse(null);
 
         List<SharePost> posts = sharePostRepository.findAllByOrderByCreatedAtDesc();
-        return posts.stream()
-                .map(post -> convertToDTO(post, currentUser))
-                .collect(Collectors.toList());
+        return convertToDTOs(posts, currentUserId);
+    }
+
+    /**
+     * 🎯 커서 기반 피드 조회 (한 페이지만 조회)
+     * sort: latest (createdAt, id) / popular (likeCount, createdAt, id)
+     */
+    @Transactional(readOnly = true)
+    public SharePostPageDTO getFeed(String sort, String cursor, int size, String currentUsername) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        boolean popular = "popular".equalsIgnoreCase(sort);
+        log.info("🔍 공유 피드 조회 - 정렬: {}, 커서: {}, 크기: {}", popular ? "popular" : "latest", cursor, pageSize);
+
+        Long currentUserId = userIdentityCache.findUserIdByUsername(currentUsername).orElse(null);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        String[] cursorParts = decodeCursor(cursor, popular ? 3 : 2);
+
+        List<SharePost> posts;
+        if (popular) {
+            posts = cursorParts == null
+                    ? sharePostRepository.findPopularFeed(limit)
+                    : sharePostRepository.findPopularFeedAfter(
+                    Integer.valueOf(cursorParts[0]), LocalDateTime.parse(cursorParts[1]), Long.valueOf(cursorParts[2]), limit);
+        } else {
+            posts = cursorParts == null
+                    ? sharePostRepository.findLatestFeed(limit)
+                    : sharePostRepository.findLatestFeedAfter(
+                    LocalDateTime.parse(cursorParts[0]), Long.valueOf(cursorParts[1]), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            SharePost last = posts.get(posts.size() - 1);
+            nextCursor = popular
+                    ? encodeCursor(last.getLikeCount() + "|" + last.getCreatedAt() + "|" + last.getId())
+                    : encodeCursor(last.getCreatedAt() + "|" + last.getId());
+        }
+
+        return SharePostPageDTO.builder()
+                .posts(convertToDTOs(posts, currentUserId))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -239,13 +270,11 @@ public class ShareService {
     public List<SharePostDTO> getUserSharePosts(String username) {
         log.info("🔍 사용자 공유 게시물 조회 - 사용자: {}", username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        List<SharePost> posts = sharePostRepository.findByUserOrderByCreatedAtDesc(user);
-        return posts.stream()
-                .map(post -> convertToDTO(post, user))
-                .collect(Collectors.toList());
+        List<SharePost> posts = sharePostRepository.findByUserIdOrderByCreatedAtDesc(userId);
+        return convertToDTOs(posts, userId);
     }
 
     /**
@@ -257,14 +286,14 @@ public class ShareService {
     public boolean deleteSharePost(Long postId, String username) {
         log.info("🗑️ 공유 게시물 삭제 - PostId: {}, 사용자: {}", postId, username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         SharePost post = sharePostRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다: " + postId));
 
         // 작성자 확인
-        if (!post.getUser().getId().equals(user.getId())) {
+        if (!post.getUser().getId().equals(userId)) {
             log.warn("⚠️ 삭제 권한 없음 - 작성자가 아님");
             throw new RuntimeException("게시물을 삭제할 권한이 없습니다.");
         }
@@ -273,6 +302,7 @@ public class ShareService {
             // 🎯 1단계: 해당 게시물의 댓글들을 모두 삭제
             log.info("🗨️ 게시물의 댓글들 삭제 시작 - PostId: {}", postId);
             commentRepository.deleteBySharePostId(postId);
+            commentCountService.evict(postId);
             log.info("✅ 댓글 삭제 완료");
 
             // 🎯 2단계: 좋아요 삭제는 자동으로 처리됨 (CASCADE)
@@ -295,22 +325,46 @@ public class ShareService {
     public SharePostDTO toggleLike(Long postId, String username) {
         log.info("❤️ 좋아요 토글 - PostId: {}, 사용자: {}", postId, username);
 
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        SharePost post = sharePostRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다: " + postId));
+        if (!sharePostRepository.existsById(postId)) {
+            throw new RuntimeException("게시물을 찾을 수 없습니다: " + postId);
+        }
+
+        boolean liked = sharePostLikeService.toggle(postId, userId);
+        log.info(liked ? "❤️ 좋아요 추가" : "💔 좋아요 취소");
+
+        return reloadPost(postId, userId);
+    }
+
+    /**
+     * ❤️ 좋아요 상태 지정 (재시도해도 결과가 같음)
+     */
+    public SharePostDTO setLike(Long postId, String username, boolean liked) {
+        log.info("❤️ 좋아요 상태 지정 - PostId: {}, 사용자: {}, liked: {}", postId, username, liked);
+
+        Long userId = userIdentityCache.findUserIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+
+        if (!sharePostRepository.existsById(postId)) {
+            throw new RuntimeException("게시물을 찾을 수 없습니다: " + postId);
+        }
 
-        if (post.isLikedBy(user)) {
-            post.removeLike(user);
-            log.info("💔 좋아요 취소");
+        if (liked) {
+            sharePostLikeService.like(postId, userId);
         } else {
-            post.addLike(user);
-            log.info("❤️ 좋아요 추가");
+            sharePostLikeService.unlike(postId, userId);
         }
 
-        SharePost savedPost = sharePostRepository.save(post);
-        return convertToDTO(savedPost, user);
+        return reloadPost(postId, userId);
+    }
+
+    // 좋아요 반영 후 최신 like_count로 다시 조회
+    private SharePostDTO reloadPost(Long postId, Long userId) {
+        SharePost post = sharePostRepository.findById(postId)
+                .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다: " + postId));
+        return convertToDTO(post, userId);
     }
 
     /**
@@ -319,12 +373,12 @@ public class ShareService {
     public SharePostDTO getSharePostById(Long postId, String currentUsername) {
         log.info("🔍 게시물 상세 조회 - PostId: {}, 요청자: {}", postId, currentUsername);
 
-        Users currentUser = usersRepository.findByUsername(currentUsername).orElse(null);
+        Long currentUserId = userIdentityCache.findUserIdByUsername(currentUsername).orElse(null);
 
         SharePost post = sharePostRepository.findById(postId)
                 .orElseThrow(() -> new RuntimeException("게시물을 찾을 수 없습니다: " + postId));
 
-        SharePostDTO result = convertToDTO(post, currentUser);
+        SharePostDTO result = convertToDTO(post, currentUserId);
         log.info("✅ 게시물 상세 조회 완료 - PostId: {}", postId);
 
         return result;
@@ -336,15 +390,12 @@ public class ShareService {
     public List<SharePostDTO> getPopularPosts(int limit, String currentUsername) {
         log.info("🔥 인기 게시물 조회 - 제한: {}, 요청자: {}", limit, currentUsername);
 
-        Users currentUser = usersRepository.findByUsername(currentUsername).orElse(null);
+        Long currentUserId = userIdentityCache.findUserIdByUsername(currentUsername).orElse(null);
 
-        // 좋아요 수 기준으로 내림차순 정렬
-        List<SharePost> posts = sharePostRepository.findAllByOrderByCreatedAtDesc(); // 임시로 일반 정렬 사용
+        // 좋아요 수 기준으로 내림차순 정렬 (필요한 개수만 조회)
+        List<SharePost> posts = sharePostRepository.findPopularFeed(PageRequest.of(0, Math.max(1, limit)));
 
-        List<SharePostDTO> result = posts.stream()
-                .limit(limit)
-                .map(post -> convertToDTO(post, currentUser))
-                .collect(Collectors.toList());
+        List<SharePostDTO> result = convertToDTOs(posts, currentUserId);
 
         log.info("✅ 인기 게시물 조회 완료 - {}개", result.size());
         return result;
@@ -356,15 +407,12 @@ public class ShareService {
     public List<SharePostDTO> getRecentPosts(int limit, String currentUsername) {
         log.info("📅 최근 게시물 조회 - 제한: {}, 요청자: {}", limit, currentUsername);
 
-        Users currentUser = usersRepository.findByUsername(currentUsername).orElse(null);
+        Long currentUserId = userIdentityCache.findUserIdByUsername(currentUsername).orElse(null);
 
-        // 생성일 기준으로 내림차순 정렬
-        List<SharePost> posts = sharePostRepository.findAllByOrderByCreatedAtDesc();
+        // 생성일 기준으로 내림차순 정렬 (필요한 개수만 조회)
+        List<SharePost> posts = sharePostRepository.findLatestFeed(PageRequest.of(0, Math.max(1, limit)));
 
-        List<SharePostDTO> result = posts.stream()
-                .limit(limit)
-                .map(post -> convertToDTO(post, currentUser))
-                .collect(Collectors.toList());
+        List<SharePostDTO> result = convertToDTOs(posts, currentUserId);
 
         log.info("✅ 최근 게시물 조회 완료 - {}개", result.size());
         return result;
@@ -376,24 +424,20 @@ public class ShareService {
     public Map<String, Object> getUserStats(String username) {
         log.info("📊 사용자 통계 조회 - 사용자: {}", username);
 
-        Users user = usersRepository.findByUsername(username)
+        Users user = userIdentityCache.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        // 사용자의 게시물 수
-        List<SharePost> userPosts = sharePostRepository.findByUserOrderByCreatedAtDesc(user);
-        long postCount = userPosts.size();
-
-        // 사용자가 받은 총 좋아요 수 (계산)
-        long totalLikes = userPosts.stream()
-                .mapToLong(SharePost::getLikeCount)
-                .sum();
+        // 사용자 통계 집계 테이블 PK 조회 (게시물/좋아요 변경 시 갱신됨)
+        UserStats userStats = userStatsService.getStats(username);
+        long postCount = userStats.getSharePostCount();
+        long totalLikes = userStats.getTotalLikes();
 
         // 최근 게시물 수
-        long recentPostCount = Math.min(userPosts.size(), 5);
+        long recentPostCount = Math.min(postCount, 5);
 
         Map<String, Object> stats = new HashMap<>();
         stats.put("username", username);
-        stats.put("displayName", generateDisplayName(username));
+        stats.put("displayName", displayNameResolver.resolve(username));
         stats.put("postCount", postCount);
         stats.put("totalLikes", totalLikes);
         stats.put("recentPostCount", recentPostCount);
@@ -412,7 +456,7 @@ public class ShareService {
     public SharePostDTO shareFromColoringWork(Long coloringWorkId, String username) {
         log.info("🎨 색칠 완성작에서 공유 시작 - ColoringWorkId: {}, 사용자: {}", coloringWorkId, username);
 
-        Users user = usersRepository.findByUsername(username)
+        Users user = userIdentityCache.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         // 🎯 ColoringWork 조회 (ColoringWorkRepository 필요)
@@ -444,94 +488,89 @@ public class ShareService {
         SharePost savedPost = sharePostRepository.save(sharePost);
         log.info("✅ 색칠 완성작 공유 완료 - SharePostId: {}", savedPost.getId());
 
-        return convertToDTO(savedPost, user);
+        return convertToDTO(savedPost, user.getId());
     }
     /**
      * SharePost를 DTO로 변환
      */
-    private SharePostDTO convertToDTO(SharePost post, Users currentUser) {
-        // 🎯 작성자 이름 포맷팅
-        String displayName = generateDisplayName(post.getUser().getUsername());
-
-        boolean isLiked = currentUser != null && post.isLikedBy(currentUser);
-        boolean isOwner = currentUser != null && post.getUser().getId().equals(currentUser.getId());
-
-        return SharePostDTO.builder()
-                .id(post.getId())
-                .userName(displayName)
-                .storyTitle(post.getStoryTitle())
-                .videoUrl(post.getVideoUrl())
-                .imageUrl(post.getImageUrl())
-                .thumbnailUrl(post.getThumbnailUrl())
-                .sourceType(post.getSourceType())
-                .likeCount(post.getLikeCount())
-                .isLiked(isLiked)
-                .isOwner(isOwner)
-                .createdAt(post.getCreatedAt())
-                .commentCount(getCommentCount(post.getId()))
-                .build();
+    private SharePostDTO convertToDTO(SharePost post, Long currentUserId) {
+        return convertToDTOs(List.of(post), currentUserId).get(0);
     }
 
     /**
-     * 🎯 사용자 표시명 생성 (Baby.babyName 사용)
+     * 🎯 SharePost 목록을 DTO로 일괄 변환
+     * 작성자 표시명, 댓글 수, 좋아요 여부를 게시물 수와 관계없이 쿼리 3번으로 조회
      */
-    private String generateDisplayName(String username) {
-        try {
-            log.info("🔍 사용자 표시명 생성 - Username: {}", username);
+    private List<SharePostDTO> convertToDTOs(List<SharePost> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            // 1. 사용자 정보 조회
-            Users user = usersRepository.findByUsername(username).orElse(null);
-            if (user == null) {
-                log.warn("⚠️ 사용자를 찾을 수 없음: {}", username);
-                return username + "님";
-            }
+        List<Long> postIds = posts.stream().map(SharePost::getId).collect(Collectors.toList());
+        Set<String> authorNames = posts.stream().map(post -> post.getUser().getUsername()).collect(Collectors.toSet());
 
-            // 2. 🎯 Baby 엔티티에서 아이 이름 가져오기
-            try {
-                List<Baby> babies = user.getBabies();
-                if (babies != null && !babies.isEmpty()) {
-                    // 첫 번째 아기의 이름 사용
-                    Baby firstBaby = babies.get(0);
-                    String babyName = firstBaby.getBabyName(); // 🎯 실제 필드명 사용
-
-                    if (babyName != null && !babyName.trim().isEmpty()) {
-                        String displayName = babyName + "의 부모";
-                        log.info("✅ 아기 이름으로 표시명 생성: {}", displayName);
-                        return displayName;
-                    }
-                }
-            } catch (Exception e) {
-                log.info("ℹ️ Baby 정보 조회 실패, 다른 방법 시도: {}", e.getMessage());
-            }
+        // 1. 작성자 표시명 (캐시 미스만 한 번에 조회)
+        Map<String, String> displayNames = displayNameResolver.resolveAll(authorNames);
 
-            // 3. Users의 getName() 메서드 사용 (nickname 우선, 없으면 username)
-            String userName = user.getName();
-            if (userName != null && !userName.trim().isEmpty()) {
-                String displayName = userName + "님";
-                log.info("✅ 사용자명으로 표시명 생성: {}", displayName);
-                return displayName;
-            }
+        // 2. 게시물별 댓글 수 (캐시 미스만 한 번에 조회)
+        Map<Long, Long> commentCounts = loadCommentCounts(postIds);
 
-            // 4. 최종 폴백
-            String displayName = username + "님";
-            log.info("✅ 최종 폴백 표시명 생성: {}", displayName);
-            return displayName;
+        // 3. 현재 사용자가 좋아요한 게시물
+        Set<Long> likedPostIds = currentUserId == null
+                ? Collections.emptySet()
+                : new HashSet<>(sharePostRepository.findLikedPostIds(currentUserId, postIds));
 
-        } catch (Exception e) {
-            log.error("❌ 표시명 생성 실패: {}", e.getMessage());
-            return username + "님"; // 최종 폴백
-        }
+        return posts.stream()
+                .map(post -> {
+                    Users author = post.getUser();
+                    boolean isOwner = author.getId().equals(currentUserId);
+
+                    return SharePostDTO.builder()
+                            .id(post.getId())
+                            .userName(displayNames.get(author.getUsername()))
+                            .storyTitle(post.getStoryTitle())
+                            .videoUrl(post.getVideoUrl())
+                            .imageUrl(post.getImageUrl())
+                            .thumbnailUrl(post.getThumbnailUrl())
+                            .sourceType(post.getSourceType())
+                            .renderStatus(post.getRenderStatus() != null ? post.getRenderStatus() : "READY")
+                            .likeCount(sharePostLikeService.resolveLikeCount(post.getId(), post.getLikeCount()))
+                            .isLiked(likedPostIds.contains(post.getId()))
+                            .isOwner(isOwner)
+                            .createdAt(post.getCreatedAt())
+                            .commentCount(commentCounts.getOrDefault(post.getId(), 0L).intValue())
+                            .build();
+                })
+                .collect(Collectors.toList());
     }
 
-    /**
-     * 🎯 댓글 개수 조회
-     */
-    private int getCommentCount(Long postId) {
+    private Map<Long, Long> loadCommentCounts(List<Long> postIds) {
         try {
-            return (int) commentRepository.countBySharePostId(postId);
+            return commentCountService.getCounts(postIds);
         } catch (Exception e) {
             log.warn("⚠️ 댓글 개수 조회 실패: {}", e.getMessage());
-            return 0;
+            return Collections.emptyMap();
+        }
+    }
+
+    // 🔑 커서 인코딩/디코딩 (클라이언트에는 불투명 문자열로 전달)
+    private String encodeCursor(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor, int expectedParts) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("커서 형식 오류");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
         }
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,7 @@ public class SharePostDTO {
     private String imageUrl;        // Gallery에서 사용
     private String thumbnailUrl;
     private String sourceType;      // "STORY" 또는 "GALLERY"
+    private String renderStatus;    // "RENDERING" 동안은 videoUrl이 이미지 URL
     private Integer likeCount;      // 좋아요 수
     private Boolean isLiked;        // 현재 사용자가 좋아요했는지
     private Boolean isOwner;        // 현재 사용자가 작성자인지
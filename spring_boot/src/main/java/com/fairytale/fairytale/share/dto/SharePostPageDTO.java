@@ -0,0 +1,19 @@
+// src/main/java/com/fairytale/fairytale/share/dto/SharePostPageDTO.java
+package com.fairytale.fairytale.share.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharePostPageDTO {
+    private List<SharePostDTO> posts;
+    private String nextCursor;      // 다음 페이지 요청 시 그대로 전달 (없으면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,43 @@
+package com.fairytale.fairytale.stats;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📊 사용자별 통계 집계 (갤러리/공유 통계를 PK 조회 한 번으로 제공)
+ * 원본 테이블 변경 시 UserStatsService가 해당 사용자 행을 다시 계산한다.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor
+public class UserStats {
+
+    @Id
+    @Column(length = 100)
+    private String username;
+
+    @Column(name = "story_count", nullable = false)
+    private long storyCount;            // 전체 동화 수
+
+    @Column(name = "story_image_count", nullable = false)
+    private long storyImageCount;       // 이미지가 있는 동화 수
+
+    @Column(name = "gallery_coloring_count", nullable = false)
+    private long galleryColoringCount;  // 갤러리에 저장된 색칠 이미지 수
+
+    @Column(name = "coloring_work_count", nullable = false)
+    private long coloringWorkCount;     // 색칠 완성작 수
+
+    @Column(name = "share_post_count", nullable = false)
+    private long sharePostCount;        // 공유 게시물 수
+
+    @Column(name = "total_likes", nullable = false)
+    private long totalLikes;            // 받은 좋아요 수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
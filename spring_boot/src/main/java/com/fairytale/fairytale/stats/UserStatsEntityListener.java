@@ -0,0 +1,63 @@
+package com.fairytale.fairytale.stats;
+
+import com.fairytale.fairytale.coloring.ColoringWork;
+import com.fairytale.fairytale.gallery.Gallery;
+import com.fairytale.fairytale.share.SharePost;
+import com.fairytale.fairytale.story.Story;
+import com.fairytale.fairytale.users.Users;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 📊 통계 대상 엔티티 변경 감지 → 해당 사용자 통계에 증감값 기록
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입이 가능하다.
+ * (EntityManagerFactory 초기화 중 순환 참조를 피하려고 서비스는 지연 조회)
+ */
+public class UserStatsEntityListener {
+
+    private final ObjectProvider<UserStatsService> userStatsService;
+
+    public UserStatsEntityListener(ObjectProvider<UserStatsService> userStatsService) {
+        this.userStatsService = userStatsService;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        record(entity, 1);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        record(entity, 0);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        record(entity, -1);
+    }
+
+    // delta: 추가 +1, 삭제 -1, 수정 0
+    private void record(Object entity, int delta) {
+        UserStatsService service = userStatsService.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+
+        if (entity instanceof Story story) {
+            service.recordStoryChange(userId(story.getUser()), delta);
+        } else if (entity instanceof Gallery gallery) {
+            service.recordGalleryChange(userId(gallery.getUser()));
+        } else if (entity instanceof SharePost sharePost) {
+            service.recordSharePostChange(userId(sharePost.getUser()), delta, sharePost.getLikeCount());
+        } else if (entity instanceof ColoringWork coloringWork) {
+            service.recordColoringWorkChange(coloringWork.getUsername(), delta);
+        }
+    }
+
+    // 지연 로딩 프록시도 id 조회는 초기화 없이 가능
+    private Long userId(Users user) {
+        return user != null ? user.getId() : null;
+    }
+}
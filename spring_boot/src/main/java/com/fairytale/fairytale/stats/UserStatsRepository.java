@@ -0,0 +1,81 @@
+package com.fairytale.fairytale.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, String> {
+
+    // 🔄 원본 테이블에서 통계를 다시 계산해 UPSERT (WHERE 절만 바꿔서 재사용)
+    String REFRESH_SELECT = "INSERT INTO user_stats (username, story_count, story_image_count, gallery_coloring_count, " +
+            "coloring_work_count, share_post_count, total_likes, updated_at) " +
+            "SELECT u.username, " +
+            "(SELECT COUNT(*) FROM story s WHERE s.users_id = u.id), " +
+            "(SELECT COUNT(*) FROM story s WHERE s.users_id = u.id AND s.image IS NOT NULL), " +
+            "(SELECT COUNT(*) FROM gallery g WHERE g.user_id = u.id AND g.coloring_image_url IS NOT NULL), " +
+            "(SELECT COUNT(*) FROM coloring_works c WHERE c.username = u.username), " +
+            "(SELECT COUNT(*) FROM share_posts sp WHERE sp.user_id = u.id), " +
+            "(SELECT COALESCE(SUM(sp.like_count), 0) FROM share_posts sp WHERE sp.user_id = u.id), " +
+            "NOW() FROM users u ";
+
+    String REFRESH_CONFLICT = " ON CONFLICT (username) DO UPDATE SET " +
+            "story_count = EXCLUDED.story_count, " +
+            "story_image_count = EXCLUDED.story_image_count, " +
+            "gallery_coloring_count = EXCLUDED.gallery_coloring_count, " +
+            "coloring_work_count = EXCLUDED.coloring_work_count, " +
+            "share_post_count = EXCLUDED.share_post_count, " +
+            "total_likes = EXCLUDED.total_likes, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = REFRESH_SELECT + "WHERE u.username = :username" + REFRESH_CONFLICT, nativeQuery = true)
+    int refreshByUsername(@Param("username") String username);
+
+    // 🧹 전체 사용자 재계산 (주기적 정합성 보정)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(value = REFRESH_SELECT + "WHERE TRUE" + REFRESH_CONFLICT, nativeQuery = true)
+    int refreshAll();
+
+    // ➕ 동화/공유 게시물 수, 받은 좋아요 증감 반영 (행이 없으면 조회 시점 계산에 맡김)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_stats us SET " +
+            "story_count = GREATEST(us.story_count + :stories, 0), " +
+            "share_post_count = GREATEST(us.share_post_count + :sharePosts, 0), " +
+            "total_likes = GREATEST(us.total_likes + :likes, 0), " +
+            "updated_at = NOW() " +
+            "FROM users u WHERE u.id = :userId AND us.username = u.username", nativeQuery = true)
+    int addCountsByUserId(@Param("userId") Long userId,
+                          @Param("stories") long stories,
+                          @Param("sharePosts") long sharePosts,
+                          @Param("likes") long likes);
+
+    // ➕ 색칠 완성작 수 증감 반영
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_stats SET coloring_work_count = GREATEST(coloring_work_count + :delta, 0), " +
+            "updated_at = NOW() WHERE username = :username", nativeQuery = true)
+    int addColoringWorks(@Param("username") String username, @Param("delta") long delta);
+
+    // 🖼️ 수정으로 바뀔 수 있는 이미지 유무 통계만 다시 계산 (사용자 한 명, 인덱스 범위 조회)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_stats us SET " +
+            "story_image_count = (SELECT COUNT(*) FROM story s WHERE s.users_id = u.id AND s.image IS NOT NULL), " +
+            "gallery_coloring_count = (SELECT COUNT(*) FROM gallery g WHERE g.user_id = u.id AND g.coloring_image_url IS NOT NULL), " +
+            "updated_at = NOW() " +
+            "FROM users u WHERE u.id = :userId AND us.username = u.username", nativeQuery = true)
+    int recountImagesByUserId(@Param("userId") Long userId);
+
+    // ❤️ 좋아요 증감을 게시물 작성자의 통계에 반영 (like_count 갱신과 같은 트랜잭션에서 호출)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE user_stats us SET total_likes = GREATEST(us.total_likes + :delta, 0), updated_at = NOW() " +
+            "FROM share_posts sp JOIN users u ON u.id = sp.user_id " +
+            "WHERE sp.id = :postId AND us.username = u.username", nativeQuery = true)
+    int addLikes(@Param("postId") Long postId, @Param("delta") int delta);
+}
@@ -0,0 +1,202 @@
+package com.fairytale.fairytale.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 📊 사용자 통계 집계 서비스
+ * - 조회: user_stats PK 조회 한 번 (행이 없으면 그 자리에서 계산)
+ * - 변경: 엔티티 리스너가 커밋 후 증감값을 쌓고 → 주기적으로 해당 사용자 행에 증감만 반영
+ *   (이미지/색칠 이미지 유무처럼 수정으로 바뀌는 값은 그 두 컬럼만 다시 셈)
+ * - 좋아요: 좋아요 수(like_count)와 같은 트랜잭션에서 작성자 통계에 증감 반영
+ * - 정합성: 전체 사용자 재계산 배치 (리스너를 거치지 않은 변경, 행 생성 직후의 경합 보정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+
+    // 사용자 ID별 미반영 증감값
+    private final Map<Long, PendingDelta> pendingByUserId = new ConcurrentHashMap<>();
+    // 색칠 완성작은 username으로만 연결됨
+    private final Map<String, Long> pendingColoringWorks = new ConcurrentHashMap<>();
+    // 이미지/색칠 이미지 유무 재계산 대상
+    private final Set<Long> imageRecountUserIds = ConcurrentHashMap.newKeySet();
+
+    private static final class PendingDelta {
+        long stories;
+        long sharePosts;
+        long likes;
+
+        boolean isEmpty() {
+            return stories == 0 && sharePosts == 0 && likes == 0;
+        }
+    }
+
+    /**
+     * 🔍 사용자 통계 조회
+     */
+    @Transactional
+    public UserStats getStats(String username) {
+        return userStatsRepository.findById(username).orElseGet(() -> {
+            userStatsRepository.refreshByUsername(username);
+            return userStatsRepository.findById(username)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
+        });
+    }
+
+    /**
+     * 📖 동화 추가(+1)/삭제(-1)/수정(0) - 이미지 유무는 다시 셈
+     */
+    public void recordStoryChange(Long userId, int delta) {
+        if (userId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            if (delta != 0) {
+                pendingByUserId.compute(userId, (id, pending) -> add(pending, delta, 0, 0));
+            }
+            imageRecountUserIds.add(userId);
+        });
+    }
+
+    /**
+     * 🖼️ 갤러리 변경 - 색칠 이미지 유무는 다시 셈
+     */
+    public void recordGalleryChange(Long userId) {
+        if (userId != null) {
+            afterCommit(() -> imageRecountUserIds.add(userId));
+        }
+    }
+
+    /**
+     * 📤 공유 게시물 추가(+1)/삭제(-1) - 삭제되면 받은 좋아요도 함께 뺌
+     */
+    public void recordSharePostChange(Long userId, int delta, int likeCount) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        long likes = delta < 0 ? -likeCount : 0;
+        afterCommit(() -> pendingByUserId.compute(userId, (id, pending) -> add(pending, 0, delta, likes)));
+    }
+
+    /**
+     * 🎨 색칠 완성작 추가(+1)/삭제(-1)
+     */
+    public void recordColoringWorkChange(String username, int delta) {
+        if (username != null && delta != 0) {
+            afterCommit(() -> pendingColoringWorks.merge(username, (long) delta, Long::sum));
+        }
+    }
+
+    /**
+     * ❤️ 좋아요 증감 반영 (호출한 트랜잭션에 참여 - like_count 갱신과 같은 트랜잭션에서 호출)
+     */
+    public void applyLikeDelta(Long postId, int delta) {
+        userStatsRepository.addLikes(postId, delta);
+    }
+
+    // 🔄 쌓인 증감값 반영 (행이 아직 없는 사용자는 조회 시점에 원본에서 계산하므로 건너뜀)
+    @Scheduled(fixedDelayString = "${USER_STATS_FLUSH_MS:2000}")
+    public void flushDirty() {
+        int applied = 0;
+
+        for (Long userId : new ArrayList<>(pendingByUserId.keySet())) {
+            PendingDelta pending = pendingByUserId.remove(userId);
+            if (pending == null || pending.isEmpty()) {
+                continue;
+            }
+            try {
+                userStatsRepository.addCountsByUserId(userId, pending.stories, pending.sharePosts, pending.likes);
+                applied++;
+            } catch (Exception e) {
+                log.warn("⚠️ 사용자 통계 반영 실패 - UserId: {}, {}", userId, e.getMessage());
+                pendingByUserId.compute(userId, (id, current) ->
+                        add(current, pending.stories, pending.sharePosts, pending.likes));
+            }
+        }
+
+        for (String username : new ArrayList<>(pendingColoringWorks.keySet())) {
+            Long delta = pendingColoringWorks.remove(username);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+            try {
+                userStatsRepository.addColoringWorks(username, delta);
+                applied++;
+            } catch (Exception e) {
+                log.warn("⚠️ 사용자 통계 반영 실패 - 사용자: {}, {}", username, e.getMessage());
+                pendingColoringWorks.merge(username, delta, Long::sum);
+            }
+        }
+
+        for (Long userId : drain(imageRecountUserIds)) {
+            try {
+                userStatsRepository.recountImagesByUserId(userId);
+                applied++;
+            } catch (Exception e) {
+                log.warn("⚠️ 사용자 이미지 통계 재계산 실패 - UserId: {}, {}", userId, e.getMessage());
+                imageRecountUserIds.add(userId);
+            }
+        }
+
+        if (applied > 0) {
+            log.debug("📊 사용자 통계 증감 반영 - {}건", applied);
+        }
+    }
+
+    // 🧹 전체 사용자 통계 정합성 보정 (리스너를 거치지 않은 변경 반영)
+    @Scheduled(cron = "${USER_STATS_RECONCILE_CRON:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            int refreshed = userStatsRepository.refreshAll();
+            log.info("✅ 사용자 통계 정합성 보정 완료 - {}명", refreshed);
+        } catch (Exception e) {
+            log.error("❌ 사용자 통계 정합성 보정 실패: {}", e.getMessage());
+        }
+    }
+
+    private static PendingDelta add(PendingDelta pending, long stories, long sharePosts, long likes) {
+        PendingDelta result = pending != null ? pending : new PendingDelta();
+        result.stories += stories;
+        result.sharePosts += sharePosts;
+        result.likes += likes;
+        return result;
+    }
+
+    private static <T> List<T> drain(Set<T> set) {
+        List<T> drained = new ArrayList<>();
+        for (T value : set) {
+            if (set.remove(value)) {
+                drained.add(value);
+            }
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
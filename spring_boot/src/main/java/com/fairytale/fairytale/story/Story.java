@@ -1,6 +1,7 @@
 package com.fairytale.fairytale.story;
 
 import com.fairytale.fairytale.baby.Baby;
+import com.fairytale.fairytale.stats.UserStatsEntityListener;
 import com.fairytale.fairytale.users.Users;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -15,8 +16,10 @@ import java.time.LocalDateTime;
 @Table(name = "story", indexes = {
         @Index(name = "idx_theme", columnList = "theme"),
         @Index(name = "idx_voice", columnList = "voice"),
-        @Index(name = "idx_title", columnList = "title")
+        @Index(name = "idx_title", columnList = "title"),
+        @Index(name = "idx_story_user_created", columnList = "users_id, createdAt, id") // 갤러리/내 동화 목록
 })
+@EntityListeners(UserStatsEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,5 +68,11 @@ public class Story {
 
     @Column(name = "child_name")
     private String childName;
+
+    // 🔒 낙관적 잠금 - 생성 결과 저장 시 동시 수정 감지 (기존 행은 0부터 시작)
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    @JsonIgnore
+    private Long version;
 }
 
@@ -1,21 +1,35 @@
 package com.fairytale.fairytale.story;
 
 // 📚 필요한 라이브러리들 import
+import com.fairytale.fairytale.admission.AdmissionRejectedException;
+import com.fairytale.fairytale.admission.AdmissionService;
 import com.fairytale.fairytale.coloring.ColoringTemplateService;
+import com.fairytale.fairytale.resilience.HealthMonitor;
 import com.fairytale.fairytale.story.dto.*;
+import com.fairytale.fairytale.story.job.GenerationIdempotencyService;
+import com.fairytale.fairytale.story.job.GenerationJob;
+import com.fairytale.fairytale.story.job.GenerationJobService;
 import com.fairytale.fairytale.service.S3Service;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * 🎭 StoryController - 최적화된 S3 연동 버전
@@ -32,12 +46,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class StoryController {
 
+    private static final int AUDIO_STREAM_BUFFER_SIZE = 8192; // 스트림당 고정 버퍼
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     // 🔧 의존성 주입
     private final StoryService storyService;
     private final RestTemplate restTemplate;
     private final S3Service s3Service;
     private final ColoringTemplateService coloringTemplateService;
     private final ObjectMapper objectMapper;
+    private final GenerationJobService generationJobService;
+    private final GenerationIdempotencyService generationIdempotencyService;
+    private final AdmissionService admissionService;
+    private final HealthMonitor healthMonitor;
 
     /**
      * 🎯 동화 생성 API
@@ -45,15 +66,20 @@ public class StoryController {
     @PostMapping("/generate/story")
     public ResponseEntity<Story> createStory(
             @RequestBody StoryCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             Authentication auth
     ) {
         try {
             String username = auth.getName();
             log.info("🔍 컨트롤러에서 받은 username: {}", username);
 
-            Story story = storyService.createStory(request, username);
+            Story story = runOnce(storyKey(username, idempotencyKey),
+                    () -> admitted(AdmissionService.Operation.STORY, username,
+                            () -> storyService.createStory(request, username)));
             return ResponseEntity.ok(story);
 
+        } catch (AdmissionRejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             log.error("❌ 컨트롤러 에러: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -81,14 +107,22 @@ public class StoryController {
      * 🗣️ 음성 변환 API (S3 업로드 포함)
      */
     @PostMapping("/generate/voice")
-    public ResponseEntity<Story> createVoice(@RequestBody VoiceRequest request) {
+    public ResponseEntity<Story> createVoice(
+            @RequestBody VoiceRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication auth
+    ) {
         try {
             log.info("🎤 음성 생성 요청 - StoryId: {}", request.getStoryId());
 
-            Story result = storyService.createVoice(request);
+            Story result = runOnce(voiceKey(auth.getName(), idempotencyKey, request),
+                    () -> admitted(AdmissionService.Operation.VOICE, auth.getName(),
+                            () -> storyService.createVoice(request)));
 
             log.info("✅ 음성 생성 완료 - VoiceContent: {}", result.getVoiceContent());
             return ResponseEntity.ok(result);
+        } catch (AdmissionRejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             log.error("❌ 음성 생성 실패: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -96,56 +130,222 @@ public class StoryController {
     }
 
     /**
-     * 📁 S3 오디오 파일 다운로드 API (관리자용)
+     * 📁 S3 오디오 파일 다운로드 API (관리자용, Range 지원 스트리밍)
      */
     @PostMapping("/download/audio/s3")
-    public ResponseEntity<byte[]> downloadAudioFromS3(@RequestBody Map<String, String> request) {
+    public ResponseEntity<StreamingResponseBody> downloadAudioFromS3(
+            @RequestBody Map<String, String> request,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+        String s3Url = request.get("s3Url");
+        log.info("🔍 [S3 오디오 다운로드] 요청된 S3 URL: {}", s3Url);
+
+        if (s3Url == null || s3Url.trim().isEmpty()) {
+            log.warn("❌ S3 URL이 비어있음");
+            return withAudioCorsHeaders(textResponse(HttpStatus.BAD_REQUEST, "S3 URL이 제공되지 않았습니다."));
+        }
+
+        // 🔍 S3 URL 유효성 검사
+        if (!s3Url.contains("amazonaws.com") && !s3Url.contains("cloudfront.net")) {
+            log.warn("❌ 유효하지 않은 S3 URL: {}", s3Url);
+            return withAudioCorsHeaders(textResponse(HttpStatus.FORBIDDEN, "유효하지 않은 S3 URL입니다."));
+        }
+
+        return withAudioCorsHeaders(streamS3Audio(s3Url, range, ifNoneMatch, ifRange));
+    }
+
+    // 🌐 브라우저 클라이언트용 CORS 헤더 (기존 다운로드 API 동작 유지 + Range/ETag 헤더 노출)
+    private ResponseEntity<StreamingResponseBody> withAudioCorsHeaders(ResponseEntity<StreamingResponseBody> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.add("Access-Control-Allow-Origin", "*");
+        headers.add("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
+        headers.add("Access-Control-Allow-Headers", "Content-Type, Authorization, Range, If-None-Match, If-Range");
+        headers.add("Access-Control-Expose-Headers", "Content-Range, Accept-Ranges, ETag, Content-Length");
+        return ResponseEntity.status(response.getStatusCode()).headers(headers).body(response.getBody());
+    }
+
+    /**
+     * 🎧 동화 음성 스트리밍 API (Range/206, ETag 304 지원 - 모바일 플레이어 탐색용)
+     */
+    @GetMapping("/audio/stream/{storyId}")
+    public ResponseEntity<StreamingResponseBody> streamStoryAudio(
+            @PathVariable Long storyId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            Authentication auth) {
+        String voiceUrl;
         try {
-            String s3Url = request.get("s3Url");
-            log.info("🔍 [S3 오디오 다운로드] 요청된 S3 URL: {}", s3Url);
+            voiceUrl = storyService.getStoryById(storyId, auth.getName()).getVoiceContent();
+        } catch (Exception e) {
+            log.warn("❌ 음성 스트리밍 대상 스토리 조회 실패: {}", e.getMessage());
+            return textResponse(HttpStatus.NOT_FOUND, "스토리를 찾을 수 없습니다.");
+        }
+
+        if (voiceUrl == null || voiceUrl.isEmpty()) {
+            return textResponse(HttpStatus.NOT_FOUND, "음성 파일이 없습니다.");
+        }
+
+        return streamS3Audio(voiceUrl, range, ifNoneMatch, ifRange);
+    }
+
+    /**
+     * 🎧 S3 오디오 객체를 고정 크기 버퍼로 응답에 흘려보냄 (전체 파일을 힙에 올리지 않음)
+     */
+    private ResponseEntity<StreamingResponseBody> streamS3Audio(String s3Url, String range,
+                                                                String ifNoneMatch, String ifRange) {
+        String s3Key = s3Service.extractS3KeyFromUrl(stripQuery(s3Url));
+        if (s3Key == null || s3Key.isEmpty()) {
+            return textResponse(HttpStatus.BAD_REQUEST, "S3 키를 추출할 수 없습니다.");
+        }
 
-            if (s3Url == null || s3Url.trim().isEmpty()) {
-                log.warn("❌ S3 URL이 비어있음");
-                return ResponseEntity.badRequest()
-                        .body("S3 URL이 제공되지 않았습니다.".getBytes());
+        long[] requested;
+        try {
+            requested = parseRange(range);
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(s3Key);
+        }
+
+        try {
+            if (requested != null && requested[0] < 0) {
+                // suffix Range (bytes=-N)는 전체 길이를 알아야 계산 가능
+                long length = s3Service.getAudioObjectMetadata(s3Key).getContentLength();
+                if (length == 0) {
+                    return rangeNotSatisfiable(s3Key);
+                }
+                requested = new long[]{Math.max(0, length + requested[0]), length - 1};
             }
 
-            // 🔍 S3 URL 유효성 검사
-            if (!s3Url.contains("amazonaws.com") && !s3Url.contains("cloudfront.net")) {
-                log.warn("❌ 유효하지 않은 S3 URL: {}", s3Url);
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body("유효하지 않은 S3 URL입니다.".getBytes());
+            Long rangeStart = requested != null ? requested[0] : null;
+            Long rangeEnd = requested != null && requested[1] >= 0 ? requested[1] : null;
+
+            S3Object s3Object = s3Service.getAudioObject(s3Key, rangeStart, rangeEnd, ifNoneMatch);
+            if (s3Object == null) {
+                HttpHeaders headers = new HttpHeaders();
+                if (ifNoneMatch.startsWith("\"") && !ifNoneMatch.contains(",")) {
+                    headers.set(HttpHeaders.ETAG, ifNoneMatch);
+                }
+                headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
             }
 
-            // 📥 S3에서 파일 다운로드
-            byte[] audioBytes = s3Service.downloadAudioFile(
-                    s3Service.extractS3KeyFromUrl(s3Url)
-            );
+            ObjectMetadata metadata = s3Object.getObjectMetadata();
+            String eTag = "\"" + metadata.getETag() + "\"";
 
-            log.info("✅ S3 파일 다운로드 완료: {} bytes", audioBytes.length);
+            // If-Range가 현재 ETag와 다르면 부분 응답 대신 전체를 다시 보냄
+            if (requested != null && ifRange != null && !ifRange.equals(eTag)) {
+                s3Object.getObjectContent().abort();
+                s3Object = s3Service.getAudioObject(s3Key, null, null, null);
+                metadata = s3Object.getObjectMetadata();
+                eTag = "\"" + metadata.getETag() + "\"";
+                requested = null;
+            }
 
-            // 📋 HTTP 응답 헤더 설정
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(getAudioMediaType(s3Url));
-            headers.setContentLength(audioBytes.length);
-            headers.setCacheControl("no-cache");
+            headers.setContentType(getAudioMediaType(s3Key));
+            headers.setContentLength(metadata.getContentLength());
+            headers.setETag(eTag);
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+            headers.setCacheControl(CacheControl.noCache().cachePrivate());
+
+            HttpStatus status = HttpStatus.OK;
+            Long[] contentRange = metadata.getContentRange();
+            if (requested != null && contentRange != null) {
+                status = HttpStatus.PARTIAL_CONTENT;
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + contentRange[0] + "-" + contentRange[1]
+                        + "/" + metadata.getInstanceLength());
+            }
 
-            // 🌐 CORS 헤더 추가
-            headers.add("Access-Control-Allow-Origin", "*");
-            headers.add("Access-Control-Allow-Methods", "GET, POST, OPTIONS");
-            headers.add("Access-Control-Allow-Headers", "Content-Type, Authorization");
+            log.info("🎧 S3 오디오 스트리밍: {} ({}, {} bytes)", s3Key, status.value(), metadata.getContentLength());
+            S3ObjectInputStream content = s3Object.getObjectContent();
+            return ResponseEntity.status(status).headers(headers).body(out -> copyAudioStream(content, out));
 
-            log.info("✅ S3 오디오 파일 다운로드 성공");
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value()) {
+                return rangeNotSatisfiable(s3Key);
+            }
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return textResponse(HttpStatus.NOT_FOUND, "S3에 파일이 존재하지 않습니다.");
+            }
+            log.error("❌ S3 오디오 스트리밍 실패: {}", e.getMessage());
+            return textResponse(HttpStatus.INTERNAL_SERVER_ERROR, "S3 다운로드 실패: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("❌ S3 오디오 스트리밍 실패: {}", e.getMessage());
+            return textResponse(HttpStatus.INTERNAL_SERVER_ERROR, "S3 다운로드 실패: " + e.getMessage());
+        }
+    }
 
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(audioBytes);
+    private void copyAudioStream(S3ObjectInputStream content, java.io.OutputStream out) throws java.io.IOException {
+        byte[] buffer = new byte[AUDIO_STREAM_BUFFER_SIZE];
+        try {
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) != -1) {
+                out.write(buffer, 0, bytesRead);
+            }
+            out.flush();
+            content.close();
+        } catch (java.io.IOException e) {
+            // 클라이언트가 탐색/중단하면 남은 본문을 읽지 않고 S3 연결을 끊음
+            content.abort();
+            throw e;
+        }
+    }
 
+    /**
+     * 📏 단일 Range 헤더 파싱: {start, end(-1=끝까지)} 또는 suffix {-N, -1}, 없거나 다중 Range면 null
+     */
+    private long[] parseRange(String range) {
+        if (range == null || !range.startsWith("bytes=") || range.contains(",")) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        String startPart = spec.substring(0, dash).trim();
+        String endPart = spec.substring(dash + 1).trim();
+        try {
+            if (startPart.isEmpty()) {
+                long suffix = Long.parseLong(endPart);
+                if (suffix <= 0) {
+                    throw new IllegalArgumentException("잘못된 Range: " + range);
+                }
+                return new long[]{-suffix, -1};
+            }
+            long start = Long.parseLong(startPart);
+            long end = endPart.isEmpty() ? -1 : Long.parseLong(endPart);
+            if (end >= 0 && end < start) {
+                throw new IllegalArgumentException("잘못된 Range: " + range);
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null; // 해석할 수 없는 Range는 무시하고 전체 응답
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> rangeNotSatisfiable(String s3Key) {
+        HttpHeaders headers = new HttpHeaders();
+        try {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + s3Service.getAudioObjectMetadata(s3Key).getContentLength());
         } catch (Exception e) {
-            log.error("❌ S3 오디오 다운로드 처리 실패: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(("S3 다운로드 실패: " + e.getMessage()).getBytes());
+            log.warn("⚠️ 416 응답용 길이 조회 실패: {}", e.getMessage());
         }
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+    }
+
+    private ResponseEntity<StreamingResponseBody> textResponse(HttpStatus status, String message) {
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.status(status)
+                .contentType(new MediaType("text", "plain", StandardCharsets.UTF_8))
+                .body(out -> out.write(body));
+    }
+
+    private String stripQuery(String url) {
+        int queryIndex = url.indexOf('?');
+        return queryIndex >= 0 ? url.substring(0, queryIndex) : url;
     }
 
     /**
@@ -222,10 +422,16 @@ public class StoryController {
      * 🎨 이미지 생성 API
      */
     @PostMapping("/generate/image")
-    public ResponseEntity<Story> createImage(@RequestBody ImageRequest request, Authentication auth) {
+    public ResponseEntity<Story> createImage(
+            @RequestBody ImageRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication auth
+    ) {
         try {
             String username = auth.getName(); // 🎯 이 1줄 추가!
-            Story result = storyService.createImage(request, username); // 🎯 username 파라미터 추가!
+            Story result = runOnce(imageKey(username, idempotencyKey, request),
+                    () -> admitted(AdmissionService.Operation.IMAGE, username,
+                            () -> storyService.createImage(request, username))); // 🎯 username 파라미터 추가!
 
             // 🔍 응답 전 디버깅 로그 (기존 코드 그대로)
             log.info("=== 컨트롤러 응답 데이터 ===");
@@ -247,6 +453,8 @@ public class StoryController {
             }
 
             return ResponseEntity.ok(result);
+        } catch (AdmissionRejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             log.error("❌ 컨트롤러 에러: {}", e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -256,7 +464,7 @@ public class StoryController {
      * 🎨 흑백 변환 API (색칠하기 버튼용) - 수정됨
      */
     @PostMapping("/convert/bwimage")
-    public ResponseEntity<String> convertToBlackWhiteImage(@RequestBody Map<String, String> request) {
+    public ResponseEntity<String> convertToBlackWhiteImage(@RequestBody Map<String, String> request, Authentication auth) {
         try {
             String imageUrl = request.get("text");
             log.info("🔍 흑백 변환 요청: {}", imageUrl);
@@ -274,7 +482,7 @@ public class StoryController {
             }
 
             // 🎯 StoryService의 흑백 변환 메서드 호출
-            String blackWhiteUrl = storyService.processImageToBlackWhite(imageUrl);
+            String blackWhiteUrl = storyService.processImageToBlackWhite(imageUrl, auth.getName());
 
             Map<String, Object> response = new HashMap<>();
             response.put("image_url", blackWhiteUrl);
@@ -285,6 +493,8 @@ public class StoryController {
             log.info("✅ 흑백 변환 완료 - 원본: {}, 변환: {}", imageUrl, blackWhiteUrl);
             return ResponseEntity.ok(responseJson);
 
+        } catch (AdmissionRejectedException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             log.error("❌ 흑백 변환 실패: {}", e.getMessage());
 
@@ -304,6 +514,151 @@ public class StoryController {
         }
     }
 
+    /**
+     * 📥 비동기 동화 생성 API - jobId 즉시 반환
+     */
+    @PostMapping("/jobs/story")
+    public ResponseEntity<Map<String, Object>> submitStoryJob(
+            @RequestBody StoryCreateRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication auth
+    ) {
+        String username = auth.getName();
+        return submitJob(GenerationJob.Type.STORY, username, storyKey(username, idempotencyKey),
+                () -> storyService.createStory(request, username));
+    }
+
+    /**
+     * 📥 비동기 이미지 생성 API - jobId 즉시 반환
+     */
+    @PostMapping("/jobs/image")
+    public ResponseEntity<Map<String, Object>> submitImageJob(
+            @RequestBody ImageRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication auth
+    ) {
+        String username = auth.getName();
+        return submitJob(GenerationJob.Type.IMAGE, username, imageKey(username, idempotencyKey, request),
+                () -> storyService.createImage(request, username));
+    }
+
+    /**
+     * 📥 비동기 음성 생성 API - jobId 즉시 반환
+     */
+    @PostMapping("/jobs/voice")
+    public ResponseEntity<Map<String, Object>> submitVoiceJob(
+            @RequestBody VoiceRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Authentication auth
+    ) {
+        String username = auth.getName();
+        try {
+            // 🔒 본인 동화인지 먼저 확인
+            storyService.getStoryById(request.getStoryId(), username);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+        return submitJob(GenerationJob.Type.VOICE, username, voiceKey(username, idempotencyKey, request),
+                () -> storyService.createVoice(request));
+    }
+
+    /**
+     * 🔍 생성 작업 상태 조회 API
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJobStatus(
+            @PathVariable String jobId,
+            Authentication auth
+    ) {
+        try {
+            GenerationJob job = generationJobService.getJob(jobId, auth.getName());
+            return ResponseEntity.ok(toJobResponse(job));
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        }
+    }
+
+    private ResponseEntity<Map<String, Object>> submitJob(
+            GenerationJob.Type type,
+            String username,
+            String idempotencyKey,
+            Supplier<Story> task
+    ) {
+        try {
+            // 🚦 중복 제거의 대표 실행만 작업 종류별 전역 동시 실행 한도 안에서 FastAPI 호출
+            AdmissionService.Operation operation = AdmissionService.Operation.valueOf(type.name());
+            GenerationJob job = generationJobService.submit(type, username, idempotencyKey,
+                    () -> runOnce(idempotencyKey, () -> admissionService.runAdmitted(operation, task)));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toJobResponse(job));
+        } catch (TaskRejectedException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("error", "생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        }
+    }
+
+    // 🔁 같은 키의 생성 요청은 한 번만 실행 (키가 없으면 그대로 실행)
+    private Story runOnce(String idempotencyKey, Supplier<Story> task) {
+        return idempotencyKey != null ? generationIdempotencyService.execute(idempotencyKey, task) : task.get();
+    }
+
+    // 🚦 실행 자리를 잡고 실행 (runOnce 안에서 호출 - 중복 요청은 자리 없이 대표 결과만 기다림)
+    private Story admitted(AdmissionService.Operation operation, String username, Supplier<Story> task) {
+        try (AdmissionService.Permit permit = admissionService.admit(operation, username)) {
+            return task.get();
+        }
+    }
+
+    private static <T> ResponseEntity<T> tooManyRequests(AdmissionRejectedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .build();
+    }
+
+    // 동화 생성은 같은 테마로 다시 만드는 경우가 있어 헤더 키가 있을 때만 중복 제거
+    private static String storyKey(String username, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        return GenerationIdempotencyService.key(username, idempotencyKey, GenerationJob.Type.STORY);
+    }
+
+    private static String imageKey(String username, String idempotencyKey, ImageRequest request) {
+        return GenerationIdempotencyService.key(username, idempotencyKey, GenerationJob.Type.IMAGE,
+                request.getStoryId());
+    }
+
+    private static String voiceKey(String username, String idempotencyKey, VoiceRequest request) {
+        return GenerationIdempotencyService.key(username, idempotencyKey, GenerationJob.Type.VOICE,
+                request.getStoryId(), request.getVoice(), request.getSpeed());
+    }
+
+    private Map<String, Object> toJobResponse(GenerationJob job) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", job.getStatus() != GenerationJob.Status.FAILED);
+        response.put("jobId", job.getJobId());
+        response.put("type", job.getType());
+        response.put("status", job.getStatus());
+        response.put("message", job.getMessage());
+        response.put("createdAt", job.getCreatedAt().toString());
+        response.put("updatedAt", job.getUpdatedAt().toString());
+        if (job.getResult() != null) {
+            response.put("storyId", job.getResult().getId());
+            response.put("story", job.getResult());
+        }
+        if (job.getError() != null) {
+            response.put("error", job.getError());
+        }
+        return response;
+    }
+
     /**
      * 🎵 파일 확장자에 따른 MediaType 반환
      */
@@ -330,10 +685,14 @@ public class StoryController {
     public ResponseEntity<Map<String, Object>> checkS3Health() {
         try {
             // ✅ 수정: 실제 존재하는 메서드 호출
+            // HealthMonitor가 주기적으로 확인한 결과 (원격 호출 없음)
             boolean isConnected = s3Service.isS3Available();
+            HealthMonitor.Snapshot snapshot = healthMonitor.getSnapshot(HealthMonitor.S3);
 
             Map<String, Object> healthStatus = new HashMap<>();
             healthStatus.put("s3_connected", isConnected);
+            healthStatus.put("latency_ms", snapshot.latencyMs());
+            healthStatus.put("checked_at", snapshot.checkedAtMillis());
             healthStatus.put("timestamp", System.currentTimeMillis());
             healthStatus.put("status", isConnected ? "UP" : "DOWN");
 
@@ -0,0 +1,158 @@
+package com.fairytale.fairytale.story;
+
+import com.fairytale.fairytale.baby.BabyRepository;
+import com.fairytale.fairytale.coloring.ColoringTemplateJobService;
+import com.fairytale.fairytale.gallery.Gallery;
+import com.fairytale.fairytale.gallery.GalleryRepository;
+import com.fairytale.fairytale.users.UserIdentityCache;
+import com.fairytale.fairytale.users.Users;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 💾 동화 생성 결과 저장 (짧은 트랜잭션)
+ * StoryService는 FastAPI 호출을 트랜잭션 밖에서 하고, 결과 저장만 여기서 한다.
+ * 생성 도중 같은 동화가 바뀌었으면(@Version 불일치) 최신 상태를 기준으로 이번 작업의 필드만 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoryPersistenceService {
+
+    private final StoryRepository storyRepository;
+    private final UserIdentityCache userIdentityCache;
+    private final BabyRepository babyRepository;
+    private final GalleryRepository galleryRepository;
+
+    // ✅ @Lazy로 순환 의존성 해결 (ColoringTemplateJobService → ColoringTemplateService → StoryService)
+    @Lazy
+    @Autowired
+    private ColoringTemplateJobService coloringTemplateJobService;
+
+    // 외부 호출 전에 읽어 둔 동화 상태
+    public record Snapshot(Long storyId, Long version, String image, String voiceContent) {
+        public static Snapshot of(Story story) {
+            return new Snapshot(story.getId(), story.getVersion(), story.getImage(), story.getVoiceContent());
+        }
+    }
+
+    /**
+     * 📝 새 동화 저장
+     */
+    @Transactional
+    public Story saveNewStory(Long userId, Long babyId, String theme, String voice, String content) {
+        Users user = userIdentityCache.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+
+        Story story = new Story();
+        story.setTheme(theme);
+        story.setVoice(voice);
+        story.setTitle(theme + " 동화");
+        story.setContent(content);
+        story.setUser(user);
+        story.setVoiceContent("");
+        story.setImage("");
+
+        if (babyId != null) {
+            story.setBaby(babyRepository.getReferenceById(babyId));
+            log.info("✅ Story에 baby 연결 완료 - baby ID: {}", babyId);
+        }
+        return storyRepository.save(story);
+    }
+
+    /**
+     * 🖼️ 이미지 반영 (+ 갤러리 등록, 색칠공부 템플릿 작업 등록)
+     */
+    @Transactional
+    public Story applyImage(Snapshot snapshot, String imageUrl, boolean registerGallery, boolean queueColoringTemplate) {
+        Story story = load(snapshot.storyId());
+        if (changedSince(story, snapshot) && !Objects.equals(story.getImage(), snapshot.image())) {
+            // 다른 요청이 먼저 이미지를 저장함 - 그쪽 결과를 유지
+            log.warn("⚠️ 이미지 생성 중 다른 요청이 이미지를 저장함, 이번 결과는 버림 - StoryId: {}, 버린 이미지: {}",
+                    story.getId(), imageUrl);
+            return story;
+        }
+
+        story.setImage(imageUrl);
+        Story savedStory = storyRepository.save(story);
+
+        if (registerGallery) {
+            ensureGalleryEntry(savedStory);
+        }
+        if (queueColoringTemplate) {
+            String title = savedStory.getTitle() != null ? savedStory.getTitle() + " 색칠하기" : "동화 색칠공부";
+            coloringTemplateJobService.enqueue(savedStory.getId(), title, imageUrl, savedStory.getUser().getId());
+        }
+        return savedStory;
+    }
+
+    /**
+     * 🎵 음성 반영 (이미지 등 다른 필드는 최신 값을 그대로 둠)
+     */
+    @Transactional
+    public Story applyVoice(Snapshot snapshot, String voiceUrl) {
+        Story story = load(snapshot.storyId());
+        if (changedSince(story, snapshot) && !Objects.equals(story.getVoiceContent(), snapshot.voiceContent())) {
+            log.warn("⚠️ 음성 생성 중 다른 요청이 음성을 저장함, 이번 결과는 버림 - StoryId: {}, 버린 음성: {}",
+                    story.getId(), voiceUrl);
+            return story;
+        }
+
+        story.setVoiceContent(voiceUrl);
+        return storyRepository.save(story);
+    }
+
+    private Story load(Long storyId) {
+        return storyRepository.findById(storyId)
+                .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다: " + storyId));
+    }
+
+    private static boolean changedSince(Story story, Snapshot snapshot) {
+        if (Objects.equals(story.getVersion(), snapshot.version())) {
+            return false;
+        }
+        log.info("🔄 생성 중 동화가 변경됨 - StoryId: {}, 버전: {} → {}",
+                story.getId(), snapshot.version(), story.getVersion());
+        return true;
+    }
+
+    // 🎯 Gallery 엔트리 확인
+    private void ensureGalleryEntry(Story story) {
+        try {
+            log.info("🔍 Gallery 엔트리 확인 - StoryId: {}", story.getId());
+
+            String childName = "우리 아이";
+            if (story.getBaby() != null && story.getBaby().getBabyName() != null) {
+                childName = story.getBaby().getBabyName();
+            }
+
+            Gallery gallery = galleryRepository.findByStoryIdAndUserId(story.getId(), story.getUser().getId());
+            if (gallery == null) {
+                gallery = new Gallery();
+                gallery.setStoryId(story.getId());
+                gallery.setUser(story.getUser());
+                gallery.setStoryTitle(story.getTitle());
+                gallery.setColorImageUrl(story.getImage());
+                gallery.setChildName(childName);
+                gallery.setCreatedAt(LocalDateTime.now());
+                galleryRepository.save(gallery);
+                log.info("🎯 Gallery 새로 생성 - StoryId: {}", story.getId());
+            } else {
+                gallery.setColorImageUrl(story.getImage());
+                gallery.setUpdatedAt(LocalDateTime.now());
+                galleryRepository.save(gallery);
+                log.info("🎯 Gallery 업데이트 - StoryId: {}", story.getId());
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Gallery 처리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,39 @@
 package com.fairytale.fairytale.story;
 
 import com.fairytale.fairytale.users.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface StoryRepository extends JpaRepository<Story,Long> {
-    Optional<Story> findByIdAndUser(Long id, Users user);
+    Optional<Story> findByIdAndUserId(Long id, Long userId);
     /**
      * 사용자의 이미지가 있는 스토리들 조회 (최신순)
      */
-    List<Story> findByUserAndImageIsNotNullOrderByCreatedAtDesc(Users user);
+    List<Story> findByUserIdAndImageIsNotNullOrderByCreatedAtDesc(Long userId);
+
+    /**
+     * 🖼️ 갤러리 타임라인 첫 페이지 (이미지가 있는 스토리, 최신순)
+     */
+    @Query("SELECT s FROM Story s WHERE s.user.id = :userId AND s.image IS NOT NULL " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Story> findGalleryTimeline(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 🖼️ 갤러리 타임라인 다음 페이지 (keyset: createdAt, id)
+     */
+    @Query("SELECT s FROM Story s WHERE s.user.id = :userId AND s.image IS NOT NULL " +
+            "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+            "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Story> findGalleryTimelineAfter(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
 
     /**
      * 사용자의 이미지가 있는 스토리 개수
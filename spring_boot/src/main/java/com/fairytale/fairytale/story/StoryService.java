@@ -4,35 +4,43 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
-import com.fairytale.fairytale.coloring.ColoringTemplate;
+import com.fairytale.fairytale.admission.AdmissionRejectedException;
+import com.fairytale.fairytale.admission.AdmissionService;
+import com.fairytale.fairytale.coloring.BlackWhiteImageCache;
 import com.fairytale.fairytale.coloring.ColoringTemplateRepository;
-import com.fairytale.fairytale.gallery.Gallery;
-import com.fairytale.fairytale.gallery.GalleryRepository;
+import com.fairytale.fairytale.resilience.HealthMonitor;
+import com.fairytale.fairytale.resilience.ResilienceRegistry;
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
 import com.fairytale.fairytale.service.S3Service;
 import lombok.extern.slf4j.Slf4j;
 import com.fairytale.fairytale.baby.Baby;
 import com.fairytale.fairytale.baby.BabyRepository;
 import com.fairytale.fairytale.story.dto.*;
+import com.fairytale.fairytale.users.UserIdentityCache;
 import com.fairytale.fairytale.users.Users;
-import com.fairytale.fairytale.users.UsersRepository;
 import com.fairytale.fairytale.coloring.ColoringTemplateService;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.scheduling.annotation.Async;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -40,9 +48,15 @@ import java.util.concurrent.CompletableFuture;
 public class StoryService {
     private final S3Service s3Service;
     private final StoryRepository storyRepository;
-    private final UsersRepository usersRepository;
+    private final UserIdentityCache userIdentityCache;
     private final BabyRepository babyRepository;
-    private final GalleryRepository galleryRepository;
+    private final BlackWhiteImageCache blackWhiteImageCache;
+    private final StoryPersistenceService storyPersistenceService;
+    private final ResilienceRegistry resilienceRegistry;
+    private final AdmissionService admissionService;
+    private final HealthMonitor healthMonitor;
+
+    private static final int PERSIST_MAX_ATTEMPTS = 3;
 
     // ✅ @Lazy로 순환 의존성 해결!
     @Lazy
@@ -53,24 +67,35 @@ public class StoryService {
     private String fastApiBaseUrl;
 
     private final RestTemplate restTemplate;
+    @Qualifier("s3RestTemplate")
+    private final RestTemplate s3RestTemplate; // S3 공개 URL 다운로드/HEAD 전용
     private final ObjectMapper objectMapper;
     private ColoringTemplateRepository coloringTemplateRepository;
 
+    // 📡 생성 서버 헬스 프로브 (FASTAPI_GENERATION 회로의 반열림 시험도 이 프로브로)
+    @PostConstruct
+    void registerHealthProbe() {
+        healthMonitor.register(HealthMonitor.FASTAPI_GENERATION, Dependency.FASTAPI_GENERATION, () -> {
+            ResponseEntity<Map> response = restTemplate.getForEntity(fastApiBaseUrl + "/health", Map.class);
+            return response.getStatusCode().is2xxSuccessful();
+        });
+    }
+
     // ====== 스토리 생성 ======
-    @Transactional
+    // 트랜잭션 없음: 조회 → FastAPI 호출(수 분 소요 가능) → 짧은 트랜잭션으로 저장
     public Story createStory(StoryCreateRequest request, String username) {
         log.info("🔍 스토리 생성 시작 - Username: {}", username);
         log.info("🔍 받은 요청: theme={}, voice={}, babyId={}",
                 request.getTheme(), request.getVoice(), request.getBabyId());
 
         // 1. 사용자 조회
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> {
                     log.error("❌ 사용자를 찾을 수 없음: {}", username);
                     return new RuntimeException("사용자를 찾을 수 없습니다: " + username);
                 });
 
-        log.info("🔍 사용자 조회 성공 - ID: {}", user.getId());
+        log.info("🔍 사용자 조회 성공 - ID: {}", userId);
 
         // 2. Baby 조회
         Baby baby = null;
@@ -107,27 +132,14 @@ public class StoryService {
 
         log.info("🚀 FastAPI로 전송할 데이터: name='{}', theme='{}'", childName, fastApiRequest.getTheme());
 
-        // 4. FastAPI 호출
+        // 4. FastAPI 호출 (트랜잭션 밖 - DB 커넥션을 잡지 않음)
         String url = fastApiBaseUrl + "/generate/story";
-        String response = callFastApi(url, fastApiRequest);
+        String response = callFastApi("story", url, fastApiRequest);
         String storyContent = extractStoryFromResponse(response);
 
-        // 5. Story 엔티티 생성 및 저장
-        Story story = new Story();
-        story.setTheme(request.getTheme());
-        story.setVoice(request.getVoice());
-        story.setTitle(request.getTheme() + " 동화");
-        story.setContent(storyContent);
-        story.setUser(user);
-        story.setVoiceContent("");
-        story.setImage("");
-
-        if (baby != null) {
-            story.setBaby(baby);
-            log.info("✅ Story에 baby 연결 완료 - baby ID: {}", baby.getId());
-        }
-
-        Story saved = storyRepository.save(story);
+        // 5. Story 저장
+        Story saved = storyPersistenceService.saveNewStory(userId, baby != null ? baby.getId() : null,
+                request.getTheme(), request.getVoice(), storyContent);
         log.info("🔍 스토리 저장 완료 - ID: {}", saved.getId());
 
         return saved;
@@ -160,10 +172,10 @@ public class StoryService {
     // ====== 스토리 조회 ======
     @Transactional(readOnly = true)
     public Story getStoryById(Long id, String username) {
-        Users user = usersRepository.findByUsername(username)
+        Long userId = userIdentityCache.findUserIdByUsername(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        return storyRepository.findByIdAndUser(id, user)
+        return storyRepository.findByIdAndUserId(id, userId)
                 .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다."));
     }
 
@@ -173,8 +185,8 @@ public class StoryService {
             Story story = storyRepository.findById(storyId)
                     .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다."));
 
-            // 🎯 사용자 권한 확인
-            Users user = usersRepository.findByUsername(username)
+            // 🎯 사용자 권한 확인 (템플릿에 연결할 엔티티가 필요하므로 실제 조회)
+            Users user = userIdentityCache.findByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
             if (!story.getUser().getId().equals(user.getId())) {
@@ -203,7 +215,7 @@ public class StoryService {
         }
     }
 
-    @Transactional
+    // 트랜잭션 없음: 조회/권한 확인 → FastAPI + S3 업로드 → 짧은 트랜잭션으로 저장
     public Story createImage(ImageRequest request, String username) {
         try {
             log.info("🎨 이미지 생성 요청 - StoryId: {}, Username: {}", request.getStoryId(), username);
@@ -212,36 +224,36 @@ public class StoryService {
                     .orElseThrow(() -> new RuntimeException("Story not found: " + request.getStoryId()));
 
             // 🎯 사용자 권한 확인
-            Users requestUser = usersRepository.findByUsername(username)
+            Long requestUserId = userIdentityCache.findUserIdByUsername(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-            if (!story.getUser().getId().equals(requestUser.getId())) {
+            if (!story.getUser().getId().equals(requestUserId)) {
                 throw new RuntimeException("접근 권한이 없습니다. 본인의 스토리만 처리할 수 있습니다.");
             }
 
-            // 🔍 기존 이미지 확인 (수정된 부분)
-            if (story.getImage() != null && !story.getImage().isEmpty() && !"null".equals(story.getImage())) {
-                log.info("✅ 기존 이미지 존재, 재사용: {}", story.getImage());
+            StoryPersistenceService.Snapshot snapshot = StoryPersistenceService.Snapshot.of(story);
 
-                // 🎯 기존 이미지가 있어도 색칠공부 템플릿 확인 및 Gallery 업데이트
-                ensureColoringTemplate(story);
-                ensureGalleryEntry(story); // 🎯 Gallery 엔트리도 확인
+            // 🔍 기존 이미지 확인
+            String existingImage = story.getImage();
+            if (existingImage != null && !existingImage.isEmpty() && !"null".equals(existingImage)) {
+                log.info("✅ 기존 이미지 존재, 재사용: {}", existingImage);
 
-                // 🎯 중요: DB에 다시 저장해서 확실히 반영
-                Story savedStory = storyRepository.save(story);
+                // 🎯 기존 이미지가 있어도 Gallery 업데이트 및 색칠공부 템플릿 확인
+                Story savedStory = persistWithRetry(snapshot.storyId(), () -> storyPersistenceService.applyImage(
+                        snapshot, existingImage, true, canCreateColoringTemplate(existingImage)));
                 log.info("🔍 기존 이미지 재저장 완료 - ImageUrl: {}", savedStory.getImage());
 
                 return savedStory;
             }
 
-            // 기존 FastAPI 호출 로직은 그대로...
-            Map<String, Object> fastApiRequest = new HashMap<>();
-            fastApiRequest.put("text", story.getContent());
-
-            String imageUrl = fastApiBaseUrl + "/generate/image";
-
+            // FastAPI 호출 + S3 업로드 (트랜잭션 밖 - DB 커넥션을 잡지 않음)
+            String s3ImageUrl;
+            boolean generated;
             try {
-                String fastApiResponse = callFastApi(imageUrl, fastApiRequest);
+                Map<String, Object> fastApiRequest = new HashMap<>();
+                fastApiRequest.put("text", story.getContent());
+
+                String fastApiResponse = callFastApi("image", fastApiBaseUrl + "/generate/image", fastApiRequest);
                 String localImagePath = extractImagePathFromResponse(fastApiResponse);
 
                 log.info("🎯 로컬 이미지 생성 완료: {}", localImagePath);
@@ -251,7 +263,6 @@ public class StoryService {
                     throw new RuntimeException("이미지 생성 실패");
                 }
 
-                String s3ImageUrl;
                 try {
                     s3ImageUrl = processLocalImageWithS3(localImagePath, story.getId());
                     log.info("✅ S3 이미지 업로드 완료: {}", s3ImageUrl);
@@ -259,127 +270,48 @@ public class StoryService {
                     log.error("❌ S3 이미지 업로드 실패: {}", e.getMessage());
                     s3ImageUrl = "https://picsum.photos/800/600?random=" + System.currentTimeMillis();
                 }
-
-                // 🎯 이미지 URL 설정 및 저장
-                story.setImage(s3ImageUrl);
-                Story savedStory = storyRepository.save(story);
-
-                // 🔍 저장 확인 로그
-                log.info("🔍 [DB 저장 후] StoryId: {}, 저장된 ImageUrl: {}", savedStory.getId(), savedStory.getImage());
-
-                // 🎯 Gallery 및 색칠공부 템플릿 처리
-                ensureGalleryEntry(savedStory);
-
-                try {
-                    createColoringTemplateAsync(savedStory, requestUser);
-                    log.info("✅ 색칠공부 템플릿 생성 완료");
-                } catch (Exception coloringException) {
-                    log.error("❌ 색칠공부 템플릿 생성 실패: {}", coloringException.getMessage());
-                }
-
-                return savedStory;
+                generated = true;
 
             } catch (Exception e) {
                 log.error("❌ 이미지 생성 실패: {}", e.getMessage());
-                String dummyImageUrl = "https://picsum.photos/800/600?random=" + System.currentTimeMillis();
-                story.setImage(dummyImageUrl);
-                Story savedStory = storyRepository.save(story);
-
-                log.info("🔄 더미 이미지로 저장 완료: {}", dummyImageUrl);
-                return savedStory;
+                s3ImageUrl = "https://picsum.photos/800/600?random=" + System.currentTimeMillis();
+                generated = false;
             }
 
-        } catch (Exception e) {
-            log.error("❌ 이미지 생성 실패: {}", e.getMessage());
-            throw new RuntimeException("이미지 생성에 실패했습니다: " + e.getMessage());
-        }
-    }
+            // 🎯 이미지 URL 저장 (생성 성공 시 Gallery 및 색칠공부 템플릿 작업도 같은 트랜잭션에서 처리)
+            String imageUrl = s3ImageUrl;
+            boolean registerExtras = generated;
+            Story savedStory = persistWithRetry(snapshot.storyId(), () -> storyPersistenceService.applyImage(
+                    snapshot, imageUrl, registerExtras, registerExtras && canCreateColoringTemplate(imageUrl)));
 
-    // 🎯 Gallery 엔트리 확인 메서드 (새로 추가)
-    private void ensureGalleryEntry(Story story) {
-        try {
-            log.info("🔍 Gallery 엔트리 확인 - StoryId: {}", story.getId());
-
-            String childName = "우리 아이";
-            if (story.getBaby() != null && story.getBaby().getBabyName() != null) {
-                childName = story.getBaby().getBabyName();
-            }
-
-            Gallery gallery = galleryRepository.findByStoryIdAndUser(story.getId(), story.getUser());
-            if (gallery == null) {
-                gallery = new Gallery();
-                gallery.setStoryId(story.getId());
-                gallery.setUser(story.getUser());
-                gallery.setStoryTitle(story.getTitle());
-                gallery.setColorImageUrl(story.getImage());
-                gallery.setChildName(childName);
-                gallery.setCreatedAt(LocalDateTime.now());
-                galleryRepository.save(gallery);
-                log.info("🎯 Gallery 새로 생성 - StoryId: {}", story.getId());
-            } else {
-                gallery.setColorImageUrl(story.getImage());
-                gallery.setUpdatedAt(LocalDateTime.now());
-                galleryRepository.save(gallery);
-                log.info("🎯 Gallery 업데이트 - StoryId: {}", story.getId());
-            }
-
-        } catch (Exception e) {
-            log.error("❌ Gallery 처리 실패: {}", e.getMessage());
-        }
-    }
-
-    // 🎯 기존 스토리의 색칠공부 템플릿 확인 및 생성 - 새로 추가
-    private void ensureColoringTemplate(Story story) {
-        try {
-            log.info("🔍 색칠공부 템플릿 존재 확인 - StoryId: {}", story.getId());
-
-            // 🎯 사용자 정보 가져오기 (Story에서 직접 가져옴)
-            Users user = story.getUser();
-            if (user == null) {
-                log.error("❌ Story에 연결된 사용자 정보가 없습니다 - StoryId: {}", story.getId());
-                return;
-            }
-
-            String storyId = story.getId().toString();
-            String username = user.getUsername();
-
-            // 🎯 기존 템플릿 확인 (사용자별로)
-            boolean templateExists = coloringTemplateService
-                    .getTemplateByStoryId(storyId, username).isPresent();
-
-            if (!templateExists && story.getImage() != null && !story.getImage().isEmpty() &&
-                    isValidImageUrlForColoring(story.getImage())) {
-                log.info("🎨 누락된 색칠공부 템플릿 생성 - StoryId: {}", story.getId());
-
-                // 🎯 사용자 정보 전달!
-                createColoringTemplateAsync(story, user);
+            if (generated) {
+                log.info("🔍 [DB 저장 후] StoryId: {}, 저장된 ImageUrl: {}", savedStory.getId(), savedStory.getImage());
             } else {
-                log.info("✅ 색칠공부 템플릿이 이미 존재하거나 유효하지 않은 이미지");
+                log.info("🔄 더미 이미지로 저장 완료: {}", savedStory.getImage());
             }
+            return savedStory;
 
         } catch (Exception e) {
-            log.error("❌ 색칠공부 템플릿 확인 실패: {}", e.getMessage());
+            log.error("❌ 이미지 생성 실패: {}", e.getMessage());
+            throw new RuntimeException("이미지 생성에 실패했습니다: " + e.getMessage());
         }
     }
 
     // ====== 음성 생성 ======
-    @Transactional
+    // 트랜잭션 없음: 조회 → TTS 스트리밍 업로드 → 짧은 트랜잭션으로 음성 URL만 저장
     public Story createVoice(VoiceRequest request) {
         try {
             log.info("🎵 음성 생성 시작 - StoryId: {}", request.getStoryId());
 
-            // 1. 스토리 조회 및 최신 데이터 확인
+            // 1. 스토리 조회
             Story story = storyRepository.findById(request.getStoryId())
                     .orElseThrow(() -> new RuntimeException("스토리를 찾을 수 없습니다."));
 
             log.info("🔍 스토리 조회 성공 - Content 길이: {}", story.getContent().length());
-
-            // 🔥 핵심: 기존 이미지 URL 안전하게 백업!
-            String existingImageUrl = story.getImage();
-            log.info("🖼️ [백업] 기존 이미지 URL: {}", existingImageUrl);
-            log.info("🎵 [백업] 기존 음성 URL: {}", story.getVoiceContent());
+            StoryPersistenceService.Snapshot snapshot = StoryPersistenceService.Snapshot.of(story);
 
             // 2. 이미지가 있는지 확인 (선택사항 - 경고만)
+            String existingImageUrl = story.getImage();
             if (existingImageUrl == null || existingImageUrl.trim().isEmpty() || "null".equals(existingImageUrl.trim())) {
                 log.warn("⚠️ 이미지가 없는 상태에서 음성 생성 - StoryId: {}", request.getStoryId());
             }
@@ -399,66 +331,20 @@ public class StoryService {
             log.info("🔍 FastAPI 음성 요청 - text 길이: {}, voice: {}, speed: {}",
                     fastApiRequest.getText().length(), fastApiRequest.getVoice(), fastApiRequest.getSpeed());
 
-            // 4. FastAPI 호출 및 음성 생성
+            // 4. FastAPI 호출 및 음성 생성 (트랜잭션 밖, 응답을 스트리밍으로 S3에 업로드)
             String url = fastApiBaseUrl + "/generate/voice";
-            String fastApiResponse = callFastApi(url, fastApiRequest);
-
-            String voiceUrl = processBase64VoiceWithS3(fastApiResponse, story.getId());
+            String voiceUrl = streamBase64VoiceToS3(url, fastApiRequest, story.getId());
             log.info("✅ S3 음성 업로드 완료: {}", voiceUrl);
 
-            // 5. 🎯 핵심: 안전한 데이터 업데이트
-            log.info("💾 [업데이트 시작] 기존 Image: {}, 새 Voice: {}", existingImageUrl, voiceUrl);
-
-            // 음성 URL 설정
-            story.setVoiceContent(voiceUrl);
-
-            // 🔥 이미지 URL 명시적 복원 (절대 사라지지 않도록!)
-            if (existingImageUrl != null && !existingImageUrl.trim().isEmpty() && !"null".equals(existingImageUrl.trim())) {
-                story.setImage(existingImageUrl);
-                log.info("🔒 이미지 URL 명시적 복원 완료: {}", existingImageUrl);
-            } else {
-                log.warn("⚠️ 복원할 이미지 URL이 없음 - 기존값: '{}'", existingImageUrl);
-            }
-
-            // 6. 저장 전 최종 확인
-            log.info("💾 [저장 전 최종 확인]");
-            log.info("  - Image URL: {}", story.getImage());
-            log.info("  - Voice URL: {}", story.getVoiceContent());
-            log.info("  - Image 길이: {}", story.getImage() != null ? story.getImage().length() : 0);
-            log.info("  - Voice 길이: {}", story.getVoiceContent() != null ? story.getVoiceContent().length() : 0);
+            // 5. 음성 URL만 저장 (이미지 등 다른 필드는 최신 값 유지)
+            Story savedStory = persistWithRetry(snapshot.storyId(),
+                    () -> storyPersistenceService.applyVoice(snapshot, voiceUrl));
 
-            // 7. DB 저장
-            Story savedStory = storyRepository.save(story);
-
-            // 8. 저장 후 검증
             log.info("✅ [저장 완료 검증]");
             log.info("  - StoryId: {}", savedStory.getId());
             log.info("  - 저장된 Image URL: {}", savedStory.getImage());
             log.info("  - 저장된 Voice URL: {}", savedStory.getVoiceContent());
 
-            // 9. 추가 안전 검증 (DB에서 다시 조회)
-            Story reloadedStory = storyRepository.findById(savedStory.getId()).orElse(null);
-            if (reloadedStory != null) {
-                log.info("🔍 [DB 재조회 검증]");
-                log.info("  - 재조회 Image URL: {}", reloadedStory.getImage());
-                log.info("  - 재조회 Voice URL: {}", reloadedStory.getVoiceContent());
-
-                // 🚨 이미지 URL이 사라졌는지 확인
-                if (existingImageUrl != null && !existingImageUrl.trim().isEmpty() &&
-                        (reloadedStory.getImage() == null || reloadedStory.getImage().trim().isEmpty())) {
-                    log.error("🚨 경고: 이미지 URL이 사라졌습니다!");
-                    log.error("  - 원래 Image: {}", existingImageUrl);
-                    log.error("  - 현재 Image: {}", reloadedStory.getImage());
-
-                    // 🔧 긴급 복구 시도
-                    reloadedStory.setImage(existingImageUrl);
-                    Story emergencyFixed = storyRepository.save(reloadedStory);
-                    log.warn("🔧 긴급 복구 완료 - Image URL: {}", emergencyFixed.getImage());
-
-                    return emergencyFixed;
-                }
-            }
-
             log.info("🎉 음성 생성 전체 프로세스 완료 - StoryId: {}", savedStory.getId());
             return savedStory;
 
@@ -469,64 +355,56 @@ public class StoryService {
         }
     }
 
-    // ====== ColoringTemplateService용 공개 메서드 ======
-
-    @Async
-    public void createColoringTemplateAsync(Story story, Users user) { // 🎯 Users user 파라미터 추가!
-        try {
-            log.info("🎨 색칠공부 템플릿 자동 생성 시작 - StoryId: {}, Username: {}",
-                    story.getId(), user.getUsername());
-
-            String storyId = story.getId().toString();
-            String username = user.getUsername();
-
-            // 🎯 기존 템플릿 확인 (사용자별로)
-            if (coloringTemplateService.getTemplateByStoryId(storyId, username).isPresent()) {
-                log.info("✅ 색칠공부 템플릿이 이미 존재함");
-                return;
+    // 🔁 저장 단계 재시도 (짧은 트랜잭션끼리 동시에 커밋해 버전 충돌이 난 경우)
+    private Story persistWithRetry(Long storyId, Supplier<Story> persist) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return persist.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= PERSIST_MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("⚠️ 동화 저장 중 버전 충돌, 다시 시도 ({}/{}) - StoryId: {}", attempt, PERSIST_MAX_ATTEMPTS, storyId);
             }
+        }
+    }
 
-            // 컬러 이미지가 있고 유효한 경우에만 템플릿 생성
-            if (story.getImage() != null && !story.getImage().isEmpty() &&
-                    !"null".equals(story.getImage()) && isValidImageUrlForColoring(story.getImage())) {
-
-                // 🎯 사용자 정보 포함하여 템플릿 생성
-                ColoringTemplate template = coloringTemplateService.createColoringTemplate(
-                        storyId,
-                        story.getTitle() != null ? story.getTitle() + " 색칠하기" : "동화 색칠공부",
-                        story.getImage(),
-                        null, // 흑백 이미지는 서비스에서 자동 생성
-                        user  // 🎯 사용자 정보 확실히 전달
-                );
-
-                log.info("✅ 색칠공부 템플릿 자동 생성 완료 - TemplateId: {}, UserId: {}",
-                        template.getId(), user.getId());
-            } else {
-                log.warn("⚠️ 유효하지 않은 이미지 URL로 색칠공부 템플릿 생성 건너뜀: {}", story.getImage());
-            }
+    // ====== 색칠공부 템플릿 ======
 
-        } catch (Exception e) {
-            log.error("❌ 색칠공부 템플릿 자동 생성 실패: {}", e.getMessage());
-            // 템플릿 생성 실패해도 메인 플로우에는 영향 없음
+    // 🎨 색칠공부 템플릿을 만들 수 있는 이미지인지 (컬러 이미지가 있고 유효한 경우만)
+    private boolean canCreateColoringTemplate(String imageUrl) {
+        if (imageUrl == null || imageUrl.isEmpty() || "null".equals(imageUrl) || !isValidImageUrlForColoring(imageUrl)) {
+            log.warn("⚠️ 유효하지 않은 이미지 URL로 색칠공부 템플릿 생성 건너뜀: {}", imageUrl);
+            return false;
         }
+        return true;
     }
 
     // ====== 흑백변환 버튼 전용 메서드 ======
-    public String processImageToBlackWhite(String originalImageUrl) {
-        try {
-            log.info("🔍 흑백변환 버튼 요청: {}", originalImageUrl);
-
-            // 1. 기존 흑백 이미지 먼저 찾기
-            String existingBwUrl = findExistingBlackWhiteImageInS3(originalImageUrl);
-            if (existingBwUrl != null) {
-                log.info("✅ 기존 흑백 이미지 발견, 즉시 반환: {}", existingBwUrl);
-                return existingBwUrl;
+    // 동기 API: 실제로 변환하는 대표 요청만 사용자/전역 BW_CONVERT 자리를 잡고, 자리가 없으면 거절 (429)
+    public String processImageToBlackWhite(String originalImageUrl, String username) {
+        log.info("🔍 흑백변환 버튼 요청: {}, username: {}", originalImageUrl, username);
+        return convertWithCache(originalImageUrl, url -> {
+            try (AdmissionService.Permit permit = admissionService.admit(AdmissionService.Operation.BW_CONVERT, username)) {
+                return performActualBlackWhiteConversion(url);
             }
+        });
+    }
 
-            // 2. 없으면 새로 변환
-            log.info("📝 기존 흑백 이미지 없음, 새로 변환 시작");
-            return performActualBlackWhiteConversion(originalImageUrl);
+    // 색칠공부 아웃박스 작업: 전역 자리가 날 때까지 기다린 뒤 변환
+    public String processImageToBlackWhite(String originalImageUrl) {
+        log.info("🔍 흑백변환 작업 요청: {}", originalImageUrl);
+        return convertWithCache(originalImageUrl, url -> admissionService.runAdmitted(
+                AdmissionService.Operation.BW_CONVERT, () -> performActualBlackWhiteConversion(url)));
+    }
 
+    // 캐시/매핑 테이블/기존 S3 이미지 확인 후 없으면 새로 변환 (동시 요청은 한 번만 변환)
+    private String convertWithCache(String originalImageUrl, Function<String, String> converter) {
+        try {
+            return blackWhiteImageCache.getOrConvert(originalImageUrl, converter);
+
+        } catch (AdmissionRejectedException e) {
+            throw e;
         } catch (Exception e) {
             log.error("❌ 흑백 변환 처리 실패: {}", e.getMessage());
             return originalImageUrl;
@@ -567,12 +445,13 @@ public class StoryService {
 
             log.info("🔍 FastAPI 흑백 변환 요청: {}", fastApiRequest);
 
-            ResponseEntity<Map> response = restTemplate.exchange(
-                    fastApiBaseUrl + "/convert/bwimage",
-                    HttpMethod.POST,
-                    new HttpEntity<>(fastApiRequest, createJsonHeaders()),
-                    Map.class
-            );
+            ResponseEntity<Map> response = resilienceRegistry.call(Dependency.FASTAPI_GENERATION, "bw-convert", () ->
+                    restTemplate.exchange(
+                            fastApiBaseUrl + "/convert/bwimage",
+                            HttpMethod.POST,
+                            new HttpEntity<>(fastApiRequest, createJsonHeaders()),
+                            Map.class
+                    ));
 
             log.info("🔍 FastAPI 응답: {}", response.getBody());
 
@@ -718,7 +597,8 @@ public class StoryService {
     }
 
     // ====== FastAPI 호출 및 응답 파싱 ======
-    private String callFastApi(String url, Object request) {
+    // operation: 적응형 타임아웃/서킷 브레이커 집계 단위 (story, image)
+    private String callFastApi(String operation, String url, Object request) {
         try {
             log.info("🔍 FastAPI 호출 시작");
             log.info("🔍 URL: {}", url);
@@ -734,12 +614,13 @@ public class StoryService {
 
             log.info("🔍 HTTP 요청 전송 중...");
 
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    entity,
-                    String.class
-            );
+            ResponseEntity<String> response = resilienceRegistry.call(Dependency.FASTAPI_GENERATION, operation, () ->
+                    restTemplate.exchange(
+                            url,
+                            HttpMethod.POST,
+                            entity,
+                            String.class
+                    ));
 
             log.info("🔍 FastAPI 응답 상태코드: {}", response.getStatusCode());
             log.debug("🔍 FastAPI 응답 헤더: {}", response.getHeaders());
@@ -827,7 +708,7 @@ public class StoryService {
             log.info("📁 로컬 저장 경로: {}", localFilePath);
 
             // RestTemplate로 S3 이미지 다운로드
-            byte[] imageBytes = restTemplate.getForObject(s3Url, byte[].class);
+            byte[] imageBytes = s3RestTemplate.getForObject(s3Url, byte[].class);
             if (imageBytes == null || imageBytes.length == 0) {
                 throw new RuntimeException("다운로드된 S3 이미지가 비어있습니다");
             }
@@ -995,41 +876,27 @@ public class StoryService {
         }
     }
 
-    private String processBase64VoiceWithS3(String fastApiResponse, Long storyId) {
+    // 🎵 FastAPI 음성 응답을 스트리밍 파싱 → Base64 디코딩 → S3 업로드 (임시 파일, 전체 버퍼링 없음)
+    private String streamBase64VoiceToS3(String url, FastApiVoiceRequest request, Long storyId) {
         try {
-            log.info("🔍 Base64 음성 처리 시작");
-
-            JsonNode jsonNode = objectMapper.readTree(fastApiResponse);
-
-            if (!jsonNode.has("audio_base64")) {
-                throw new RuntimeException("응답에 audio_base64 필드가 없습니다.");
-            }
-
-            String audioBase64 = jsonNode.get("audio_base64").asText();
-            String voice = jsonNode.has("voice") ? jsonNode.get("voice").asText() : "alloy";
-
-            log.info("🔍 Base64 데이터 길이: {} 문자", audioBase64.length());
-            log.info("🔍 음성 타입: {}", voice);
-
-            byte[] audioBytes = java.util.Base64.getDecoder().decode(audioBase64);
-            log.info("🔍 디코딩된 오디오 크기: {} bytes", audioBytes.length);
-
-            String tempFileName = "temp_voice_" + storyId + "_" + System.currentTimeMillis() + ".mp3";
-            java.io.File tempFile = new java.io.File(tempFileName);
-
-            try (java.io.FileOutputStream fos = new java.io.FileOutputStream(tempFile)) {
-                fos.write(audioBytes);
-            }
-
-            log.info("📝 임시 파일 저장 완료: {}", tempFile.getAbsolutePath());
-
-            String s3Url = s3Service.uploadAudioFileWithPresignedUrl(tempFile.getAbsolutePath());
-            log.info("✅ S3 업로드 완료: {}", s3Url);
-
-            tempFile.delete();
-            log.info("🧹 임시 파일 삭제 완료");
-
-            return s3Url;
+            log.info("🔍 Base64 음성 스트리밍 처리 시작");
+            byte[] requestBody = objectMapper.writeValueAsBytes(request);
+
+            return resilienceRegistry.call(Dependency.FASTAPI_GENERATION, "voice", () ->
+                    restTemplate.execute(url, HttpMethod.POST,
+                            clientRequest -> {
+                                clientRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                                clientRequest.getBody().write(requestBody);
+                            },
+                            clientResponse -> {
+                                try (JsonParser parser = objectMapper.getFactory().createParser(clientResponse.getBody())) {
+                                    if (!moveToField(parser, "audio_base64")) {
+                                        throw new RuntimeException("응답에 audio_base64 필드가 없습니다.");
+                                    }
+                                    String fileName = "voice_" + storyId + ".mp3";
+                                    return s3Service.uploadAudioFromStream(fileName, out -> parser.readBinaryValue(out));
+                                }
+                            }));
 
         } catch (Exception e) {
             log.error("❌ Base64 음성 처리 실패: {}", e.getMessage());
@@ -1037,6 +904,22 @@ public class StoryService {
         }
     }
 
+    // 🔍 최상위 객체에서 지정한 문자열 필드 위치로 파서 이동 (다른 필드 값은 읽지 않고 건너뜀)
+    private boolean moveToField(JsonParser parser, String fieldName) throws java.io.IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals(name) && value == JsonToken.VALUE_STRING) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
     private java.io.File resolveImageFile(String imagePath) {
         log.info("🔍 이미지 파일 경로 해결 시작: {}", imagePath);
 
@@ -1170,25 +1053,6 @@ public class StoryService {
         return false;
     }
 
-    // 🔍 기존 흑백 이미지 검색 (단순화)
-    private String findExistingBlackWhiteImageInS3(String originalS3Url) {
-        try {
-            String predictedBwUrl = originalS3Url.replace("story-images/", "bw-images/");
-
-            // HEAD 요청으로 존재 여부 확인
-            ResponseEntity<String> response = restTemplate.exchange(
-                    predictedBwUrl, HttpMethod.HEAD, null, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                log.info("✅ 기존 흑백 이미지 확인: {}", predictedBwUrl);
-                return predictedBwUrl;
-            }
-        } catch (Exception e) {
-            log.debug("📝 기존 흑백 이미지 없음: {}", e.getMessage());
-        }
-        return null;
-    }
-
     // ====== Utility 메서드들 ======
     public byte[] downloadVoiceFromS3(String s3Url) {
         try {
@@ -0,0 +1,150 @@
+package com.fairytale.fairytale.story.job;
+
+import com.fairytale.fairytale.story.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 🔁 생성 요청 중복 제거 (멱등성)
+ * 키: 클라이언트 Idempotency-Key 헤더, 없으면 (사용자, 작업, storyId 등 요청 값)
+ * - 같은 키의 요청이 진행 중이면 새로 생성하지 않고 그 결과를 함께 기다린다 (GENERATION_IDEMPOTENCY_WAIT_SECONDS까지)
+ * - 완료된 결과는 잠시 보관했다가 같은 키로 다시 오면 그대로 돌려준다
+ * - 실패한 요청은 보관하지 않으므로 재시도하면 다시 생성한다
+ */
+@Slf4j
+@Service
+public class GenerationIdempotencyService {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${GENERATION_IDEMPOTENCY_TTL_SECONDS:120}")
+    private long ttlSeconds;
+
+    @Value("${GENERATION_IDEMPOTENCY_MAX_ENTRIES:10000}")
+    private int maxEntries;
+
+    // 합류한 요청의 최대 대기 시간 (기본값은 생성 API 최대 읽기 타임아웃 900초)
+    @Value("${GENERATION_IDEMPOTENCY_WAIT_SECONDS:900}")
+    private long waitSeconds;
+
+    // 📊 중복 제거 지표
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong joined = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong waitTimeouts = new AtomicLong();
+
+    private static final class Entry {
+        final CompletableFuture<Story> future = new CompletableFuture<>();
+        volatile long completedAtMillis; // 0이면 진행 중
+
+        boolean isExpired(long now, long ttlMillis) {
+            return completedAtMillis > 0 && now - completedAtMillis >= ttlMillis;
+        }
+    }
+
+    /**
+     * 🔑 멱등성 키 생성 (헤더 키가 있으면 우선, 사용자별로 분리)
+     */
+    public static String key(String username, String idempotencyKey, GenerationJob.Type type, Object... parts) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return username + ":" + type + ":key:" + idempotencyKey.trim();
+        }
+        StringBuilder key = new StringBuilder(username).append(':').append(type);
+        for (Object part : parts) {
+            key.append(':').append(Objects.toString(part, ""));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 🚀 같은 키로는 한 번만 실행
+     */
+    public Story execute(String key, Supplier<Story> task) {
+        long now = System.currentTimeMillis();
+        long ttlMillis = ttlSeconds * 1000L;
+        Entry mine = new Entry();
+
+        Entry entry = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now, ttlMillis) ? mine : existing);
+
+        if (entry != mine) {
+            if (entry.completedAtMillis > 0) {
+                replayed.incrementAndGet();
+                log.info("🔁 완료된 생성 결과 재사용 - key: {}", key);
+            } else {
+                joined.incrementAndGet();
+                log.info("🔁 진행 중인 생성 요청에 합류 - key: {}", key);
+            }
+            return await(key, entry);
+        }
+
+        executed.incrementAndGet();
+        try {
+            Story result = task.get();
+            mine.completedAtMillis = System.currentTimeMillis();
+            mine.future.complete(result);
+            if (entries.size() > maxEntries) {
+                purgeExpired();
+            }
+            return result;
+        } catch (Throwable e) {
+            // 실패는 보관하지 않음 (Error 포함) - 기다리던 요청에는 같은 오류를 전달
+            entries.remove(key, mine);
+            mine.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // ⏳ 진행 중인 대표 실행 결과 대기 (시간 초과 시 이 요청만 실패, 대표 실행은 계속 진행)
+    private Story await(String key, Entry entry) {
+        try {
+            return entry.future.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            waitTimeouts.incrementAndGet();
+            log.warn("⚠️ 진행 중인 생성 요청 대기 시간 초과 - key: {}", key);
+            throw new RuntimeException("진행 중인 생성 요청 대기 시간 초과: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("생성 결과 대기 중 중단됨: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("생성 실패: " + key, cause);
+        }
+    }
+
+    // 🧹 보관 기간이 지난 결과 정리
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long ttlMillis = ttlSeconds * 1000L;
+        entries.values().removeIf(entry -> entry.isExpired(now, ttlMillis));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("executed", executed.get());
+        stats.put("joined", joined.get());
+        stats.put("replayed", replayed.get());
+        stats.put("waitTimeouts", waitTimeouts.get());
+        stats.put("ttlSeconds", ttlSeconds);
+        return stats;
+    }
+}
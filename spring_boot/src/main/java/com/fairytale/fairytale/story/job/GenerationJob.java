@@ -0,0 +1,60 @@
+package com.fairytale.fairytale.story.job;
+
+import com.fairytale.fairytale.story.Story;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🎯 생성 작업 상태 (메모리 보관)
+ */
+@Getter
+public class GenerationJob {
+
+    public enum Type { STORY, IMAGE, VOICE }
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String jobId;
+    private final Type type;
+    private final String username;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message = "대기 중";
+    private volatile Story result;
+    private volatile String error;
+    private volatile LocalDateTime updatedAt;
+
+    public GenerationJob(String jobId, Type type, String username) {
+        this.jobId = jobId;
+        this.type = type;
+        this.username = username;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    void markRunning() {
+        this.status = Status.RUNNING;
+        this.message = "생성 중";
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    void markCompleted(Story result) {
+        this.result = result;
+        this.status = Status.COMPLETED;
+        this.message = "완료";
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    void markFailed(String error) {
+        this.error = error;
+        this.status = Status.FAILED;
+        this.message = "실패";
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
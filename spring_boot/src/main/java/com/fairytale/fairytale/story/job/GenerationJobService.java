@@ -0,0 +1,130 @@
+package com.fairytale.fairytale.story.job;
+
+import com.fairytale.fairytale.story.Story;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 🎯 생성 작업 접수/실행/조회 서비스
+ * FastAPI 호출은 전용 스레드풀에서 실행하고, 클라이언트는 jobId로 상태를 폴링한다.
+ */
+@Slf4j
+@Service
+public class GenerationJobService {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, String> jobIdsByKey = new ConcurrentHashMap<>(); // 멱등성 키 → jobId
+
+    @Value("${STORY_JOB_RETENTION_MINUTES:60}")
+    private long retentionMinutes;
+
+    @Value("${GENERATION_IDEMPOTENCY_TTL_SECONDS:120}")
+    private long idempotencyTtlSeconds;
+
+    public GenerationJobService(@Qualifier("storyGenerationExecutor") ThreadPoolTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 🚀 작업 접수 - 큐가 가득 차면 TaskRejectedException
+     * @param idempotencyKey 같은 키의 작업이 진행 중이거나 방금 끝났으면 새로 만들지 않고 그 작업을 돌려줌 (null이면 항상 새 작업)
+     */
+    public GenerationJob submit(GenerationJob.Type type, String username, String idempotencyKey, Supplier<Story> task) {
+        purgeExpiredJobs();
+
+        // 키별 조회-생성을 compute 안에서 원자적으로 처리 (동시 중복 요청도 작업 하나만 생성)
+        GenerationJob[] result = new GenerationJob[1];
+        boolean[] created = new boolean[1];
+        if (idempotencyKey == null) {
+            result[0] = createJob(type, username);
+            created[0] = true;
+        } else {
+            jobIdsByKey.compute(idempotencyKey, (key, existingJobId) -> {
+                GenerationJob existing = existingJobId != null ? jobs.get(existingJobId) : null;
+                if (existing != null && isReusable(existing)) {
+                    result[0] = existing;
+                    return existingJobId;
+                }
+                result[0] = createJob(type, username);
+                created[0] = true;
+                return result[0].getJobId();
+            });
+        }
+
+        GenerationJob job = result[0];
+        if (!created[0]) {
+            log.info("🔁 중복 생성 작업 요청, 기존 작업 반환 - jobId: {}, type: {}", job.getJobId(), type);
+            return job;
+        }
+
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            if (idempotencyKey != null) {
+                jobIdsByKey.remove(idempotencyKey, job.getJobId());
+            }
+            log.warn("⚠️ 생성 작업 큐 포화 - type: {}, username: {}", type, username);
+            throw e;
+        }
+
+        log.info("📥 생성 작업 접수 - jobId: {}, type: {}, username: {}", job.getJobId(), type, username);
+        return job;
+    }
+
+    private GenerationJob createJob(GenerationJob.Type type, String username) {
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), type, username);
+        jobs.put(job.getJobId(), job);
+        return job;
+    }
+
+    private void run(GenerationJob job, Supplier<Story> task) {
+        job.markRunning();
+        try {
+            Story result = task.get();
+            job.markCompleted(result);
+            log.info("✅ 생성 작업 완료 - jobId: {}, storyId: {}", job.getJobId(), result.getId());
+        } catch (Exception e) {
+            job.markFailed(e.getMessage());
+            log.error("❌ 생성 작업 실패 - jobId: {}, error: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 🔍 작업 조회 (본인 작업만)
+     */
+    public GenerationJob getJob(String jobId, String username) {
+        GenerationJob job = jobs.get(jobId);
+        if (job == null || !job.getUsername().equals(username)) {
+            throw new RuntimeException("작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job;
+    }
+
+    // 실패하지 않았고, 진행 중이거나 완료된 지 얼마 안 된 작업만 재사용
+    private boolean isReusable(GenerationJob job) {
+        if (job.getStatus() == GenerationJob.Status.FAILED) {
+            return false;
+        }
+        return !job.isFinished()
+                || job.getUpdatedAt().isAfter(LocalDateTime.now().minusSeconds(idempotencyTtlSeconds));
+    }
+
+    // 🧹 보관 기간이 지난 완료 작업 정리
+    private void purgeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getUpdatedAt().isBefore(threshold));
+        jobIdsByKey.values().removeIf(jobId -> !jobs.containsKey(jobId));
+    }
+}
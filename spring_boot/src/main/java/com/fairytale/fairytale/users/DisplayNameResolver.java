@@ -0,0 +1,157 @@
+package com.fairytale.fairytale.users;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 🏷️ 사용자 표시명 리졸버
+ * 표시명 규칙: 첫 번째 아기 이름의 부모 → 닉네임님 → username님
+ * 캐시에 없는 username만 쿼리 한 번으로 조회하고, 결과는 크기 제한 + TTL 캐시에 보관한다.
+ * 아기 정보나 프로필이 바뀌면 커밋 후 해당 사용자 항목을 제거한다.
+ */
+@Slf4j
+@Component
+public class DisplayNameResolver {
+
+    private final UsersRepository usersRepository;
+    private final Map<String, Entry> lruCache;
+    private final long ttlMillis;
+
+    // 조회 중에 해당 사용자가 무효화되면 오래된 결과를 넣지 않도록 하는 사용자별 버전
+    // (username 해시로 나눈 슬롯 단위라 다른 사용자의 무효화는 채우기를 막지 않음)
+    private static final int VERSION_SLOTS = 1024;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    private static final class Entry {
+        final String displayName;
+        final long expiresAtMillis;
+
+        Entry(String displayName, long expiresAtMillis) {
+            this.displayName = displayName;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    public DisplayNameResolver(UsersRepository usersRepository,
+                               @Value("${DISPLAY_NAME_CACHE_MAX_ENTRIES:10000}") int maxEntries,
+                               @Value("${DISPLAY_NAME_CACHE_TTL_SECONDS:600}") long ttlSeconds) {
+        this.usersRepository = usersRepository;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.lruCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public String resolve(String username) {
+        return resolveAll(List.of(username)).get(username);
+    }
+
+    /**
+     * 📋 여러 사용자의 표시명 (캐시에 없는 것만 한 번에 조회)
+     */
+    public Map<String, String> resolveAll(Collection<String> usernames) {
+        Map<String, String> names = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+        for (String username : usernames) {
+            if (username == null || names.containsKey(username)) {
+                continue;
+            }
+            Entry cached = lruCache.get(username);
+            if (cached != null && cached.expiresAtMillis > now) {
+                names.put(username, cached.displayName);
+            } else {
+                misses.add(username);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            Map<String, Long> startVersions = new HashMap<>();
+            for (String username : misses) {
+                startVersions.put(username, version(username));
+            }
+            Map<String, String> loaded = load(misses);
+
+            names.putAll(loaded);
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            loaded.forEach((username, displayName) -> {
+                if (version(username) == startVersions.get(username)) {
+                    lruCache.put(username, new Entry(displayName, expiresAt));
+                }
+            });
+        }
+        return names;
+    }
+
+    private Map<String, String> load(Collection<String> usernames) {
+        Map<String, String> nicknames = new HashMap<>();
+        Map<String, String> babyNames = new HashMap<>();
+        for (Object[] row : usersRepository.findDisplayNameRows(usernames)) {
+            String username = (String) row[0];
+            nicknames.putIfAbsent(username, (String) row[1]);
+            String babyName = (String) row[2];
+            if (babyName != null && !babyName.trim().isEmpty()) {
+                babyNames.putIfAbsent(username, babyName);
+            }
+        }
+
+        Map<String, String> loaded = new HashMap<>();
+        for (String username : usernames) {
+            loaded.put(username, format(username, nicknames.get(username), babyNames.get(username)));
+        }
+        log.debug("🔍 표시명 조회: 요청 {}명", usernames.size());
+        return loaded;
+    }
+
+    // 🎯 표시명 규칙: 아기 이름의 부모 → 닉네임님 → username님
+    private static String format(String username, String nickname, String babyName) {
+        if (babyName != null) {
+            return babyName + "의 부모";
+        }
+        if (nickname != null && !nickname.trim().isEmpty()) {
+            return nickname + "님";
+        }
+        return username + "님";
+    }
+
+    // 아기/프로필 변경 커밋 후 캐시 제거
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        afterCommit(() -> {
+            versions.incrementAndGet(slot(username));
+            lruCache.remove(username);
+        });
+    }
+
+    private long version(String username) {
+        return versions.get(slot(username));
+    }
+
+    private static int slot(String username) {
+        return Math.floorMod(username.hashCode(), VERSION_SLOTS);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
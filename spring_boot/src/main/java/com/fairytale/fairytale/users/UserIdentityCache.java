@@ -0,0 +1,269 @@
+package com.fairytale.fairytale.users;
+
+import com.fairytale.fairytale.baby.Baby;
+import com.fairytale.fairytale.baby.BabyRepository;
+import com.fairytale.fairytale.role.Role;
+import com.fairytale.fairytale.role.RoleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 🪪 요청 경로 식별자 near-cache (Users / Baby / Role)
+ * - 사용자: username → ID만 보관. ID만 필요한 경로(소유권 확인, 사용자 조건 조회)는 findUserIdByUsername으로 DB 조회 없이 처리
+ * - 아기: 사용자별 아기 유무만 보관 (없음은 조회 없이 응답)
+ * - 역할: 거의 바뀌지 않는 참조 데이터라 분리된 스냅샷(id, 이름)을 보관 - FK 연결용
+ * 엔티티가 필요한 경로는 항상 DB를 한 번 조회하며, 적중(hits)은 조회를 건너뛴 경우만 센다.
+ * 사용자/아기 정보가 바뀌면 커밋 후 해당 항목을 제거한다.
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    private final UsersRepository usersRepository;
+    private final BabyRepository babyRepository;
+    private final RoleRepository roleRepository;
+
+    private final NearCache<String, Long> userIdsByUsername;
+    private final NearCache<Long, Boolean> babyPresenceByUserId;
+    private final NearCache<String, Role> rolesByName;
+
+    public UserIdentityCache(UsersRepository usersRepository,
+                             BabyRepository babyRepository,
+                             RoleRepository roleRepository,
+                             @Value("${IDENTITY_CACHE_MAX_ENTRIES:10000}") int maxEntries,
+                             @Value("${IDENTITY_CACHE_TTL_SECONDS:1800}") long ttlSeconds) {
+        this.usersRepository = usersRepository;
+        this.babyRepository = babyRepository;
+        this.roleRepository = roleRepository;
+        long ttlMillis = ttlSeconds * 1000L;
+        this.userIdsByUsername = new NearCache<>(maxEntries, ttlMillis);
+        this.babyPresenceByUserId = new NearCache<>(maxEntries, ttlMillis);
+        this.rolesByName = new NearCache<>(16, ttlMillis);
+    }
+
+    /**
+     * 🔑 username으로 사용자 ID만 조회 (FK 설정, 소유권 확인, 사용자 조건 조회용)
+     */
+    public Optional<Long> findUserIdByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        Long userId = userIdsByUsername.get(username);
+        if (userId != null) {
+            return Optional.of(userId);
+        }
+
+        long startVersion = userIdsByUsername.version(username);
+        Optional<Users> user = usersRepository.findByUsername(username);
+        user.ifPresent(u -> userIdsByUsername.put(username, u.getId(), startVersion));
+        return user.map(Users::getId);
+    }
+
+    /**
+     * 👤 username으로 사용자 조회 (엔티티가 필요한 경로 - 항상 DB 조회, ID 캐시만 채움)
+     */
+    public Optional<Users> findByUsername(String username) {
+        if (username == null) {
+            return Optional.empty();
+        }
+        long startVersion = userIdsByUsername.version(username);
+        Optional<Users> user = usersRepository.findByUsername(username);
+        user.ifPresent(u -> userIdsByUsername.put(username, u.getId(), startVersion));
+        return user;
+    }
+
+    /**
+     * 👤 ID로 사용자 조회 (PK 조회라 캐시를 거치지 않음)
+     */
+    public Optional<Users> findById(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return usersRepository.findById(userId);
+    }
+
+    /**
+     * 👶 사용자의 아기 정보 (없으면 null) - 없음으로 캐시돼 있을 때만 조회 없이 응답
+     */
+    public Baby findBabyByUserId(Long userId) {
+        if (Boolean.FALSE.equals(babyPresenceByUserId.peek(userId))) {
+            babyPresenceByUserId.recordHit();
+            return null;
+        }
+        babyPresenceByUserId.recordMiss();
+        return loadBaby(userId);
+    }
+
+    /**
+     * 👶 아기 등록 여부 (엔티티가 필요 없는 확인용)
+     */
+    public boolean hasBaby(Long userId) {
+        Boolean present = babyPresenceByUserId.get(userId);
+        if (present != null) {
+            return present;
+        }
+        return loadBaby(userId) != null;
+    }
+
+    private Baby loadBaby(Long userId) {
+        long startVersion = babyPresenceByUserId.version(userId);
+        Baby baby = babyRepository.findByUserId(userId);
+        babyPresenceByUserId.put(userId, baby != null, startVersion);
+        return baby;
+    }
+
+    /**
+     * 🏷️ 이름으로 역할 조회 (적중 시 분리된 스냅샷 - FK 연결용, 연관 컬렉션은 비어 있음)
+     */
+    public Optional<Role> findRoleByName(String roleName) {
+        Role cached = rolesByName.get(roleName);
+        if (cached != null) {
+            return Optional.of(snapshot(cached));
+        }
+
+        long startVersion = rolesByName.version(roleName);
+        Optional<Role> role = roleRepository.findByRoleName(roleName);
+        role.ifPresent(r -> rolesByName.put(roleName, snapshot(r), startVersion));
+        return role;
+    }
+
+    private static Role snapshot(Role role) {
+        return new Role(role.getId(), role.getRoleName(), null);
+    }
+
+    // 사용자 정보 변경 커밋 후 캐시 제거
+    public void evictUser(String username) {
+        if (username == null) {
+            return;
+        }
+        afterCommit(() -> userIdsByUsername.remove(username));
+    }
+
+    // 아기 등록/삭제 커밋 후 캐시 제거
+    public void evictBaby(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommit(() -> babyPresenceByUserId.remove(userId));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("usersByUsername", userIdsByUsername.stats());
+        stats.put("babiesByUserId", babyPresenceByUserId.stats());
+        stats.put("rolesByName", rolesByName.stats());
+        return stats;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 🗂️ 크기 제한 LRU + TTL 캐시 (적중/미스 집계)
+     * 조회 도중 같은 키가 무효화됐으면 키별 버전이 달라져 오래된 값을 넣지 않는다.
+     * (키 해시로 나눈 슬롯 단위라 다른 키의 무효화는 채우기를 막지 않음)
+     */
+    private static final class NearCache<K, V> {
+
+        private static final int VERSION_SLOTS = 1024;
+
+        private final Map<K, Entry<V>> lruCache;
+        private final int maxEntries;
+        private final long ttlMillis;
+        private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        private record Entry<V>(V value, long expiresAtMillis) {
+        }
+
+        NearCache(int maxEntries, long ttlMillis) {
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+            this.lruCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    return size() > maxEntries;
+                }
+            });
+        }
+
+        V get(K key) {
+            Entry<V> entry = lruCache.get(key);
+            if (entry == null || entry.expiresAtMillis() <= System.currentTimeMillis()) {
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        }
+
+        // 집계 없이 확인 (호출한 쪽이 조회 여부에 따라 recordHit/recordMiss)
+        V peek(K key) {
+            Entry<V> entry = lruCache.get(key);
+            return entry != null && entry.expiresAtMillis() > System.currentTimeMillis() ? entry.value() : null;
+        }
+
+        void recordHit() {
+            hits.incrementAndGet();
+        }
+
+        void recordMiss() {
+            misses.incrementAndGet();
+        }
+
+        long version(K key) {
+            return versions.get(slot(key));
+        }
+
+        void put(K key, V value, long startVersion) {
+            if (version(key) == startVersion) {
+                lruCache.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+            }
+        }
+
+        V remove(K key) {
+            versions.incrementAndGet(slot(key));
+            evictions.incrementAndGet();
+            Entry<V> removed = lruCache.remove(key);
+            return removed != null ? removed.value() : null;
+        }
+
+        private static int slot(Object key) {
+            return Math.floorMod(key.hashCode(), VERSION_SLOTS);
+        }
+
+        Map<String, Object> stats() {
+            long hitCount = hits.get();
+            long missCount = misses.get();
+            long total = hitCount + missCount;
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("size", lruCache.size());
+            stats.put("maxEntries", maxEntries);
+            stats.put("hits", hitCount);
+            stats.put("misses", missCount);
+            stats.put("hitRate", total > 0 ? (double) hitCount / total : 0.0);
+            stats.put("evictions", evictions.get());
+            return stats;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.fairytale.fairytale.users;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,9 @@ public interface UsersRepository extends JpaRepository<Users,Long> {
     Optional<Users> findByKakaoId(String kakaoId);
 
     Optional<Object> findByNickname(String nickname);
+
+    // 🎯 표시명 일괄 조회: [username, nickname, babyName] (아기는 등록 순)
+    @Query("SELECT u.username, u.nickname, b.babyName FROM Users u LEFT JOIN u.babies b " +
+            "WHERE u.username IN :usernames ORDER BY u.id, b.id")
+    List<Object[]> findDisplayNameRows(@Param("usernames") Collection<String> usernames);
 }
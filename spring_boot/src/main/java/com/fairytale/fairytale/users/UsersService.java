@@ -11,6 +11,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UsersService {
     private final UsersRepository usersRepository;
+    private final DisplayNameResolver displayNameResolver;
+    private final UserIdentityCache userIdentityCache;
 
     /**
      * 프로필 이미지 URL 업데이트
@@ -25,6 +27,8 @@ public class UsersService {
                 Users user = userOptional.get();
                 user.setProfileImageUrl(profileImageUrl);
                 usersRepository.save(user);
+                displayNameResolver.evict(user.getUsername());
+                userIdentityCache.evictUser(user.getUsername());
 
                 log.info("✅ [UsersService] 프로필 이미지 URL 업데이트 성공: userId={}", userId);
             } else {
@@ -98,6 +102,8 @@ public class UsersService {
                 Users user = userOptional.get();
                 user.setProfileImageUrl(null);
                 usersRepository.save(user);
+                displayNameResolver.evict(user.getUsername());
+                userIdentityCache.evictUser(user.getUsername());
 
                 log.info("✅ [UsersService] 프로필 이미지 URL 삭제 성공: userId={}", userId);
             } else {
@@ -0,0 +1,32 @@
+-- 🗂️ 자주 쓰는 조회 경로용 복합 인덱스 (엔티티 @Index와 같은 이름/컬럼)
+-- 운영 DB는 FlywayConfig가 기존 스키마를 버전 0으로 baseline한 뒤 이 스크립트를 적용한다.
+-- 빈 DB에서는 테이블이 아직 없으므로(Hibernate가 이후 생성) 테이블이 있는 경우에만 만든다.
+
+DO $$
+DECLARE
+    idx RECORD;
+BEGIN
+    FOR idx IN
+        SELECT * FROM (VALUES
+            ('story',            'idx_story_user_created',             'users_id, created_at, id'),
+            ('baby',             'idx_baby_user_created',              'users_id, created_at'),
+            ('gallery',          'idx_gallery_user_created',           'user_id, created_at'),
+            ('gallery',          'idx_gallery_story_user',             'story_id, user_id'),
+            ('coloring_works',   'idx_coloring_work_username_created', 'username, created_at, id'),
+            ('coloring_templates', 'idx_coloring_template_story_user', 'story_id, user_id'),
+            ('coloring_templates', 'idx_coloring_template_user',       'user_id'),
+            ('share_posts',      'idx_share_post_created',             'created_at, id'),
+            ('share_posts',      'idx_share_post_popular',             'like_count, created_at, id'),
+            ('share_posts',      'idx_share_post_user_created',        'user_id, created_at'),
+            ('share_posts',      'idx_share_post_source_created',      'source_type, created_at'),
+            ('share_post_likes', 'idx_share_post_likes_user',          'user_id'),
+            ('comments',         'idx_comment_post_created',           'share_post_id, created_at'),
+            ('comments',         'idx_comment_username_created',       'username, created_at')
+        ) AS t(table_name, index_name, columns)
+    LOOP
+        IF to_regclass(idx.table_name) IS NOT NULL THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (%s)', idx.index_name, idx.table_name, idx.columns);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,96 @@
+package com.fairytale.fairytale.admission;
+
+import com.fairytale.fairytale.admission.AdmissionService.Operation;
+import com.fairytale.fairytale.admission.AdmissionService.Permit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionServiceTest {
+
+    private AdmissionService service;
+
+    @BeforeEach
+    void setUp() {
+        // IMAGE: 동시 실행 1개, 전역 버킷 2개(동시 실행 수 x 2), 분당 1개 충전
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("GENERATION_IMAGE_MAX_CONCURRENT", "1")
+                .withProperty("GENERATION_IMAGE_RATE_PER_MINUTE", "1");
+        service = new AdmissionService(environment, 100);
+        ReflectionTestUtils.setField(service, "userMaxInFlight", 1);
+        ReflectionTestUtils.setField(service, "userRatePerMinute", 1);
+        ReflectionTestUtils.setField(service, "userBurst", 3);
+        ReflectionTestUtils.setField(service, "admissionWaitMs", 50L);
+        ReflectionTestUtils.setField(service, "busyRetryAfterSeconds", 5L);
+    }
+
+    @Test
+    void 전체_빈도에서_거절되면_사용자_토큰을_돌려준다() {
+        service.checkRate(Operation.IMAGE, "mom");
+        service.checkRate(Operation.IMAGE, "mom");
+
+        assertThatThrownBy(() -> service.checkRate(Operation.IMAGE, "mom"))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessageContaining("요청이 많아");
+
+        // 사용자 버킷 3개 중 2개만 쓰였으므로 다른 작업은 통과
+        service.checkRate(Operation.STORY, "mom");
+        assertThatThrownBy(() -> service.checkRate(Operation.STORY, "mom"))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessageContaining("너무 잦습니다");
+    }
+
+    @Test
+    void 사용자_동시_요청_한도를_넘으면_거절하고_반납하면_다시_받는다() {
+        Permit first = service.admit(Operation.STORY, "mom");
+
+        assertThatThrownBy(() -> service.admit(Operation.VOICE, "mom"))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .hasMessageContaining("이미 진행 중인");
+
+        first.close();
+        first.close(); // 여러 번 닫아도 한 번만 반납
+        try (Permit again = service.admit(Operation.VOICE, "mom")) {
+            assertThat(again).isNotNull();
+        }
+    }
+
+    @Test
+    void 전역_자리가_없으면_대기_후_거절한다() {
+        Permit held = service.admit(Operation.IMAGE, "mom");
+
+        assertThatThrownBy(() -> service.admit(Operation.IMAGE, "dad"))
+                .isInstanceOf(AdmissionRejectedException.class)
+                .satisfies(e -> assertThat(((AdmissionRejectedException) e).getRetryAfterSeconds()).isEqualTo(5L));
+
+        held.close();
+        try (Permit permit = service.admit(Operation.IMAGE, "dad")) {
+            assertThat(imageStats().get("inFlight")).isEqualTo(1);
+        }
+        assertThat(imageStats().get("inFlight")).isEqualTo(0);
+        assertThat(imageStats().get("rejectedBusy")).isEqualTo(1L);
+    }
+
+    @Test
+    void 백그라운드_작업은_실패해도_자리를_반납한다() {
+        assertThatThrownBy(() -> service.runAdmitted(Operation.IMAGE, () -> {
+            throw new RuntimeException("FastAPI 실패");
+        })).hasMessage("FastAPI 실패");
+
+        assertThat(service.runAdmitted(Operation.IMAGE, () -> "ok")).isEqualTo("ok");
+        assertThat(imageStats().get("inFlight")).isEqualTo(0);
+        assertThat(imageStats().get("admitted")).isEqualTo(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> imageStats() {
+        Map<String, Object> operations = (Map<String, Object>) service.getStats().get("operations");
+        return (Map<String, Object>) operations.get(Operation.IMAGE.name());
+    }
+}
@@ -0,0 +1,94 @@
+package com.fairytale.fairytale.auth.strategy;
+
+import com.fairytale.fairytale.users.Users;
+import com.fairytale.fairytale.users.UsersRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JWT 검증 캐시 정확성 + 캐시/비캐시 검증 비용 비교 마이크로벤치마크
+ * 벤치마크는 @Tag("benchmark")로 분리되어 ./gradlew benchmark 로만 실행된다.
+ */
+class JwtVerificationBenchmarkTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-benchmark-0123456789";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    @Test
+    void cachedVerificationReturnsSameUser() {
+        JwtAuthStrategy strategy = strategy(10_000);
+        String token = strategy.authenticate(user("kakao_1"), 60_000L);
+
+        Authentication first = strategy.getAuthentication(token);
+        Authentication second = strategy.getAuthentication(token);
+
+        assertThat(first.getName()).isEqualTo("kakao_1");
+        assertThat(second.getName()).isEqualTo("kakao_1");
+        VerifiedTokenCache cache = (VerifiedTokenCache) ReflectionTestUtils.getField(strategy, "verifiedTokenCache");
+        assertThat(cache.getStats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void tamperedAndExpiredTokensAreRejected() {
+        JwtAuthStrategy strategy = strategy(10_000);
+        String token = strategy.authenticate(user("kakao_1"), 60_000L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = strategy.authenticate(user("kakao_1"), -1_000L);
+
+        assertThat(strategy.getAuthentication(tampered)).isNull();
+        assertThat(strategy.getAuthentication(expired)).isNull();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void cachedVerificationIsCheaperThanParsing() {
+        JwtAuthStrategy cached = strategy(10_000);
+        JwtAuthStrategy uncached = strategy(0); // 최대 0개 - 매번 서명 검증
+        String token = cached.authenticate(user("kakao_1"), 3_600_000L);
+
+        long uncachedNanos = measure(uncached, token);
+        long cachedNanos = measure(cached, token);
+
+        System.out.printf("🔐 JWT 검증 - 비캐시: %.1f ns/op, 캐시: %.1f ns/op (%.1fx)%n",
+                uncachedNanos / (double) MEASURED_ITERATIONS,
+                cachedNanos / (double) MEASURED_ITERATIONS,
+                uncachedNanos / (double) cachedNanos);
+        assertThat(cachedNanos).isLessThan(uncachedNanos);
+    }
+
+    private static long measure(JwtAuthStrategy strategy, String token) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += strategy.getAuthentication(token).getName().length();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += strategy.getAuthentication(token).getName().length();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertThat(sink).isPositive(); // JIT가 루프를 제거하지 않도록 결과 사용
+        return elapsed;
+    }
+
+    private static JwtAuthStrategy strategy(int cacheMaxEntries) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", cacheMaxEntries);
+
+        JwtAuthStrategy strategy = new JwtAuthStrategy(mock(UsersRepository.class), cache);
+        ReflectionTestUtils.setField(strategy, "secretKeyString", SECRET);
+        strategy.init();
+        return strategy;
+    }
+
+    private static Users user(String username) {
+        Users user = new Users();
+        user.setUsername(username);
+        return user;
+    }
+}
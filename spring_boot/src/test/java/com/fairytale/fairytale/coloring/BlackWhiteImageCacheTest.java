@@ -0,0 +1,135 @@
+package com.fairytale.fairytale.coloring;
+
+import com.fairytale.fairytale.admission.AdmissionRejectedException;
+import com.fairytale.fairytale.service.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BlackWhiteImageCacheTest {
+
+    private static final String ORIGINAL = "https://bucket.s3.amazonaws.com/images/a.png";
+    private static final String CONVERTED = "https://bucket.s3.amazonaws.com/bw-images/a.png";
+
+    private BlackWhiteImageMappingRepository mappingRepository;
+    private BlackWhiteImageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mappingRepository = mock(BlackWhiteImageMappingRepository.class);
+        cache = new BlackWhiteImageCache(mappingRepository, mock(S3Service.class),
+                mock(RestTemplate.class), 2);
+        ReflectionTestUtils.setField(cache, "negativeTtlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "waitSeconds", 5L);
+    }
+
+    @Test
+    void concurrentRequestsShareOneConversion() throws Exception {
+        AtomicInteger conversions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, String> converter = url -> {
+            conversions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return CONVERTED;
+        };
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> cache.getOrConvert(ORIGINAL, converter));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> cache.getOrConvert(ORIGINAL, converter));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(CONVERTED);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(CONVERTED);
+        assertThat(cache.getOrConvert(ORIGINAL, converter)).isEqualTo(CONVERTED);
+        assertThat(conversions.get()).isEqualTo(1);
+        verify(mappingRepository, times(1)).insertIfAbsent(ORIGINAL, CONVERTED);
+        verify(mappingRepository, never()).save(any());
+    }
+
+    @Test
+    void failedConversionIsNegativelyCached() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<String, String> failing = url -> {
+            conversions.incrementAndGet();
+            return url; // 실패 시 원본 반환 규칙
+        };
+
+        assertThat(cache.getOrConvert(ORIGINAL, failing)).isEqualTo(ORIGINAL);
+        assertThat(cache.getOrConvert(ORIGINAL, failing)).isEqualTo(ORIGINAL);
+        assertThat(conversions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void admissionRejectionIsRethrownWithoutNegativeCaching() {
+        AtomicInteger conversions = new AtomicInteger();
+        Function<String, String> rejected = url -> {
+            conversions.incrementAndGet();
+            throw new AdmissionRejectedException("요청이 많아 처리할 수 없습니다.", 5);
+        };
+
+        assertThatThrownBy(() -> cache.getOrConvert(ORIGINAL, rejected))
+                .isInstanceOf(AdmissionRejectedException.class);
+
+        assertThat(cache.getOrConvert(ORIGINAL, url -> CONVERTED)).isEqualTo(CONVERTED);
+        assertThat(conversions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void waiterFallsBackToOriginalWhenConversionIsStuck() throws Exception {
+        ReflectionTestUtils.setField(cache, "waitSeconds", 0L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, String> stuck = url -> {
+            started.countDown();
+            await(release);
+            return CONVERTED;
+        };
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> cache.getOrConvert(ORIGINAL, stuck));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.getOrConvert(ORIGINAL, stuck)).isEqualTo(ORIGINAL);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(CONVERTED);
+    }
+
+    @Test
+    void negativeCacheIsBounded() {
+        Function<String, String> failing = url -> url;
+        for (int i = 0; i < 10; i++) {
+            cache.getOrConvert(ORIGINAL + "?v=" + i, failing);
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Long> failedUntil = (Map<String, Long>) ReflectionTestUtils.getField(cache, "failedUntil");
+        assertThat(failedUntil).hasSize(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
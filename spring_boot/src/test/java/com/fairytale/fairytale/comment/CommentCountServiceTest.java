@@ -0,0 +1,70 @@
+package com.fairytale.fairytale.comment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class CommentCountServiceTest {
+
+    private CommentRepository repository;
+    private CommentCountService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CommentRepository.class);
+        service = new CommentCountService(repository, 100);
+    }
+
+    private static List<Object[]> rows(long postId, long count) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{postId, count});
+        return rows;
+    }
+
+    @Test
+    void 조회_중_다른_게시물_무효화는_캐시_채우기를_막지_않는다() {
+        when(repository.countCommentsBySharePostIds(anyList())).thenAnswer(invocation -> {
+            service.evict(2L);
+            return rows(1L, 3L);
+        });
+
+        assertThat(service.getCount(1L)).isEqualTo(3L);
+        assertThat(service.getCount(1L)).isEqualTo(3L);
+
+        verify(repository, times(1)).countCommentsBySharePostIds(anyList());
+    }
+
+    @Test
+    void 조회_중_같은_게시물이_바뀌면_오래된_값을_캐시하지_않는다() {
+        when(repository.countCommentsBySharePostIds(anyList()))
+                .thenAnswer(invocation -> {
+                    service.onCommentCreated(1L);
+                    return rows(1L, 3L);
+                })
+                .thenReturn(rows(1L, 4L));
+
+        assertThat(service.getCount(1L)).isEqualTo(3L);
+        assertThat(service.getCount(1L)).isEqualTo(4L);
+
+        verify(repository, times(2)).countCommentsBySharePostIds(anyList());
+    }
+
+    @Test
+    void 댓글_작성_삭제는_캐시된_값을_증감한다() {
+        when(repository.countCommentsBySharePostIds(anyList())).thenReturn(rows(1L, 3L));
+        service.getCount(1L);
+
+        service.onCommentCreated(1L);
+        service.onCommentCreated(1L);
+        service.onCommentDeleted(1L);
+
+        assertThat(service.getCount(1L)).isEqualTo(4L);
+        verify(repository, times(1)).countCommentsBySharePostIds(anyList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.fairytale.fairytale.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExecutorMetricsRegistryTest {
+
+    private ExecutorMetricsRegistry registry;
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ExecutorMetricsRegistry();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        registry.instrument("test", executor, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 거절된_작업은_submitted에_포함되지_않는다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable blocking = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        };
+
+        executor.execute(blocking); // 실행 중
+        executor.execute(blocking); // 큐 대기
+        assertThatThrownBy(() -> executor.execute(blocking)).isInstanceOf(TaskRejectedException.class);
+
+        Map<String, Object> stats = registry.getExecutorStats().get("test");
+        assertThat(stats.get("submitted")).isEqualTo(2L);
+        assertThat(stats.get("rejected")).isEqualTo(1L);
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // completed는 task.run() 이후에 올라가므로 잠시 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((long) registry.getExecutorStats().get("test").get("completed") < 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(registry.getExecutorStats().get("test").get("completed")).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,248 @@
+package com.fairytale.fairytale.config;
+
+import com.fairytale.fairytale.baby.BabyRepository;
+import com.fairytale.fairytale.coloring.ColoringTemplateRepository;
+import com.fairytale.fairytale.coloring.ColoringWorkRepository;
+import com.fairytale.fairytale.comment.CommentRepository;
+import com.fairytale.fairytale.gallery.GalleryRepository;
+import com.fairytale.fairytale.share.SharePostRepository;
+import com.fairytale.fairytale.story.StoryRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.schema.TargetType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V1__hot_query_indexes.sql 회귀 검사
+ * 내장 PostgreSQL에 엔티티로 스키마를 만들고 어노테이션 인덱스를 지운 뒤 마이그레이션만으로 다시 만든다.
+ * 운영과 비슷한 분포로 데이터를 채우고 ANALYZE한 다음, 각 리포지토리 메서드가 실제로 만든 SQL을
+ * EXPLAIN해서 플래너가 스스로 해당 인덱스를 고르는지 확인한다.
+ */
+class HotQueryIndexPlanTest {
+
+    private static final List<String> MIGRATED_INDEXES = List.of(
+            "idx_story_user_created", "idx_baby_user_created", "idx_gallery_user_created", "idx_gallery_story_user",
+            "idx_coloring_work_username_created", "idx_coloring_template_story_user", "idx_coloring_template_user",
+            "idx_share_post_created", "idx_share_post_popular", "idx_share_post_user_created",
+            "idx_share_post_source_created", "idx_share_post_likes_user", "idx_comment_post_created",
+            "idx_comment_username_created");
+
+    // 시드 규모: 사용자 2천 명, 사용자당 동화 20개, 게시물 2만 개, 댓글 10만 개
+    private static final int USERS = 2_000;
+    private static final Long USER_ID = 7L;
+    private static final String USERNAME = "user_7";
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbc;
+    private static StandardServiceRegistry registry;
+    private static SessionFactory sessionFactory;
+    private static EntityManager entityManager;
+    private static final List<String> capturedSql = new ArrayList<>();
+
+    private static StoryRepository stories;
+    private static BabyRepository babies;
+    private static GalleryRepository galleries;
+    private static ColoringWorkRepository coloringWorks;
+    private static ColoringTemplateRepository coloringTemplates;
+    private static SharePostRepository sharePosts;
+    private static CommentRepository comments;
+
+    @BeforeAll
+    static void createSchemaMigrateAndSeed() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbc = new JdbcTemplate(postgres.getPostgresDatabase());
+
+        Metadata metadata = buildEntityMetadata();
+        new SchemaExport().create(EnumSet.of(TargetType.DATABASE), metadata);
+        MIGRATED_INDEXES.forEach(index -> jdbc.execute("DROP INDEX IF EXISTS " + index));
+
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load()
+                .migrate();
+
+        seed();
+        jdbc.execute("ANALYZE");
+
+        // 리포지토리가 보내는 SQL을 그대로 받아 EXPLAIN에 쓴다
+        sessionFactory = metadata.getSessionFactoryBuilder()
+                .applyStatementInspector(sql -> {
+                    capturedSql.add(sql);
+                    return sql;
+                })
+                .build();
+        entityManager = sessionFactory.createEntityManager();
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(entityManager);
+        stories = factory.getRepository(StoryRepository.class);
+        babies = factory.getRepository(BabyRepository.class);
+        galleries = factory.getRepository(GalleryRepository.class);
+        coloringWorks = factory.getRepository(ColoringWorkRepository.class);
+        coloringTemplates = factory.getRepository(ColoringTemplateRepository.class);
+        sharePosts = factory.getRepository(SharePostRepository.class);
+        comments = factory.getRepository(CommentRepository.class);
+    }
+
+    @AfterAll
+    static void shutdown() throws IOException {
+        if (entityManager != null) {
+            entityManager.close();
+        }
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        if (registry != null) {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    // 기대 인덱스, 리포지토리 호출, SQL에 바인딩되는 값(순서대로)
+    static Stream<Arguments> hotQueries() {
+        List<Long> feedPostIds = LongStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+        return Stream.of(
+                query("idx_story_user_created", () -> stories.findGalleryTimeline(USER_ID, FIRST_PAGE), USER_ID, 20),
+                query("idx_baby_user_created", () -> babies.findAllByUserId(USER_ID), USER_ID),
+                query("idx_gallery_user_created", () -> galleries.findByUserIdOrderByCreatedAtDesc(USER_ID), USER_ID),
+                query("idx_gallery_story_user", () -> galleries.findByStoryIdAndUserId(6L, USER_ID), 6L, USER_ID),
+                query("idx_coloring_work_username_created",
+                        () -> coloringWorks.findGalleryTimeline(USERNAME, FIRST_PAGE), USERNAME, 20),
+                query("idx_coloring_template_story_user",
+                        () -> coloringTemplates.findByStoryIdAndUserId("6", USER_ID), "6", USER_ID),
+                query("idx_coloring_template_user",
+                        () -> coloringTemplates.findByUserIdOrderByCreatedAtDesc(USER_ID, FIRST_PAGE), USER_ID, 20),
+                query("idx_share_post_created", () -> sharePosts.findLatestFeed(FIRST_PAGE), 20),
+                query("idx_share_post_popular", () -> sharePosts.findPopularFeed(FIRST_PAGE), 20),
+                query("idx_share_post_user_created",
+                        () -> sharePosts.findByUserIdOrderByCreatedAtDesc(USER_ID), USER_ID),
+                // GALLERY 게시물은 전체의 2%라 소스 타입 조건이 선택적이다
+                query("idx_share_post_source_created",
+                        () -> sharePosts.findBySourceTypeOrderByCreatedAtDesc("GALLERY"), "GALLERY"),
+                query("idx_share_post_likes_user", () -> sharePosts.findLikedPostIds(USER_ID, feedPostIds),
+                        Stream.concat(Stream.of(USER_ID), feedPostIds.stream()).toArray()),
+                query("idx_comment_post_created",
+                        () -> comments.findBySharePostIdOrderByCreatedAtDesc(1L, FIRST_PAGE), 1L, 20),
+                query("idx_comment_username_created",
+                        () -> comments.findByUsernameOrderByCreatedAtDesc(USERNAME), USERNAME));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesMigratedIndex(String expectedIndex, Supplier<?> repositoryCall, List<Object> binds) {
+        capturedSql.clear();
+        repositoryCall.get();
+        assertThat(capturedSql).as("리포지토리가 보낸 SQL").isNotEmpty();
+
+        // 첫 문장이 본 조회 (Page 반환이면 뒤에 count 조회가 따라올 수 있음)
+        String plan = explain(inline(capturedSql.get(0), binds));
+
+        assertThat(plan).as(plan).contains(expectedIndex).doesNotContain("Seq Scan");
+    }
+
+    private static Arguments query(String expectedIndex, Supplier<?> repositoryCall, Object... binds) {
+        return Arguments.of(expectedIndex, repositoryCall, List.of(binds));
+    }
+
+    // 바인딩 값을 리터럴로 넣어 플래너가 실제 값의 통계로 계획을 세우게 한다
+    private static String inline(String sql, List<Object> binds) {
+        StringBuilder inlined = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            if (c != '?') {
+                inlined.append(c);
+                continue;
+            }
+            assertThat(next).as("바인딩 값 개수: " + sql).isLessThan(binds.size());
+            Object value = binds.get(next++);
+            inlined.append(value instanceof Number ? value.toString() : "'" + value.toString().replace("'", "''") + "'");
+        }
+        assertThat(next).as("바인딩 값 개수: " + sql).isEqualTo(binds.size());
+        return inlined.toString();
+    }
+
+    private static String explain(String sql) {
+        return String.join("\n", jdbc.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private static void seed() {
+        jdbc.update("INSERT INTO users (id, username, nickname, created_at) " +
+                "SELECT g, 'user_' || g, 'nick_' || g, now() - g * interval '1 hour' FROM generate_series(1, ?) g", USERS);
+        jdbc.update("INSERT INTO baby (id, baby_name, baby_gender, baby_birth_date, created_at, users_id) " +
+                "SELECT g, 'baby_' || g, 'F', now() - interval '2 years', now() - g * interval '1 hour', g " +
+                "FROM generate_series(1, ?) g", USERS);
+        // 동화 4개 중 1개는 이미지 없음
+        jdbc.update("INSERT INTO story (id, theme, title, content, image, created_at, users_id, version) " +
+                "SELECT g, 'theme', 'title_' || g, 'content', " +
+                "CASE WHEN g % 4 = 0 THEN NULL ELSE 'https://img.example/story/' || g END, " +
+                "now() - g * interval '1 minute', 1 + g % ?, 0 FROM generate_series(1, ?) g", USERS, USERS * 20);
+        jdbc.update("INSERT INTO gallery (id, story_id, user_id, created_at) " +
+                "SELECT g, g, 1 + g % ?, now() - g * interval '1 minute' FROM generate_series(1, ?) g", USERS, USERS * 10);
+        jdbc.update("INSERT INTO coloring_works (id, username, completed_image_url, created_at) " +
+                "SELECT g, 'user_' || (1 + g % ?), 'https://img.example/work/' || g, now() - g * interval '1 minute' " +
+                "FROM generate_series(1, ?) g", USERS, USERS * 10);
+        jdbc.update("INSERT INTO coloring_templates (id, title, story_id, original_image_url, black_white_image_url, user_id, created_at) " +
+                "SELECT g, 'title_' || g, g::text, 'https://img.example/color/' || g, 'https://img.example/bw/' || g, " +
+                "1 + g % ?, now() - g * interval '1 minute' FROM generate_series(1, ?) g", USERS, USERS * 10);
+        jdbc.update("INSERT INTO share_posts (id, user_id, source_type, source_id, like_count, created_at) " +
+                "SELECT g, 1 + g % ?, CASE WHEN g % 50 = 0 THEN 'GALLERY' ELSE 'STORY' END, g, g % 100, " +
+                "now() - g * interval '1 minute' FROM generate_series(1, ?) g", USERS, USERS * 10);
+        jdbc.update("INSERT INTO share_post_likes (post_id, user_id) " +
+                "SELECT p, 1 + (p * 7 + k * 13) % ? FROM generate_series(1, ?) p, generate_series(0, 2) k", USERS, USERS * 10);
+        jdbc.update("INSERT INTO comments (id, share_post_id, username, content, created_at) " +
+                "SELECT g, 1 + g % ?, 'user_' || (1 + g % ?), 'comment', now() - g * interval '1 minute' " +
+                "FROM generate_series(1, ?) g", USERS * 10, USERS, USERS * 50);
+    }
+
+    // 운영과 같은 이름 규칙으로 엔티티 메타데이터 구성 (Spring 컨텍스트 없이)
+    private static Metadata buildEntityMetadata() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting("hibernate.connection.url", postgres.getJdbcUrl("postgres", "postgres"))
+                .applySetting("hibernate.connection.username", "postgres")
+                .applySetting("hibernate.connection.password", "postgres")
+                .build();
+        MetadataSources sources = new MetadataSources(registry);
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        scanner.findCandidateComponents("com.fairytale.fairytale")
+                .forEach(entity -> sources.addAnnotatedClassName(entity.getBeanClassName()));
+
+        return sources.getMetadataBuilder()
+                .applyImplicitNamingStrategy(new SpringImplicitNamingStrategy())
+                .applyPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.fairytale.fairytale.lullaby;
+
+import com.fairytale.fairytale.lullaby.dto.JamendoTrack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class LullabySearchCacheTest {
+
+    private PythonApiService pythonApiService;
+    private LullabySearchCache cache;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        pythonApiService = mock(PythonApiService.class);
+        cache = newCache(256);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    private LullabySearchCache newCache(int maxEntries) {
+        // 백그라운드 갱신은 호출 스레드에서 바로 실행
+        ThreadPoolTaskExecutor refreshExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(refreshExecutor).execute(any(Runnable.class));
+
+        LullabySearchCache created = new LullabySearchCache(pythonApiService, refreshExecutor, maxEntries);
+        ReflectionTestUtils.setField(created, "ttlSeconds", 900L);
+        ReflectionTestUtils.setField(created, "retrySeconds", 60L);
+        return created;
+    }
+
+    private static List<JamendoTrack> tracks(String name) {
+        JamendoTrack track = new JamendoTrack();
+        track.setName(name);
+        return List.of(track);
+    }
+
+    @Test
+    void 같은_키워드의_동시_요청은_업스트림을_한번만_부른다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(pythonApiService.searchMusicByTheme("piano")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return tracks("A");
+        });
+
+        Future<List<JamendoTrack>> leader = callers.submit(() -> cache.getMusic("piano"));
+        Future<List<JamendoTrack>> follower = callers.submit(() -> cache.getMusic(" Piano "));
+
+        // 두 번째 요청이 진행 중인 호출에 합류할 때까지 대기
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((long) cache.getStats().get("coalesced") < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).extracting(JamendoTrack::getName).containsExactly("A");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).extracting(JamendoTrack::getName).containsExactly("A");
+        verify(pythonApiService, times(1)).searchMusicByTheme("piano");
+    }
+
+    @Test
+    void TTL이_지난_값은_그대로_응답하고_백그라운드에서_갱신한다() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(pythonApiService.searchMusicByTheme("piano")).thenReturn(tracks("A"), tracks("B"));
+
+        assertThat(cache.getMusic("piano")).extracting(JamendoTrack::getName).containsExactly("A");
+        assertThat(cache.getMusic("piano")).extracting(JamendoTrack::getName).containsExactly("A");
+        assertThat(cache.getMusic("piano")).extracting(JamendoTrack::getName).containsExactly("B");
+    }
+
+    @Test
+    void 갱신이_실패하면_마지막_정상_결과를_유지하고_잠시_갱신을_멈춘다() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+        when(pythonApiService.searchMusicByTheme("piano"))
+                .thenReturn(tracks("A"))
+                .thenThrow(new RuntimeException("업스트림 장애"));
+
+        cache.getMusic("piano");
+        assertThat(cache.getMusic("piano")).extracting(JamendoTrack::getName).containsExactly("A");
+        assertThat(cache.getMusic("piano")).extracting(JamendoTrack::getName).containsExactly("A");
+
+        verify(pythonApiService, times(2)).searchMusicByTheme("piano");
+    }
+
+    @Test
+    void 처음_보는_키워드가_실패하면_재시도_시각까지_바로_실패한다() {
+        when(pythonApiService.searchMusicByTheme(anyString())).thenThrow(new RuntimeException("업스트림 장애"));
+
+        assertThatThrownBy(() -> cache.getMusic("rain")).hasMessageContaining("업스트림 장애");
+        assertThatThrownBy(() -> cache.getMusic("rain")).hasMessageContaining("재시도 대기");
+        verify(pythonApiService, times(1)).searchMusicByTheme("rain");
+
+        // 재시도 시각이 지나면 다시 업스트림 호출
+        ReflectionTestUtils.setField(cache, "retrySeconds", 0L);
+        assertThatThrownBy(() -> cache.getMusic("ocean")).hasMessageContaining("업스트림 장애");
+        assertThatThrownBy(() -> cache.getMusic("ocean")).hasMessageContaining("업스트림 장애");
+        verify(pythonApiService, times(2)).searchMusicByTheme("ocean");
+    }
+
+    @Test
+    void 실패_기록도_LRU에서_밀려나면_함께_정리된다() {
+        cache = newCache(1);
+        when(pythonApiService.searchMusicByTheme("rain"))
+                .thenThrow(new RuntimeException("업스트림 장애"))
+                .thenReturn(tracks("R"));
+        when(pythonApiService.searchMusicByTheme("piano")).thenReturn(tracks("A"));
+
+        assertThatThrownBy(() -> cache.getMusic("rain")).isInstanceOf(RuntimeException.class);
+        cache.getMusic("piano");
+
+        assertThat(cache.getStats().get("size")).isEqualTo(1);
+        assertThat(cache.getMusic("rain")).extracting(JamendoTrack::getName).containsExactly("R");
+    }
+}
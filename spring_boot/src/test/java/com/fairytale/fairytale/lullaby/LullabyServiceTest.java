@@ -0,0 +1,91 @@
+package com.fairytale.fairytale.lullaby;
+
+import com.fairytale.fairytale.lullaby.dto.CombinedLullabyContent;
+import com.fairytale.fairytale.lullaby.dto.JamendoTrack;
+import com.fairytale.fairytale.lullaby.dto.YouTubeVideo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class LullabyServiceTest {
+
+    private LullabySearchCache cache;
+    private ThreadPoolTaskExecutor executor;
+    private LullabyService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(LullabySearchCache.class);
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        service = new LullabyService(mock(PythonApiService.class), cache, executor);
+        ReflectionTestUtils.setField(service, "combinedBranchTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "combinedTotalTimeoutMs", 2000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static List<JamendoTrack> tracks() {
+        JamendoTrack track = new JamendoTrack();
+        track.setName("자장가");
+        return List.of(track);
+    }
+
+    private static List<YouTubeVideo> videos() {
+        YouTubeVideo video = new YouTubeVideo();
+        video.setTitle("자장가 영상");
+        video.setUrl("https://www.youtube.com/watch?v=abc123");
+        return List.of(video);
+    }
+
+    @Test
+    void 두_검색이_모두_성공하면_부분결과가_아니다() {
+        when(cache.getMusic("piano")).thenReturn(tracks());
+        when(cache.getVideos("piano")).thenReturn(videos());
+
+        CombinedLullabyContent result = service.searchCombined("잔잔한 피아노", 10);
+
+        assertThat(result.isPartial()).isFalse();
+        assertThat(result.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 한쪽_검색이_실패하면_부분결과로_표시한다() {
+        when(cache.getMusic("piano")).thenReturn(tracks());
+        when(cache.getVideos("piano")).thenThrow(new RuntimeException("업스트림 장애"));
+
+        CombinedLullabyContent result = service.searchCombined("잔잔한 피아노", 10);
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getMusic()).hasSize(1);
+        assertThat(result.getVideos()).isEmpty();
+    }
+
+    @Test
+    void 제한_시간을_넘긴_검색도_부분결과로_표시한다() {
+        ReflectionTestUtils.setField(service, "combinedBranchTimeoutMs", 100L);
+        when(cache.getMusic("piano")).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return tracks();
+        });
+        when(cache.getVideos("piano")).thenReturn(videos());
+
+        CombinedLullabyContent result = service.searchCombined("잔잔한 피아노", 10);
+
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getMusic()).isEmpty();
+        assertThat(result.getVideos()).hasSize(1);
+    }
+}
@@ -0,0 +1,134 @@
+package com.fairytale.fairytale.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private OutboxService outboxService;
+    private OutboxDispatcher dispatcher;
+    private ThreadPoolTaskExecutor executor;
+    private OutboxJobHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        outboxService = mock(OutboxService.class);
+        dispatcher = new OutboxDispatcher(outboxService, new ObjectMapper());
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 600L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMs", 1000L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMs", 60000L);
+
+        // 큐 용량 확인용 풀 + 작업은 호출 스레드에서 바로 실행
+        executor = mock(ThreadPoolTaskExecutor.class);
+        when(executor.getThreadPoolExecutor()).thenReturn(
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>(10)));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+
+        handler = mock(OutboxJobHandler.class);
+        dispatcher.register("video", executor, 3, handler);
+        when(outboxService.complete(anyLong(), anyString())).thenReturn(true);
+    }
+
+    private void claims(OutboxService.ClaimedJob... jobs) {
+        when(outboxService.claim(eq("video"), anyString(), anyInt(), eq(600L))).thenReturn(List.of(jobs));
+    }
+
+    private static OutboxService.ClaimedJob job(long id, int attempt) {
+        return new OutboxService.ClaimedJob(id, "video", "video:" + id, "{\"postId\":" + id + "}", attempt);
+    }
+
+    @Test
+    void 성공한_작업은_완료_처리한다() throws Exception {
+        claims(job(1L, 1));
+
+        dispatcher.poll();
+
+        verify(handler).handle(Map.of("postId", 1));
+        verify(outboxService).complete(eq(1L), anyString());
+    }
+
+    @Test
+    void 실패한_작업은_최대_횟수_전까지_백오프_후_재시도한다() throws Exception {
+        claims(job(1L, 2));
+        doThrow(new RuntimeException("렌더링 실패")).when(handler).handle(any());
+
+        dispatcher.poll();
+
+        verify(outboxService).retry(eq(1L), anyString(), eq(2000L), contains("렌더링 실패"));
+        verify(outboxService, never()).fail(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    void 마지막_시도가_실패하면_최종_실패_처리한다() throws Exception {
+        claims(job(1L, 3));
+        doThrow(new RuntimeException("렌더링 실패")).when(handler).handle(any());
+
+        dispatcher.poll();
+
+        verify(outboxService).fail(eq(1L), anyString(), contains("렌더링 실패"));
+        verify(handler).onGiveUp(eq(Map.of("postId", 1)), contains("렌더링 실패"));
+    }
+
+    @Test
+    void 임대_만료로_회수된_작업이_최대_횟수를_넘으면_실행하지_않는다() throws Exception {
+        claims(job(1L, 4));
+
+        dispatcher.poll();
+
+        verify(handler, never()).handle(any());
+        verify(outboxService).fail(eq(1L), anyString(), contains("최대 시도 횟수"));
+        verify(handler).onGiveUp(eq(Map.of("postId", 1)), anyString());
+    }
+
+    @Test
+    void 큐_포화로_거절되면_시도_횟수를_세지_않고_반납한다() throws Exception {
+        claims(job(1L, 1));
+        doThrow(new TaskRejectedException("포화")).when(executor).execute(any(Runnable.class));
+
+        dispatcher.poll();
+
+        verify(outboxService).unclaim(eq(1L), anyString());
+        verify(outboxService, never()).retry(anyLong(), anyString(), anyLong(), anyString());
+        assertThat(dispatcher.getStats().get("leased")).isEqualTo(0);
+    }
+
+    @Test
+    void 실행_중인_작업만_임대를_연장한다() throws Exception {
+        claims(job(1L, 1));
+        List<Collection<Long>> renewed = new ArrayList<>();
+        doAnswer(invocation -> {
+            dispatcher.renewLeases(); // 핸들러 실행 도중 하트비트
+            return null;
+        }).when(handler).handle(any());
+        when(outboxService.renewLeases(anyCollection(), anyString(), eq(600L))).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            renewed.add(new ArrayList<>(ids));
+            return 1;
+        });
+
+        dispatcher.poll();
+        dispatcher.renewLeases(); // 끝난 뒤에는 연장할 작업 없음
+
+        assertThat(renewed).containsExactly(List.of(1L));
+    }
+}
@@ -0,0 +1,97 @@
+package com.fairytale.fairytale.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxServiceTest {
+
+    private OutboxJobRepository repository;
+    private OutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxJobRepository.class);
+        service = new OutboxService(repository, new ObjectMapper());
+    }
+
+    private static OutboxJob job(long id, int attempts) {
+        OutboxJob job = new OutboxJob();
+        ReflectionTestUtils.setField(job, "id", id);
+        ReflectionTestUtils.setField(job, "jobType", "video");
+        ReflectionTestUtils.setField(job, "idempotencyKey", "video:" + id);
+        ReflectionTestUtils.setField(job, "payload", "{\"postId\":" + id + "}");
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        return job;
+    }
+
+    @Test
+    void 등록은_같은_키가_있으면_무시된다() {
+        when(repository.insertIfAbsent(eq("video"), eq("video:1"), anyString(), any())).thenReturn(1, 0);
+
+        assertThat(service.enqueue("video", "video:1", Map.of("postId", 1))).isTrue();
+        assertThat(service.enqueue("video", "video:1", Map.of("postId", 1))).isFalse();
+    }
+
+    @Test
+    void 임대는_잠근_작업에_임대를_걸고_이번_시도_번호를_돌려준다() {
+        when(repository.lockAvailable(eq("video"), any(), eq(5))).thenReturn(List.of(job(1L, 0), job(2L, 2)));
+
+        List<OutboxService.ClaimedJob> claimed = service.claim("video", "node-a", 5, 600);
+
+        assertThat(claimed).extracting(OutboxService.ClaimedJob::attempt).containsExactly(1, 3);
+        ArgumentCaptor<LocalDateTime> leasedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).lease(eq(List.of(1L, 2L)), eq("node-a"), leasedUntil.capture(), now.capture());
+        assertThat(leasedUntil.getValue()).isEqualTo(now.getValue().plusSeconds(600));
+    }
+
+    @Test
+    void 임대할_작업이_없으면_임대하지_않는다() {
+        when(repository.lockAvailable(anyString(), any(), anyInt())).thenReturn(List.of());
+
+        assertThat(service.claim("video", "node-a", 5, 600)).isEmpty();
+        verify(repository, never()).lease(any(), any(), any(), any());
+    }
+
+    @Test
+    void 재시도는_지연_후_실행_가능한_PENDING으로_반환한다() {
+        LocalDateTime before = LocalDateTime.now();
+
+        service.retry(1L, "node-a", 5000, "오류");
+
+        ArgumentCaptor<LocalDateTime> availableAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository).release(eq(1L), eq("node-a"), eq(OutboxJob.PENDING), availableAt.capture(), eq("오류"), any());
+        assertThat(availableAt.getValue()).isAfterOrEqualTo(before.plusSeconds(5));
+    }
+
+    @Test
+    void 최종_실패는_FAILED로_바꾸고_긴_오류는_자른다() {
+        service.fail(1L, "node-a", "x".repeat(2000));
+
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(repository).release(eq(1L), eq("node-a"), eq(OutboxJob.FAILED), any(), error.capture(), any());
+        assertThat(error.getValue()).hasSize(1000);
+    }
+
+    @Test
+    void 반납과_임대_연장은_소유자_조건으로_위임한다() {
+        when(repository.unlease(eq(1L), eq("node-a"), any())).thenReturn(1);
+
+        assertThat(service.unclaim(1L, "node-a")).isTrue();
+        assertThat(service.renewLeases(List.of(), "node-a", 600)).isZero();
+        service.renewLeases(List.of(1L, 2L), "node-a", 600);
+
+        verify(repository).renewLeases(eq(List.of(1L, 2L)), eq("node-a"), any(), any());
+    }
+}
@@ -0,0 +1,91 @@
+package com.fairytale.fairytale.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    // 최근 4번 중 2번 이상 호출, 실패율 50% 이상이면 열림
+    private static CircuitBreaker breaker(long openMillis) {
+        return new CircuitBreaker("test", 4, 2, 0.5, openMillis);
+    }
+
+    @Test
+    void 실패율을_넘으면_열리고_대기_중에는_호출을_막는다() {
+        CircuitBreaker breaker = breaker(60_000);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.stats().get("state")).isEqualTo("OPEN");
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.isAvailable()).isFalse();
+        assertThat(breaker.stats().get("rejectedCalls")).isEqualTo(1L);
+    }
+
+    @Test
+    void 대기_후_시험_호출은_한_건만_허용하고_성공하면_닫힌다() {
+        CircuitBreaker breaker = breaker(0);
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.stats().get("state")).isEqualTo("HALF_OPEN");
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.stats().get("state")).isEqualTo("CLOSED");
+        assertThat(breaker.stats().get("recentCalls")).isEqualTo(0);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 시험_호출이_실패하면_다시_열린다() {
+        CircuitBreaker breaker = breaker(0);
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.stats().get("state")).isEqualTo("OPEN");
+        assertThat(breaker.stats().get("openedCount")).isEqualTo(2L);
+    }
+
+    @Test
+    void 프로브_시험이면_일반_호출은_닫힐_때까지_막는다() {
+        CircuitBreaker breaker = breaker(0);
+        breaker.useProbeAsTrial();
+        breaker.onFailure();
+        breaker.onFailure();
+
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.isAvailable()).isFalse();
+
+        assertThat(breaker.tryAcquireProbe()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess();
+
+        assertThat(breaker.isAvailable()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void 무시한_호출은_실패율에_넣지_않고_시험을_다시_허용한다() {
+        CircuitBreaker breaker = breaker(0);
+        breaker.onIgnored();
+        breaker.onIgnored();
+        assertThat(breaker.stats().get("recentCalls")).isEqualTo(0);
+
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.stats().get("state")).isEqualTo("HALF_OPEN");
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.fairytale.fairytale.resilience;
+
+import com.amazonaws.AmazonServiceException;
+import com.fairytale.fairytale.resilience.ResilienceRegistry.Dependency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilienceRegistryTest {
+
+    private ResilienceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        // 최근 4번 중 2번 이상, 실패율 50% 이상이면 열림 / 대기 시간 없이 바로 반열림 가능
+        registry = new ResilienceRegistry(4, 2, 0.5, 0);
+        ReflectionTestUtils.setField(registry, "timeoutMultiplier", 3.0);
+        ReflectionTestUtils.setField(registry, "timeoutMinSamples", 20);
+        ReflectionTestUtils.setField(registry, "latencySamples", 50);
+        registry.registerProbe(Dependency.FASTAPI_VIDEO);
+    }
+
+    @Test
+    void 닫힌_회로에서는_프로브_실패를_실패율에_넣지_않는다() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> registry.probe(Dependency.FASTAPI_VIDEO, "fastapi-video", () -> false))
+                    .hasMessageContaining("헬스체크 실패");
+        }
+
+        assertThat(registry.isAvailable(Dependency.FASTAPI_VIDEO)).isTrue();
+        assertThat(breakerStats(Dependency.FASTAPI_VIDEO).get("recentCalls")).isEqualTo(0);
+    }
+
+    @Test
+    void 열린_회로는_프로브로만_시험하고_성공하면_닫힌다() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> registry.call(Dependency.FASTAPI_VIDEO, "video", () -> {
+                throw new IllegalStateException("FastAPI 실패");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(registry.isAvailable(Dependency.FASTAPI_VIDEO)).isFalse();
+        assertThatThrownBy(() -> registry.call(Dependency.FASTAPI_VIDEO, "video", () -> "ok"))
+                .isInstanceOf(CircuitOpenException.class);
+
+        registry.probe(Dependency.FASTAPI_VIDEO, "fastapi-video", () -> true);
+
+        assertThat(registry.isAvailable(Dependency.FASTAPI_VIDEO)).isTrue();
+        assertThat(registry.call(Dependency.FASTAPI_VIDEO, "video", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void 한_작업_묶음의_장애가_다른_묶음을_막지_않는다() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> registry.call(Dependency.FASTAPI_LULLABY, "lullaby-search", () -> {
+                throw new IllegalStateException("검색 실패");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(registry.call(Dependency.FASTAPI_GENERATION, "story", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void S3_실제_호출_실패가_이어지면_회로가_열리고_없는_키는_세지_않는다() {
+        registry.registerProbe(Dependency.S3);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> registry.call(Dependency.S3, "s3-download", () -> {
+                throw s3Error(404);
+            })).isInstanceOf(AmazonServiceException.class);
+        }
+        assertThat(registry.isAvailable(Dependency.S3)).isTrue();
+        assertThat(breakerStats(Dependency.S3).get("recentCalls")).isEqualTo(0);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> registry.call(Dependency.S3, "s3-upload", () -> {
+                throw s3Error(503);
+            })).isInstanceOf(AmazonServiceException.class);
+        }
+
+        assertThat(registry.isAvailable(Dependency.S3)).isFalse();
+        assertThatThrownBy(() -> registry.call(Dependency.S3, "s3-upload", () -> "etag"))
+                .isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void 프로브_지연_시간은_대상별로_따로_잰다() {
+        registry.probe(Dependency.FASTAPI_VIDEO, "fastapi-video", () -> true);
+        registry.registerProbe(Dependency.S3);
+        registry.probe(Dependency.S3, "s3", () -> true);
+
+        Map<String, Object> timeouts = timeouts();
+        assertThat(timeouts).containsKeys("health-fastapi-video", "health-s3").doesNotContainKey("health");
+        assertThat(((Map<?, ?>) timeouts.get("health-s3")).get("maxTimeoutMs")).isEqualTo(5_000L);
+    }
+
+    private static AmazonServiceException s3Error(int statusCode) {
+        AmazonServiceException e = new AmazonServiceException("S3 오류");
+        e.setStatusCode(statusCode);
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> breakerStats(Dependency dependency) {
+        Map<String, Object> breakers = (Map<String, Object>) registry.getStats().get("circuitBreakers");
+        return (Map<String, Object>) breakers.get(dependency.name());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> timeouts() {
+        return (Map<String, Object>) registry.getStats().get("timeouts");
+    }
+}
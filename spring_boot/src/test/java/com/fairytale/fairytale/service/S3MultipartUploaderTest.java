@@ -0,0 +1,130 @@
+package com.fairytale.fairytale.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * S3 대신 Mockito 스텁(AmazonS3)을 두고 멀티파트 업로드 경로를 검증
+ */
+class S3MultipartUploaderTest {
+
+    private static final long MB = 1024L * 1024L;
+
+    @TempDir
+    Path tempDir;
+
+    private AmazonS3 amazonS3;
+    private ThreadPoolTaskExecutor executor;
+    private S3MultipartUploader uploader;
+    private File file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        amazonS3 = mock(AmazonS3.class);
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+
+        uploader = new S3MultipartUploader(amazonS3, executor);
+        ReflectionTestUtils.setField(uploader, "multipartThresholdMb", 0L); // 항상 멀티파트
+        ReflectionTestUtils.setField(uploader, "partSizeMb", 5L);
+        ReflectionTestUtils.setField(uploader, "partMaxAttempts", 2);
+        ReflectionTestUtils.setField(uploader, "partBackoffMs", 1L);
+
+        file = tempDir.resolve("video.mp4").toFile();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(21 * MB); // 5MB 파트 5개
+        }
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any())).thenReturn(initiated);
+
+        CompleteMultipartUploadResult completed = new CompleteMultipartUploadResult();
+        completed.setETag("etag-1");
+        when(amazonS3.completeMultipartUpload(any())).thenReturn(completed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void uploadsAllPartsAndCompletes() {
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> partResult(invocation.getArgument(0)));
+
+        String eTag = uploader.upload("bucket", "videos/a.mp4", file, new ObjectMetadata());
+
+        assertThat(eTag).isEqualTo("etag-1");
+        verify(amazonS3, times(5)).uploadPart(any());
+        verify(amazonS3, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    void failedPartIsRetriedThenSucceeds() {
+        when(amazonS3.uploadPart(any()))
+                .thenThrow(new AmazonS3Exception("slow down"))
+                .thenAnswer(invocation -> partResult(invocation.getArgument(0)));
+
+        uploader.upload("bucket", "videos/a.mp4", file, new ObjectMetadata());
+
+        verify(amazonS3, times(6)).uploadPart(any());
+        assertThat(uploader.getMetrics().get("partRetries")).isEqualTo(1L);
+    }
+
+    @Test
+    void partFailureAbortsUpload() {
+        when(amazonS3.uploadPart(any())).thenThrow(new AmazonS3Exception("internal error"));
+
+        assertThatThrownBy(() -> uploader.upload("bucket", "videos/a.mp4", file, new ObjectMetadata()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("S3 멀티파트 업로드 실패");
+
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+        assertThat(uploader.getMetrics().get("failedUploads")).isEqualTo(1L);
+    }
+
+    @Test
+    void shutDownExecutorFailsInsteadOfHanging() {
+        executor.shutdown();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () ->
+                assertThatThrownBy(() -> uploader.upload("bucket", "videos/a.mp4", file, new ObjectMetadata()))
+                        .isInstanceOf(RuntimeException.class));
+
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).uploadPart(any());
+    }
+
+    private static UploadPartResult partResult(UploadPartRequest request) {
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag("\"etag-" + request.getPartNumber() + "\""); // MD5 형식이 아니면 대조를 건너뜀
+        return result;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fairytale.fairytale.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class UserStatsServiceTest {
+
+    private UserStatsRepository repository;
+    private UserStatsService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UserStatsRepository.class);
+        service = new UserStatsService(repository);
+    }
+
+    @Test
+    void 증감값은_사용자별로_합쳐서_한번에_반영된다() {
+        service.recordStoryChange(1L, 1);
+        service.recordStoryChange(1L, 1);
+        service.recordSharePostChange(1L, 1, 0);
+        service.recordSharePostChange(1L, -1, 7); // 삭제된 게시물의 좋아요 7개도 빠짐
+        service.recordColoringWorkChange("mom", 1);
+
+        service.flushDirty();
+
+        verify(repository).addCountsByUserId(1L, 2, 0, -7);
+        verify(repository).addColoringWorks("mom", 1);
+        verify(repository).recountImagesByUserId(1L);
+        verify(repository, never()).refreshAll();
+
+        // 반영된 값은 다시 반영되지 않음
+        service.flushDirty();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void 수정은_이미지_통계만_다시_센다() {
+        service.recordStoryChange(1L, 0);
+        service.recordGalleryChange(2L);
+
+        service.flushDirty();
+
+        verify(repository).recountImagesByUserId(1L);
+        verify(repository).recountImagesByUserId(2L);
+        verify(repository, never()).addCountsByUserId(anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void 반영_실패한_증감값은_다음_주기에_다시_반영된다() {
+        when(repository.addCountsByUserId(1L, 1, 0, 0))
+                .thenThrow(new RuntimeException("DB 오류"))
+                .thenReturn(1);
+        service.recordStoryChange(1L, 1);
+        service.flushDirty();
+
+        service.flushDirty();
+
+        verify(repository, times(2)).addCountsByUserId(1L, 1, 0, 0);
+    }
+}
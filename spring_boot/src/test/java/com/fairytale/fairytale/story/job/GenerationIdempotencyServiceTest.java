@@ -0,0 +1,146 @@
+package com.fairytale.fairytale.story.job;
+
+import com.fairytale.fairytale.story.Story;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GenerationIdempotencyServiceTest {
+
+    private GenerationIdempotencyService service;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        service = new GenerationIdempotencyService();
+        ReflectionTestUtils.setField(service, "ttlSeconds", 120L);
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.setField(service, "waitSeconds", 5L);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void 키는_헤더가_있으면_헤더로_없으면_요청_값으로_만든다() {
+        assertThat(GenerationIdempotencyService.key("mom", " abc ", GenerationJob.Type.IMAGE, 1L))
+                .isEqualTo("mom:IMAGE:key:abc");
+        assertThat(GenerationIdempotencyService.key("mom", null, GenerationJob.Type.IMAGE, 1L, null))
+                .isEqualTo("mom:IMAGE:1:");
+    }
+
+    @Test
+    void 진행_중인_같은_키_요청은_실행_결과를_함께_기다린다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Story story = new Story();
+
+        Future<Story> leader = callers.submit(() -> service.execute("k", () -> {
+            runs.incrementAndGet();
+            await(release);
+            return story;
+        }));
+        waitUntil(() -> runs.get() == 1);
+        Future<Story> follower = callers.submit(() -> service.execute("k", () -> {
+            runs.incrementAndGet();
+            return new Story();
+        }));
+        waitUntil(() -> (long) service.getStats().get("joined") == 1);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(story);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(story);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 완료된_결과는_TTL_동안_재사용하고_지나면_다시_실행한다() {
+        Story first = service.execute("k", Story::new);
+
+        assertThat(service.execute("k", Story::new)).isSameAs(first);
+
+        ReflectionTestUtils.setField(service, "ttlSeconds", 0L);
+        assertThat(service.execute("k", Story::new)).isNotSameAs(first);
+    }
+
+    @Test
+    void 실패는_보관하지_않아_재시도하면_다시_실행한다() {
+        assertThatThrownBy(() -> service.execute("k", () -> {
+            throw new RuntimeException("생성 실패");
+        })).hasMessage("생성 실패");
+
+        Story story = new Story();
+        assertThat(service.execute("k", () -> story)).isSameAs(story);
+    }
+
+    @Test
+    void 대표_실행이_Error로_끝나도_기다리던_요청에_전달하고_키를_비운다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        Future<Story> leader = callers.submit(() -> service.execute("k", () -> {
+            runs.incrementAndGet();
+            await(release);
+            throw new OutOfMemoryError("메모리 부족");
+        }));
+        waitUntil(() -> runs.get() == 1);
+        Future<Story> follower = callers.submit(() -> service.execute("k", Story::new));
+        waitUntil(() -> (long) service.getStats().get("joined") == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(OutOfMemoryError.class);
+
+        Story story = new Story();
+        assertThat(service.execute("k", () -> story)).isSameAs(story);
+    }
+
+    @Test
+    void 합류한_요청은_대기_시간을_넘기면_실패하고_대표_실행은_계속한다() throws Exception {
+        ReflectionTestUtils.setField(service, "waitSeconds", 0L);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        Story story = new Story();
+
+        Future<Story> leader = callers.submit(() -> service.execute("k", () -> {
+            runs.incrementAndGet();
+            await(release);
+            return story;
+        }));
+        waitUntil(() -> runs.get() == 1);
+
+        assertThatThrownBy(() -> service.execute("k", Story::new))
+                .hasMessageContaining("대기 시간 초과");
+        assertThat(service.getStats().get("waitTimeouts")).isEqualTo(1L);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(story);
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.fairytale.fairytale.story.job;
+
+import com.fairytale.fairytale.story.Story;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class GenerationJobServiceTest {
+
+    private ThreadPoolTaskExecutor executor;
+    private GenerationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        // 접수만 확인하도록 작업은 실행하지 않음
+        executor = mock(ThreadPoolTaskExecutor.class);
+        service = new GenerationJobService(executor);
+        ReflectionTestUtils.setField(service, "retentionMinutes", 60L);
+        ReflectionTestUtils.setField(service, "idempotencyTtlSeconds", 120L);
+    }
+
+    @Test
+    void 같은_키로_동시에_접수해도_작업은_하나만_만든다() throws Exception {
+        int threads = 8;
+        ExecutorService callers = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<GenerationJob>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return service.submit(GenerationJob.Type.IMAGE, "mom", "mom:IMAGE:1", Story::new);
+                }));
+            }
+            start.countDown();
+
+            String jobId = results.get(0).get(5, TimeUnit.SECONDS).getJobId();
+            for (Future<GenerationJob> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getJobId()).isEqualTo(jobId);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(executor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 키가_없으면_매번_새_작업을_만든다() {
+        GenerationJob first = service.submit(GenerationJob.Type.STORY, "mom", null, Story::new);
+        GenerationJob second = service.submit(GenerationJob.Type.STORY, "mom", null, Story::new);
+
+        assertThat(first.getJobId()).isNotEqualTo(second.getJobId());
+    }
+
+    @Test
+    void 큐가_가득_차_거절되면_키를_비워_다음_요청이_새로_접수된다() {
+        doThrow(new TaskRejectedException("포화")).doNothing().when(executor).execute(any(Runnable.class));
+
+        assertThatThrownBy(() -> service.submit(GenerationJob.Type.IMAGE, "mom", "mom:IMAGE:1", Story::new))
+                .isInstanceOf(TaskRejectedException.class);
+        GenerationJob job = service.submit(GenerationJob.Type.IMAGE, "mom", "mom:IMAGE:1", Story::new);
+
+        assertThat(service.getJob(job.getJobId(), "mom")).isSameAs(job);
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 다른_사용자의_작업은_조회할_수_없다() {
+        GenerationJob job = service.submit(GenerationJob.Type.STORY, "mom", null, Story::new);
+
+        assertThatThrownBy(() -> service.getJob(job.getJobId(), "dad")).hasMessageContaining("작업을 찾을 수 없습니다");
+    }
+}
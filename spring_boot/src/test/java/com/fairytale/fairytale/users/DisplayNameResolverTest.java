@@ -0,0 +1,69 @@
+package com.fairytale.fairytale.users;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class DisplayNameResolverTest {
+
+    private UsersRepository repository;
+    private DisplayNameResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UsersRepository.class);
+        resolver = new DisplayNameResolver(repository, 100, 600);
+    }
+
+    private static List<Object[]> row(String username, String nickname, String babyName) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{username, nickname, babyName});
+        return rows;
+    }
+
+    @Test
+    void 표시명은_아기_이름_닉네임_username_순으로_정한다() {
+        when(repository.findDisplayNameRows(anyCollection()))
+                .thenReturn(row("mom", "엄마", "하늘"))
+                .thenReturn(row("dad", "아빠", null))
+                .thenReturn(row("kid", " ", null));
+
+        assertThat(resolver.resolve("mom")).isEqualTo("하늘의 부모");
+        assertThat(resolver.resolve("dad")).isEqualTo("아빠님");
+        assertThat(resolver.resolve("kid")).isEqualTo("kid님");
+    }
+
+    @Test
+    void 조회_중_다른_사용자_무효화는_캐시_채우기를_막지_않는다() {
+        when(repository.findDisplayNameRows(anyCollection())).thenAnswer(invocation -> {
+            resolver.evict("dad");
+            return row("mom", "엄마", null);
+        });
+
+        assertThat(resolver.resolve("mom")).isEqualTo("엄마님");
+        assertThat(resolver.resolve("mom")).isEqualTo("엄마님");
+
+        verify(repository, times(1)).findDisplayNameRows(anyCollection());
+    }
+
+    @Test
+    void 조회_중_같은_사용자가_무효화되면_오래된_값을_캐시하지_않는다() {
+        when(repository.findDisplayNameRows(anyCollection()))
+                .thenAnswer(invocation -> {
+                    resolver.evict("mom");
+                    return row("mom", "엄마", null);
+                })
+                .thenReturn(row("mom", "엄마", "하늘"));
+
+        assertThat(resolver.resolve("mom")).isEqualTo("엄마님");
+        assertThat(resolver.resolve("mom")).isEqualTo("하늘의 부모");
+
+        verify(repository, times(2)).findDisplayNameRows(anyCollection());
+    }
+}
@@ -0,0 +1,125 @@
+package com.fairytale.fairytale.users;
+
+import com.fairytale.fairytale.baby.Baby;
+import com.fairytale.fairytale.baby.BabyRepository;
+import com.fairytale.fairytale.role.Role;
+import com.fairytale.fairytale.role.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class UserIdentityCacheTest {
+
+    private UsersRepository usersRepository;
+    private BabyRepository babyRepository;
+    private RoleRepository roleRepository;
+    private UserIdentityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        usersRepository = mock(UsersRepository.class);
+        babyRepository = mock(BabyRepository.class);
+        roleRepository = mock(RoleRepository.class);
+        cache = new UserIdentityCache(usersRepository, babyRepository, roleRepository, 100, 1800);
+    }
+
+    private static Users user(long id, String username) {
+        return Users.builder().id(id).username(username).nickname(username).build();
+    }
+
+    @Test
+    void ID만_필요한_조회는_캐시_적중_시_DB를_거치지_않는다() {
+        when(usersRepository.findByUsername("mom")).thenReturn(Optional.of(user(1L, "mom")));
+
+        assertThat(cache.findUserIdByUsername("mom")).contains(1L);
+        assertThat(cache.findUserIdByUsername("mom")).contains(1L);
+
+        verify(usersRepository, times(1)).findByUsername("mom");
+        verify(usersRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    void 엔티티_조회는_매번_DB를_거치고_적중으로_세지_않는다() {
+        Users mom = user(1L, "mom");
+        when(usersRepository.findByUsername("mom")).thenReturn(Optional.of(mom));
+
+        assertThat(cache.findByUsername("mom")).containsSame(mom);
+        assertThat(cache.findByUsername("mom")).containsSame(mom);
+        verify(usersRepository, times(2)).findByUsername("mom");
+
+        // 엔티티 조회가 채운 ID는 ID 조회에서 그대로 쓴다
+        assertThat(cache.findUserIdByUsername("mom")).contains(1L);
+        verify(usersRepository, times(2)).findByUsername("mom");
+        assertThat(stats("usersByUsername")).containsEntry("hits", 1L).containsEntry("misses", 0L);
+    }
+
+    @Test
+    void 조회_중_다른_사용자_무효화는_캐시_채우기를_막지_않는다() {
+        when(usersRepository.findByUsername("mom")).thenAnswer(invocation -> {
+            cache.evictUser("dad");
+            return Optional.of(user(1L, "mom"));
+        });
+
+        cache.findUserIdByUsername("mom");
+        cache.findUserIdByUsername("mom");
+
+        verify(usersRepository, times(1)).findByUsername("mom");
+    }
+
+    @Test
+    void 조회_중_같은_사용자가_무효화되면_캐시하지_않는다() {
+        when(usersRepository.findByUsername("mom")).thenAnswer(invocation -> {
+            cache.evictUser("mom");
+            return Optional.of(user(1L, "mom"));
+        });
+
+        cache.findUserIdByUsername("mom");
+        cache.findUserIdByUsername("mom");
+
+        verify(usersRepository, times(2)).findByUsername("mom");
+    }
+
+    @Test
+    void 아기_없음은_조회_없이_응답하고_있으면_매번_엔티티를_조회한다() {
+        Baby baby = new Baby();
+        baby.setId(10L);
+        when(babyRepository.findByUserId(1L)).thenReturn(baby);
+
+        assertThat(cache.findBabyByUserId(1L)).isSameAs(baby);
+        assertThat(cache.findBabyByUserId(1L)).isSameAs(baby);
+        assertThat(cache.hasBaby(1L)).isTrue();
+        assertThat(cache.findBabyByUserId(2L)).isNull();
+        assertThat(cache.findBabyByUserId(2L)).isNull();
+        assertThat(cache.hasBaby(2L)).isFalse();
+
+        verify(babyRepository, times(2)).findByUserId(1L);
+        verify(babyRepository, times(1)).findByUserId(2L);
+        verify(babyRepository, never()).findById(any());
+        assertThat(stats("babiesByUserId")).containsEntry("hits", 3L).containsEntry("misses", 3L);
+    }
+
+    @Test
+    void 역할은_분리된_스냅샷으로_캐시한다() {
+        Role role = new Role(3L, "USER", null);
+        when(roleRepository.findByRoleName("USER")).thenReturn(Optional.of(role));
+
+        assertThat(cache.findRoleByName("USER")).containsSame(role);
+        Role cached = cache.findRoleByName("USER").orElseThrow();
+
+        assertThat(cached).isNotSameAs(role);
+        assertThat(cached.getId()).isEqualTo(3L);
+        assertThat(cached.getRoleName()).isEqualTo("USER");
+        verify(roleRepository, times(1)).findByRoleName("USER");
+        verify(roleRepository, never()).findById(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> stats(String name) {
+        return (Map<String, Object>) cache.getStats().get(name);
+    }
+}